@@ -0,0 +1,25 @@
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+varying vec2 v_texCoord;
+varying float v_tile;
+varying vec3 v_light;
+
+uniform sampler2D u_diffuseTexture;
+uniform vec2 u_atlasGrid;
+uniform float u_tileInset;
+uniform float u_opacity;
+
+void main() {
+    // Locate the tile in the atlas grid (columns, rows)
+    float tile = floor(v_tile + 0.5);
+    float row = floor((tile + 0.5) / u_atlasGrid.x);
+    float column = tile - row * u_atlasGrid.x;
+
+    // Greedy quads span several blocks; repeat the tile once per block
+    vec2 local = clamp(fract(v_texCoord), u_tileInset, 1.0 - u_tileInset);
+    vec2 uv = (vec2(column, row) + local) / u_atlasGrid;
+
+    gl_FragColor = vec4(texture2D(u_diffuseTexture, uv).rgb * v_light, u_opacity);
+}
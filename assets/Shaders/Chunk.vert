@@ -0,0 +1,48 @@
+// x, y, z and face + 8 * tile; see ChunkMeshData
+attribute vec4 a_packed;
+
+uniform mat4 u_projViewTrans;
+uniform mat4 u_worldTrans;
+uniform vec3 u_ambientLight;
+uniform vec3 u_lightColor;
+uniform vec3 u_lightDirection;
+
+varying vec2 v_texCoord;
+varying float v_tile;
+varying vec3 v_light;
+
+void main() {
+    vec3 position = a_packed.xyz;
+    float face = mod(a_packed.w, 8.0);
+    v_tile = floor(a_packed.w / 8.0);
+
+    // Face order matches Block: right, left, top, bottom, front, back.
+    // Texture coordinates follow the position in the face's plane, so they
+    // advance by one per block like the per-quad extents used to.
+    vec3 normal;
+    if (face < 0.5) {
+        normal = vec3(1.0, 0.0, 0.0);
+        v_texCoord = vec2(position.z, position.y);
+    } else if (face < 1.5) {
+        normal = vec3(-1.0, 0.0, 0.0);
+        v_texCoord = vec2(-position.z, position.y);
+    } else if (face < 2.5) {
+        normal = vec3(0.0, 1.0, 0.0);
+        v_texCoord = vec2(-position.z, position.x);
+    } else if (face < 3.5) {
+        normal = vec3(0.0, -1.0, 0.0);
+        v_texCoord = vec2(position.z, position.x);
+    } else if (face < 4.5) {
+        normal = vec3(0.0, 0.0, 1.0);
+        v_texCoord = vec2(position.x, -position.y);
+    } else {
+        normal = vec3(0.0, 0.0, -1.0);
+        v_texCoord = vec2(-position.x, -position.y);
+    }
+
+    // Chunks are only ever translated, so the normal needs no transform
+    float diffuse = max(0.0, dot(normal, -u_lightDirection));
+    v_light = u_ambientLight + u_lightColor * diffuse;
+
+    gl_Position = u_projViewTrans * u_worldTrans * vec4(position, 1.0);
+}
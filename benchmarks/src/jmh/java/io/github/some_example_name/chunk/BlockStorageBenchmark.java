@@ -0,0 +1,93 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.terrain.Generation;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Level;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retained by generated chunk block data, chunks of palette-compressed
+ * {@link BlockStorage} sections against the plain {@code BlockType[][][]} they replaced.
+ * The score is the time to build the batch; the {@code heapBytesPerChunk}
+ * counter is the number to compare. It is measured from used heap after a
+ * full GC, so run with a single fork and expect a few percent of noise.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockStorageBenchmark {
+    private static final int CHUNKS = 512;
+    private static final int CHUNK_ROW = 32;
+
+    @Param({"PALETTE", "ARRAY"})
+    public String layout;
+
+    private Generation generation;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HeapCounters {
+        public long heapBytesPerChunk;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            heapBytesPerChunk = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        generation = new Generation();
+    }
+
+    @Benchmark
+    public Object[] retainChunks(HeapCounters counters) {
+        Object[] retained = new Object[CHUNKS];
+        long before = usedHeapAfterGc();
+
+        for (int i = 0; i < CHUNKS; i++) {
+            Chunk chunk = new Chunk(i % CHUNK_ROW, i / CHUNK_ROW);
+            generation.fillChunkWithTerrain(chunk, generation.generateHeightMap(chunk.getChunkX(), chunk.getChunkZ(), Chunk.CHUNK_SIZE));
+            retained[i] = "ARRAY".equals(layout) ? toArray(chunk) : chunk;
+        }
+
+        counters.heapBytesPerChunk = (usedHeapAfterGc() - before) / CHUNKS;
+        return retained;
+    }
+
+    private static BlockType[][][] toArray(Chunk chunk) {
+        BlockType[][][] array = new BlockType[Chunk.CHUNK_SIZE][Chunk.CHUNK_HEIGHT][Chunk.CHUNK_SIZE];
+        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+            for (int y = 0; y < Chunk.CHUNK_HEIGHT; y++) {
+                for (int z = 0; z < Chunk.CHUNK_SIZE; z++) {
+                    array[x][y][z] = chunk.getBlock(x, y, z);
+                }
+            }
+        }
+        return array;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.some_example_name.chunk;
+
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up every chunk in a square around the origin, once through the old
+ * {@code ObjectMap<ChunkPosition, Chunk>} with a position allocated per lookup
+ * and once through the packed-key {@code LongMap} the engine uses now.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkLookupBenchmark {
+    @Param({"12", "32", "64"})
+    public int renderDistance;
+
+    private final ObjectMap<ChunkPosition, Chunk> objectMap = new ObjectMap<>();
+    private final LongMap<Chunk> longMap = new LongMap<>();
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        for (int x = -renderDistance; x <= renderDistance; x++) {
+            for (int z = -renderDistance; z <= renderDistance; z++) {
+                Chunk chunk = new Chunk(x, z);
+                objectMap.put(new ChunkPosition(x, z), chunk);
+                longMap.put(ChunkPosition.pack(x, z), chunk);
+            }
+        }
+    }
+
+    @Benchmark
+    public int objectMapLookup() {
+        int found = 0;
+        for (int x = -renderDistance; x <= renderDistance; x++) {
+            for (int z = -renderDistance; z <= renderDistance; z++) {
+                if (objectMap.get(new ChunkPosition(x, z)) != null) found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int longMapLookup() {
+        int found = 0;
+        for (int x = -renderDistance; x <= renderDistance; x++) {
+            for (int z = -renderDistance; z <= renderDistance; z++) {
+                if (longMap.get(ChunkPosition.pack(x, z)) != null) found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU stage of meshing one {@link LodTile} per level. Every level samples
+ * one height per cell corner and emits about the same number of quads, so
+ * the time per tile stays flat while the chunks covered grow fourfold per
+ * level.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LodMeshingBenchmark {
+    @Param({"0", "1", "2", "3"})
+    public int level;
+
+    private LodTile tile;
+    private final ChunkMeshData meshData = new ChunkMeshData();
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        tile = new LodTile(level, 0, 0);
+    }
+
+    @Benchmark
+    public int buildMeshData() {
+        tile.buildMeshData(meshData);
+        int quads = meshData.getQuadCount();
+        meshData.clear();
+        return quads;
+    }
+}
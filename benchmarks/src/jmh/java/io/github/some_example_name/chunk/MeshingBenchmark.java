@@ -0,0 +1,69 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU stage of chunk meshing, the part of {@link Chunk#buildMesh} that runs
+ * on worker threads. Run with the gc profiler (the default in the build) to
+ * check that meshing stays allocation-free once the buffers have grown.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MeshingBenchmark {
+    /** Sample chunks along a line; a mountainous and a flat area of the seed 42 world. */
+    @Param({"0", "60"})
+    public int chunkX;
+
+    @Param({"PER_FACE", "GREEDY"})
+    public MeshingMode mode;
+
+    private Chunk chunk;
+    private final Chunk[] neighbors = new Chunk[6];
+    private final ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        chunk = generate(chunkX, 0);
+        neighbors[Block.RIGHT] = generate(chunkX + 1, 0);
+        neighbors[Block.LEFT] = generate(chunkX - 1, 0);
+        neighbors[Block.FRONT] = generate(chunkX, 1);
+        neighbors[Block.BACK] = generate(chunkX, -1);
+    }
+
+    private static Chunk generate(int x, int z) {
+        Chunk generated = new Chunk(x, z);
+        generated.generateTerrain();
+        return generated;
+    }
+
+    @Benchmark
+    public int buildMeshData() {
+        chunk.buildMeshData(sectionData, neighbors, Chunk.ALL_SECTIONS, mode);
+        int quads = 0;
+        for (ChunkMeshData meshData : sectionData) {
+            if (meshData != null) quads += meshData.getQuadCount();
+        }
+        // Returns the buffers to the pool, so the next call reuses them
+        ChunkMeshData.freeAll(sectionData);
+        return quads;
+    }
+}
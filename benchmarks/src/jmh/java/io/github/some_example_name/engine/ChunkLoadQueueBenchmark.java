@@ -0,0 +1,58 @@
+package io.github.some_example_name.engine;
+
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking the mesh queue again when the camera enters another chunk, with
+ * every chunk within the render distance queued, the worst case right
+ * after a teleport. The camera steps back and forth between two chunks so
+ * no entry is dropped. {@code ChunkLoadQueueTest} checks the order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkLoadQueueBenchmark {
+    @Param({"12", "32", "64"})
+    public int renderDistance;
+
+    private final ChunkStreamer streamer = new ChunkStreamer();
+    private ChunkLoadQueue queue;
+    private int camChunkX;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        queue = new ChunkLoadQueue();
+        for (int x = -renderDistance; x <= renderDistance; x++) {
+            for (int z = -renderDistance; z <= renderDistance; z++) {
+                if (RenderArea.contains(x, z, renderDistance)) {
+                    queue.add(new Chunk(x, z), ChunkStreamer.getPriority(x, z, true));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int reprioritize() {
+        camChunkX ^= 1;
+        queue.reprioritize(camChunkX, 0, renderDistance + 1, streamer);
+        return queue.size();
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.some_example_name.engine;
+
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Soak run of chunk streaming: flies the camera in a straight line across
+ * {@value #FLIGHT_CHUNKS} chunks, generating and meshing every chunk that
+ * comes into range and dropping block data over a small heap budget. The
+ * mesh stage runs on the CPU and applies only mesh metadata, since the
+ * headless backend has no GL context. Reports the time of the whole flight;
+ * {@code ChunkSoakTest} checks that the heap stays bounded.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+@State(Scope.Thread)
+public class ChunkSoakBenchmark {
+    private static final int RENDER_DISTANCE = 4;
+    private static final int FLIGHT_CHUNKS = 10_000;
+    private static final long CHUNK_DATA_BUDGET_BYTES = 16L * 1024 * 1024;
+
+    private VoxelEngine engine;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        engine = new VoxelEngine();
+        engine.init(RENDER_DISTANCE);
+        engine.setChunkDataBudgetBytes(CHUNK_DATA_BUDGET_BYTES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.dispose();
+    }
+
+    @Benchmark
+    public long flyAcross() {
+        for (int camChunkX = 0; camChunkX < FLIGHT_CHUNKS; camChunkX++) {
+            step(camChunkX);
+        }
+        return engine.getChunkDataEvictions();
+    }
+
+    /**
+     * Runs the CPU side of one frame with the camera in the given chunk:
+     * waits for every chunk in range to be generated and meshes the chunks
+     * queued for it.
+     */
+    private void step(int camChunkX) {
+        engine.findVisibleChunks(camChunkX, 0);
+        while (engine.getPendingChunkCount() > 0) {
+            if (engine.drainGeneratedChunks() == 0) Thread.yield();
+        }
+        engine.buildChunkMeshMetadata();
+        engine.unloadDistantChunks(camChunkX, 0);
+    }
+}
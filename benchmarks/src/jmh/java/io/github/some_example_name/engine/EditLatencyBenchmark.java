@@ -0,0 +1,146 @@
+package io.github.some_example_name.engine;
+
+import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkMeshData;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Edit-to-visible latency of {@link VoxelEngine#setBlock}: the edits
+ * themselves plus remeshing every affected section, frame by frame under
+ * the per-frame section budget, until nothing is dirty. GL upload is left
+ * out since the headless backend has no GL context. The {@code frames} and
+ * {@code sectionsRemeshed} counters are those of the last edit: the number
+ * of frames it takes to become fully visible and the sections it remeshed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EditLatencyBenchmark {
+    private static final int WORLD_RADIUS = 3;
+    private static final int BURST_EDITS = 10_000;
+
+    private VoxelEngine engine;
+    /** Offsets of a sphere around the burst center, nearest first, as x, y, z triples. */
+    private int[] burstOffsets;
+    private int surfaceY;
+    private boolean filled;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class EditCounters {
+        public long frames;
+        public long sectionsRemeshed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            frames = 0;
+            sectionsRemeshed = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        engine = new VoxelEngine();
+        engine.init(WORLD_RADIUS);
+
+        for (int x = -WORLD_RADIUS; x <= WORLD_RADIUS; x++) {
+            for (int z = -WORLD_RADIUS; z <= WORLD_RADIUS; z++) {
+                Chunk chunk = new Chunk(x, z);
+                chunk.generateTerrain();
+                // An upload without data marks the chunk as meshed without touching GL
+                chunk.uploadMesh(new ChunkMeshData[Chunk.SECTION_COUNT]);
+                engine.addChunk(chunk);
+            }
+        }
+
+        surfaceY = 0;
+        while (engine.getBlock(0, surfaceY + 1, 0) != BlockType.AIR) surfaceY++;
+        burstOffsets = sphereOffsets(BURST_EDITS);
+    }
+
+    private static int[] sphereOffsets(int count) {
+        int radius = (int) Math.ceil(Math.cbrt(count * 3 / (4 * Math.PI))) + 1;
+        int side = radius * 2 + 1;
+        Integer[] cells = new Integer[side * side * side];
+        for (int i = 0; i < cells.length; i++) cells[i] = i;
+        Arrays.sort(cells, Comparator.comparingInt(cell -> {
+            int dx = cell % side - radius;
+            int dy = cell / side % side - radius;
+            int dz = cell / (side * side) - radius;
+            return dx * dx + dy * dy + dz * dz;
+        }));
+
+        int[] offsets = new int[count * 3];
+        for (int i = 0; i < count; i++) {
+            offsets[i * 3] = cells[i] % side - radius;
+            offsets[i * 3 + 1] = cells[i] / side % side - radius;
+            offsets[i * 3 + 2] = cells[i] / (side * side) - radius;
+        }
+        return offsets;
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.dispose();
+    }
+
+    /**
+     * Places or removes one surface block in the middle of a chunk.
+     */
+    @Benchmark
+    public long singleEdit(EditCounters counters) {
+        filled = !filled;
+        engine.setBlock(8, surfaceY + 1, 8, filled ? BlockType.STONE : BlockType.AIR);
+        return remeshUntilVisible(counters);
+    }
+
+    /**
+     * Fills or clears a sphere of 10,000 blocks centered on a chunk corner,
+     * spanning four chunks and several sections.
+     */
+    @Benchmark
+    public long burstEdit(EditCounters counters) {
+        filled = !filled;
+        BlockType type = filled ? BlockType.STONE : BlockType.AIR;
+        for (int i = 0; i < burstOffsets.length; i += 3) {
+            engine.setBlock(burstOffsets[i], surfaceY + burstOffsets[i + 1], burstOffsets[i + 2], type);
+        }
+        return remeshUntilVisible(counters);
+    }
+
+    private long remeshUntilVisible(EditCounters counters) {
+        long frames = 0;
+        long sections = 0;
+        int meshed;
+        while ((meshed = engine.meshEditedSections(VoxelEngine.EDIT_SECTIONS_PER_FRAME)) > 0) {
+            engine.discardEditedSections();
+            sections += meshed;
+            frames++;
+        }
+        counters.frames = frames;
+        counters.sectionsRemeshed = sections;
+        return frames;
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.some_example_name.engine;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkMeshData;
+import io.github.some_example_name.chunk.ChunkPosition;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render list rebuild with and without occlusion culling for fixed camera
+ * poses in the default seeded world. Chunks are meshed on the CPU and only
+ * their bounds and visibility are applied, since the headless backend has no
+ * GL context. Which sections each mode keeps is checked by
+ * {@code OcclusionCullingTest} for the same poses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OcclusionCullingBenchmark {
+    private static final int RENDER_DISTANCE = 12;
+    /** Block offset from the world center, height above the ground, yaw and pitch in degrees. */
+    private static final float[][] POSES = {
+        {8, 8, 2, 0, 0},
+        {8, 8, 2, 90, -5},
+        {-52, 38, 1.7f, 45, -10},
+        {18, 98, 25, 130, -20},
+        {-92, -92, 60, 45, -30},
+    };
+
+    @Param({"0", "1", "2", "3", "4"})
+    public int pose;
+
+    @Param({"false", "true"})
+    public boolean occlusion;
+
+    private final LongMap<Chunk> chunks = new LongMap<>();
+    private final RenderList renderList = new RenderList();
+    private PerspectiveCamera camera;
+    private int cameraChunkX;
+    private int cameraChunkZ;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        float[] p = POSES[pose];
+        int x = (int) p[0];
+        int z = (int) p[1];
+        cameraChunkX = Math.floorDiv(x, Chunk.CHUNK_SIZE);
+        cameraChunkZ = Math.floorDiv(z, Chunk.CHUNK_SIZE);
+
+        // Generate one more ring so every meshed chunk has its neighbors
+        int loadDistance = RENDER_DISTANCE + 1;
+        for (int cx = -loadDistance; cx <= loadDistance; cx++) {
+            for (int cz = -loadDistance; cz <= loadDistance; cz++) {
+                Chunk chunk = new Chunk(cameraChunkX + cx, cameraChunkZ + cz);
+                chunk.generateTerrain();
+                chunks.put(chunk.getKey(), chunk);
+            }
+        }
+
+        Chunk[] neighbors = new Chunk[6];
+        ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
+        for (Chunk chunk : chunks.values()) {
+            if (Math.abs(chunk.getChunkX() - cameraChunkX) > RENDER_DISTANCE
+                    || Math.abs(chunk.getChunkZ() - cameraChunkZ) > RENDER_DISTANCE) {
+                continue;
+            }
+            neighbors[Block.RIGHT] = chunkAt(chunk.getChunkX() + 1, chunk.getChunkZ());
+            neighbors[Block.LEFT] = chunkAt(chunk.getChunkX() - 1, chunk.getChunkZ());
+            neighbors[Block.FRONT] = chunkAt(chunk.getChunkX(), chunk.getChunkZ() + 1);
+            neighbors[Block.BACK] = chunkAt(chunk.getChunkX(), chunk.getChunkZ() - 1);
+            chunk.buildMeshData(sectionData, neighbors);
+            chunk.uploadMeshMetadata(sectionData, Chunk.ALL_SECTIONS);
+            ChunkMeshData.freeAll(sectionData);
+        }
+
+        int ground = Chunk.CHUNK_HEIGHT - 1;
+        Chunk column = chunkAt(cameraChunkX, cameraChunkZ);
+        int localX = Math.floorMod(x, Chunk.CHUNK_SIZE);
+        int localZ = Math.floorMod(z, Chunk.CHUNK_SIZE);
+        while (ground > 0 && column.getBlock(localX, ground, localZ) == BlockType.AIR) ground--;
+
+        camera = new PerspectiveCamera(70f, 1280, 720);
+        camera.near = 0.1f;
+        camera.far = 300f;
+        camera.position.set(x + 0.5f, ground + 1 + p[2], z + 0.5f);
+        float yaw = (float) Math.toRadians(p[3]);
+        float pitch = (float) Math.toRadians(p[4]);
+        camera.direction.set((float) (Math.cos(pitch) * Math.sin(yaw)), (float) Math.sin(pitch),
+            (float) (Math.cos(pitch) * Math.cos(yaw)));
+        camera.up.set(0, 1, 0);
+        camera.update();
+        renderList.setOcclusionCulling(occlusion);
+    }
+
+    private Chunk chunkAt(int chunkX, int chunkZ) {
+        return chunks.get(ChunkPosition.pack(chunkX, chunkZ));
+    }
+
+    @Benchmark
+    public int rebuild() {
+        renderList.invalidate();
+        renderList.update(camera, chunks, cameraChunkX, cameraChunkZ, RENDER_DISTANCE);
+        return renderList.getSectionCount();
+    }
+}
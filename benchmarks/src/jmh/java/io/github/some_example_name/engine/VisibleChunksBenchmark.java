@@ -0,0 +1,62 @@
+package io.github.some_example_name.engine;
+
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-frame chunk scan of {@link VoxelEngine#findVisibleChunks} with every
+ * chunk in range already loaded, the steady state while the camera stands still.
+ * Chunks hold no terrain; the scan only looks at positions and mesh state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VisibleChunksBenchmark {
+    @Param({"12", "32", "64"})
+    public int renderDistance;
+
+    private VoxelEngine engine;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        engine = new VoxelEngine();
+        engine.init(renderDistance);
+
+        // Include the neighbor ring so no generation is requested during the run
+        int loadDistance = renderDistance + 1;
+        for (int x = -loadDistance; x <= loadDistance; x++) {
+            for (int z = -loadDistance; z <= loadDistance; z++) {
+                engine.addChunk(new Chunk(x, z));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.dispose();
+    }
+
+    @Benchmark
+    public int findVisibleChunks() {
+        engine.findVisibleChunks(0, 0);
+        return engine.getVisibleChunkCount();
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.some_example_name.terrain;
+
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Terrain generation throughput. Scores are columns per second, so
+ * heightmap and block fill results can be compared directly.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GenerationBenchmark {
+    private static final int COLUMNS = Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE;
+    /** Chunks cycled through so consecutive calls do not sample the same noise cells. */
+    private static final int CHUNK_ROW = 64;
+
+    private Generation generation;
+    private Chunk chunk;
+    private int[][] heightMap;
+    private int chunkIndex;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        generation = new Generation();
+        chunk = new Chunk(0, 0);
+        heightMap = generation.generateHeightMap(0, 0, Chunk.CHUNK_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMNS)
+    public int[][] heightMap() {
+        int index = chunkIndex++;
+        return generation.generateHeightMap(index % CHUNK_ROW, index / CHUNK_ROW % CHUNK_ROW, Chunk.CHUNK_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMNS)
+    public Chunk fillChunk() {
+        generation.fillChunkWithTerrain(chunk, heightMap);
+        return chunk;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMNS)
+    public Chunk generateChunk() {
+        int index = chunkIndex++;
+        int[][] heights = generation.generateHeightMap(index % CHUNK_ROW, index / CHUNK_ROW % CHUNK_ROW, Chunk.CHUNK_SIZE);
+        generation.fillChunkWithTerrain(chunk, heights);
+        return chunk;
+    }
+}
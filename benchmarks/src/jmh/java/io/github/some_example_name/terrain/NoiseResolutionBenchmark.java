@@ -0,0 +1,58 @@
+package io.github.some_example_name.terrain;
+
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heightmap throughput with the biome and lake noise evaluated exactly or
+ * interpolated from cached coarse samples. Chunks are visited row by row
+ * without repeating, like terrain streaming in, so every chunk needs one
+ * new tile of noise. Scores are columns per second; {@code NoiseResolutionTest}
+ * bounds the height error of the coarse resolution.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NoiseResolutionBenchmark {
+    private static final int COLUMNS = Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE;
+    private static final int CHUNK_ROW = 256;
+    private static final int SEED = 42;
+
+    @Param({"EXACT", "COARSE"})
+    public NoiseResolution resolution;
+
+    private Generation generation;
+    private final int[] heights = new int[COLUMNS];
+    private int chunkIndex;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        generation = new Generation(SEED, resolution);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMNS)
+    public int[] heightMap() {
+        int index = chunkIndex++;
+        generation.generateHeights(index % CHUNK_ROW, index / CHUNK_ROW, Chunk.CHUNK_SIZE, heights);
+        return heights;
+    }
+}
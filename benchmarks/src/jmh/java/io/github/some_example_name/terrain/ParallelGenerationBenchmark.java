@@ -0,0 +1,74 @@
+package io.github.some_example_name.terrain;
+
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Chunk generation spread over a fork-join pool, as {@code ChunkGenerator}
+ * runs it. Scores are chunks per second; {@code ParallelGenerationTest}
+ * checks that the output matches serial generation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelGenerationBenchmark {
+    private static final int WORLD_SIZE = 16;
+    private static final int WORLD_CHUNKS = WORLD_SIZE * WORLD_SIZE;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private Chunk[] chunks;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        pool = new ForkJoinPool(threads);
+        chunks = createWorld();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WORLD_CHUNKS)
+    public Chunk[] generateWorld() {
+        generateAll();
+        return chunks;
+    }
+
+    private static Chunk[] createWorld() {
+        Chunk[] world = new Chunk[WORLD_CHUNKS];
+        for (int i = 0; i < WORLD_CHUNKS; i++) {
+            world[i] = new Chunk(i % WORLD_SIZE - WORLD_SIZE / 2, i / WORLD_SIZE - WORLD_SIZE / 2);
+        }
+        return world;
+    }
+
+    private void generateAll() {
+        pool.submit(() -> IntStream.range(0, WORLD_CHUNKS).parallel().forEach(i -> chunks[i].generateTerrain())).join();
+    }
+}
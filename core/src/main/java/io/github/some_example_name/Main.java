@@ -2,17 +2,30 @@ package io.github.some_example_name;
 
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g3d.Environment;
 import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
 import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.TimeUtils;
 
+import io.github.some_example_name.block.BlockAtlas;
 import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.chunk.ChunkShaderProvider;
+import io.github.some_example_name.debug.FrameProfiler;
+import io.github.some_example_name.debug.FrameTimer;
+import io.github.some_example_name.engine.ChunkMeshCache;
+import io.github.some_example_name.engine.LodSettings;
 import io.github.some_example_name.engine.VoxelEngine;
 import io.github.some_example_name.player.Camera;
 import io.github.some_example_name.ui.FpsCounter;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Main application class for the voxel-based game.
  */
@@ -20,24 +33,40 @@ public class Main extends ApplicationAdapter {
     private ModelBatch modelBatch;
     private Environment environment;
     private VoxelEngine voxelEngine;
+    private long createStartTime;
+    private boolean firstFrameRendered;
 
-    private static final int WORLD_SIZE = 128;
     private static final int RENDER_DISTANCE = 12;
+    /** Outer radii in chunks of the 2x, 4x and 8x LOD rings. */
+    private static final LodSettings LOD_SETTINGS = new LodSettings(24, 40, 64);
+    /** CPU-side copies of evicted chunk meshes, re-uploaded without remeshing when the camera turns back. */
+    private static final long RETAINED_MESH_BYTES = 64L * 1024 * 1024;
+    private static final String WORLD_DIRECTORY = "world";
+    private static final String PROFILE_DIRECTORY = "profiles";
+    private static final int EXPORT_PROFILE_KEY = Input.Keys.F9;
+    private static final int RENDER_DISTANCE_DOWN_KEY = Input.Keys.MINUS;
+    private static final int RENDER_DISTANCE_UP_KEY = Input.Keys.EQUALS;
+    private static final int MIN_RENDER_DISTANCE = 2;
     private static final float SKY_COLOR_R = 0.4f;
     private static final float SKY_COLOR_G = 0.6f;
     private static final float SKY_COLOR_B = 0.9f;
 
     @Override
     public void create() {
+        createStartTime = TimeUtils.nanoTime();
         Camera.getInstance().init();
         Gdx.graphics.setVSync(true);
         Gdx.graphics.setForegroundFPS(Integer.MAX_VALUE);
 
-        modelBatch = new ModelBatch();
+        BlockAtlas.getInstance().init();
+        // The engine submits chunks already sorted, see RenderList; keep that order
+        modelBatch = new ModelBatch(new ChunkShaderProvider(), (camera, renderables) -> { });
         voxelEngine = new VoxelEngine();
 
         setupEnvironment();
-        voxelEngine.init(WORLD_SIZE, RENDER_DISTANCE);
+        voxelEngine.init(RENDER_DISTANCE, Gdx.files.local(WORLD_DIRECTORY).file().toPath(), LOD_SETTINGS);
+        Camera.getInstance().setFarPlane(voxelEngine.getDrawDistance());
+        voxelEngine.getMeshCache().setRetainedBudgetBytes(RETAINED_MESH_BYTES);
         FpsCounter.getInstance().init();
     }
 
@@ -51,15 +80,59 @@ public class Main extends ApplicationAdapter {
     public void render() {
         float deltaTime = Gdx.graphics.getDeltaTime();
         Camera camera = Camera.getInstance();
+        FrameProfiler profiler = FrameProfiler.getInstance();
 
+        long start = profiler.start();
         camera.handleCameraMovement();
+        profiler.stop(FrameTimer.CAMERA_MOVEMENT, start);
         clearScreen();
 
         camera.startFrame(modelBatch);
         voxelEngine.render(modelBatch, environment);
         camera.endFrame(modelBatch);
 
+        FpsCounter.getInstance().setWorldStats(voxelEngine.getRenderedSectionCount(), voxelEngine.getCullTimeNanos());
+        ChunkMeshCache meshCache = voxelEngine.getMeshCache();
+        FpsCounter.getInstance().setMeshStats(meshCache.getResidentBytes(), meshCache.getBudgetBytes(),
+            meshCache.getResidentHits() + meshCache.getRetainedHits(), meshCache.getMisses());
+        FpsCounter.getInstance().setChunkStats(voxelEngine.getLoadedChunkCount(), voxelEngine.getChunkDataBytes(),
+            voxelEngine.getChunkDataBudgetBytes(), voxelEngine.getChunkDataEvictions());
         FpsCounter.getInstance().render(deltaTime);
+        profiler.endFrame();
+        if (Gdx.input.isKeyJustPressed(EXPORT_PROFILE_KEY)) exportProfile();
+        handleRenderDistanceKeys();
+
+        if (!firstFrameRendered) {
+            firstFrameRendered = true;
+            Gdx.app.log("Main", "Time to first frame: " + TimeUtils.timeSinceNanos(createStartTime) / 1_000_000 + " ms");
+        }
+    }
+
+    private void handleRenderDistanceKeys() {
+        int renderDistance = voxelEngine.getRenderDistance();
+        if (Gdx.input.isKeyJustPressed(RENDER_DISTANCE_DOWN_KEY)) renderDistance--;
+        if (Gdx.input.isKeyJustPressed(RENDER_DISTANCE_UP_KEY)) renderDistance++;
+
+        // Full-detail chunks have to stay inside the first LOD ring
+        renderDistance = MathUtils.clamp(renderDistance, MIN_RENDER_DISTANCE, LOD_SETTINGS.getRingRadius(1) - 1);
+        if (renderDistance != voxelEngine.getRenderDistance()) voxelEngine.setRenderDistance(renderDistance);
+    }
+
+    /**
+     * Writes the recorded frame history as CSV and JSON files named after
+     * the current time.
+     */
+    private void exportProfile() {
+        String name = "frames-" + TimeUtils.millis();
+        FileHandle csv = Gdx.files.local(PROFILE_DIRECTORY).child(name + ".csv");
+        FileHandle json = Gdx.files.local(PROFILE_DIRECTORY).child(name + ".json");
+        try (Writer csvWriter = csv.writer(false); Writer jsonWriter = json.writer(false)) {
+            FrameProfiler.getInstance().writeCsv(csvWriter);
+            FrameProfiler.getInstance().writeJson(jsonWriter);
+            Gdx.app.log("Main", "Frame profile written to " + csv.path() + " and " + json.path());
+        } catch (IOException e) {
+            Gdx.app.error("Main", "Cannot write frame profile", e);
+        }
     }
 
     private void clearScreen() {
@@ -78,6 +151,7 @@ public class Main extends ApplicationAdapter {
         if (voxelEngine != null) voxelEngine.dispose();
         if (modelBatch != null) modelBatch.dispose();
         BlockType.dispose();
+        BlockAtlas.getInstance().dispose();
         FpsCounter.getInstance().dispose();
     }
 }
@@ -0,0 +1,104 @@
+package io.github.some_example_name.block;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Packs every block texture into a single texture at startup, so all chunk
+ * geometry can share one material and be drawn without texture switches.
+ * Translucent block types use a second, blended material over the same texture.
+ * Each block type occupies one square tile, see {@link BlockType#getAtlasTile()}.
+ * Implemented as a singleton; {@link #init()} must run on the render thread.
+ */
+public class BlockAtlas implements Disposable {
+    /** Material id used to pick the chunk shader, see {@code ChunkShader}. */
+    public static final String MATERIAL_ID = "blockAtlas";
+    /** Material id of the blended variant for translucent blocks. */
+    public static final String TRANSLUCENT_MATERIAL_ID = "blockAtlasTranslucent";
+    public static final float TRANSLUCENT_OPACITY = 0.7f;
+    public static final int TILE_SIZE = 256;
+
+    private static final BlockAtlas INSTANCE = new BlockAtlas();
+
+    private Texture texture;
+    private Material material;
+    private Material translucentMaterial;
+    private int columns;
+    private int rows;
+
+    private BlockAtlas() {
+    }
+
+    public static BlockAtlas getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Loads all block textures, scales them to {@link #TILE_SIZE} and packs
+     * them into the atlas texture.
+     */
+    public void init() {
+        if (texture != null) return;
+
+        int tiles = BlockType.values().length - 1;
+        columns = MathUtils.nextPowerOfTwo((int) Math.ceil(Math.sqrt(tiles)));
+        rows = MathUtils.nextPowerOfTwo((tiles + columns - 1) / columns);
+
+        Pixmap atlas = new Pixmap(columns * TILE_SIZE, rows * TILE_SIZE, Pixmap.Format.RGBA8888);
+        atlas.setBlending(Pixmap.Blending.None);
+        atlas.setFilter(Pixmap.Filter.BiLinear);
+
+        for (BlockType type : BlockType.values()) {
+            int tile = type.getAtlasTile();
+            if (tile < 0) continue;
+
+            Pixmap source = new Pixmap(Gdx.files.internal(type.getTexturePath()));
+            atlas.drawPixmap(source, 0, 0, source.getWidth(), source.getHeight(),
+                (tile % columns) * TILE_SIZE, (tile / columns) * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+            source.dispose();
+        }
+
+        texture = new Texture(atlas);
+        // Tiles are repeated in the shader; linear filtering would bleed across tile borders
+        texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        texture.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
+        atlas.dispose();
+
+        material = new Material(MATERIAL_ID, TextureAttribute.createDiffuse(texture));
+        translucentMaterial = new Material(TRANSLUCENT_MATERIAL_ID, TextureAttribute.createDiffuse(texture),
+            new BlendingAttribute(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, TRANSLUCENT_OPACITY));
+    }
+
+    public Material getMaterial() {
+        return material;
+    }
+
+    public Material getTranslucentMaterial() {
+        return translucentMaterial;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public void dispose() {
+        if (texture != null) {
+            texture.dispose();
+            texture = null;
+            material = null;
+            translucentMaterial = null;
+        }
+    }
+}
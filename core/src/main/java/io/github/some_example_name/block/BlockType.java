@@ -9,20 +9,26 @@ import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
  */
 public enum BlockType {
     AIR(null, false),
-    STONE("Blocks/Stone.jpg", true),
+    STONE("Blocks/Stone.png", true),
     COBBLESTONE("Blocks/Cobblestone.jpg", true),
     DIRT("Blocks/Dirt.jpg", true),
     GRASS("Blocks/Grass.jpg", true),
     SAND("Blocks/Sand.jpg", true),
-    WATER("Blocks/Water.jpg", false);
+    WATER("Blocks/Water.jpg", false, true);
 
     private final boolean isSolid;
+    private final boolean isTranslucent;
     private final String texturePath;
     private Material material;
     private Texture texture;
 
     BlockType(String texturePath, boolean isSolid) {
+        this(texturePath, isSolid, false);
+    }
+
+    BlockType(String texturePath, boolean isSolid, boolean isTranslucent) {
         this.isSolid = isSolid;
+        this.isTranslucent = isTranslucent;
         this.texturePath = texturePath;
     }
 
@@ -30,6 +36,31 @@ public enum BlockType {
         return isSolid;
     }
 
+    /**
+     * Checks whether blocks behind this type show through it. Translucent
+     * blocks are meshed into a separate, blended layer and do not hide the
+     * faces of other block types.
+     *
+     * @return True for see-through block types such as water
+     */
+    public boolean isTranslucent() {
+        return isTranslucent;
+    }
+
+    public String getTexturePath() {
+        return texturePath;
+    }
+
+    /**
+     * Gets the tile this type occupies in the {@link BlockAtlas}.
+     * Tiles follow declaration order, skipping AIR.
+     *
+     * @return The atlas tile index, or -1 for AIR
+     */
+    public int getAtlasTile() {
+        return ordinal() - 1;
+    }
+
     public Material getMaterial() {
         if (this == AIR) return null;
 
@@ -43,7 +74,11 @@ public enum BlockType {
 
     public Texture getTexture() {
         if (texturePath == null) return null;
-        if (texture == null) texture = new Texture(texturePath);
+        if (texture == null) {
+            texture = new Texture(texturePath);
+            // Greedy-meshed quads carry UVs in block units, so the texture must repeat
+            texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
+        }
         return texture;
     }
 
@@ -0,0 +1,254 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.BlockType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Flat, palette-compressed storage for the blocks of a chunk.
+ * Every voxel holds an index into a small per-storage palette, packed into a
+ * long array at 1, 2, 4 or 8 bits per voxel depending on how many distinct
+ * block types are present. A storage that holds a single type keeps no index
+ * data at all. Not thread-safe; concurrent readers must not overlap writers.
+ */
+public class BlockStorage {
+    private static final int MAX_BITS_PER_ENTRY = 8;
+    private static final int MAX_PALETTE_SIZE = 1 << MAX_BITS_PER_ENTRY;
+    private static final int INITIAL_PALETTE_CAPACITY = 4;
+    private static final int LONG_BITS_SHIFT = 6;
+
+    private final int width;
+    private final int height;
+    private final int depth;
+    private final int volume;
+
+    private BlockType[] palette;
+    private int paletteSize;
+    private int bitsPerEntry;
+    private int bitsShift;
+    private long[] data;
+
+    public BlockStorage(int width, int height, int depth) {
+        this.width = width;
+        this.height = height;
+        this.depth = depth;
+        this.volume = width * height * depth;
+        this.palette = new BlockType[INITIAL_PALETTE_CAPACITY];
+        reset(BlockType.AIR);
+    }
+
+    /**
+     * Gets the block type at the specified local coordinates.
+     *
+     * @param x X coordinate inside the storage
+     * @param y Y coordinate inside the storage
+     * @param z Z coordinate inside the storage
+     * @return The block type stored at that position
+     */
+    public BlockType get(int x, int y, int z) {
+        if (bitsPerEntry == 0) return palette[0];
+        return palette[read(data, index(x, y, z))];
+    }
+
+    /**
+     * Sets the block type at the specified local coordinates, growing the
+     * palette and bit width when a new type is introduced.
+     *
+     * @param x X coordinate inside the storage
+     * @param y Y coordinate inside the storage
+     * @param z Z coordinate inside the storage
+     * @param type The block type to store
+     */
+    public void set(int x, int y, int z, BlockType type) {
+        int paletteIndex = indexOf(type);
+        if (paletteIndex < 0) {
+            paletteIndex = addToPalette(type);
+        }
+        if (bitsPerEntry == 0) return;
+
+        write(data, index(x, y, z), paletteIndex);
+    }
+
+    /**
+     * Resets every voxel to a single block type and drops the index data.
+     *
+     * @param type The block type to fill the storage with
+     */
+    public void fill(BlockType type) {
+        reset(type);
+    }
+
+    private void reset(BlockType type) {
+        palette[0] = type;
+        for (int i = 1; i < paletteSize; i++) palette[i] = null;
+        paletteSize = 1;
+        bitsPerEntry = 0;
+        bitsShift = 0;
+        data = null;
+    }
+
+    public boolean isUniform() {
+        return bitsPerEntry == 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getPaletteSize() {
+        return paletteSize;
+    }
+
+    public int getBitsPerEntry() {
+        return bitsPerEntry;
+    }
+
+    /**
+     * Estimates the heap retained by this storage, including object headers.
+     *
+     * @return Approximate size in bytes
+     */
+    public long getSizeInBytes() {
+        long size = 48 + 16 + 8L * palette.length;
+        if (data != null) size += 16 + 8L * data.length;
+        return size;
+    }
+
+    /**
+     * Gets the number of bytes {@link #writeTo} produces for the current content.
+     *
+     * @return Encoded size in bytes
+     */
+    public int getEncodedSize() {
+        int size = 1 + 2 + paletteSize;
+        if (data != null) size += Long.BYTES * data.length;
+        return size;
+    }
+
+    /**
+     * Writes the palette and packed index data: bits per entry (1 byte),
+     * palette size (2 bytes), one block type ordinal per palette entry
+     * (1 byte each), then the index words. Dimensions are not included.
+     *
+     * @param out Buffer with at least {@link #getEncodedSize()} bytes remaining
+     */
+    public void writeTo(ByteBuffer out) {
+        out.put((byte) bitsPerEntry);
+        out.putShort((short) paletteSize);
+        for (int i = 0; i < paletteSize; i++) {
+            out.put((byte) palette[i].ordinal());
+        }
+        if (data != null) {
+            for (long word : data) out.putLong(word);
+        }
+    }
+
+    /**
+     * Replaces the content with data written by {@link #writeTo} for a
+     * storage of the same dimensions.
+     *
+     * @param in Buffer positioned at the encoded data
+     * @throws IllegalArgumentException If the data is malformed
+     */
+    public void readFrom(ByteBuffer in) {
+        int encodedBits = in.get();
+        int encodedPaletteSize = in.getShort() & 0xFFFF;
+        if (encodedPaletteSize < 1 || encodedPaletteSize > MAX_PALETTE_SIZE
+            || encodedPaletteSize > (1 << encodedBits) || Integer.bitCount(encodedBits) > 1 || encodedBits > MAX_BITS_PER_ENTRY) {
+            throw new IllegalArgumentException("Malformed block data: " + encodedBits + " bits, palette of " + encodedPaletteSize);
+        }
+
+        BlockType[] types = BlockType.values();
+        BlockType[] decodedPalette = new BlockType[Math.max(INITIAL_PALETTE_CAPACITY, encodedPaletteSize)];
+        for (int i = 0; i < encodedPaletteSize; i++) {
+            int ordinal = in.get() & 0xFF;
+            if (ordinal >= types.length) {
+                throw new IllegalArgumentException("Unknown block type ordinal " + ordinal);
+            }
+            decodedPalette[i] = types[ordinal];
+        }
+
+        long[] decodedData = null;
+        if (encodedBits > 0) {
+            decodedData = new long[(volume * encodedBits + Long.SIZE - 1) / Long.SIZE];
+            for (int i = 0; i < decodedData.length; i++) decodedData[i] = in.getLong();
+        }
+
+        palette = decodedPalette;
+        paletteSize = encodedPaletteSize;
+        bitsPerEntry = encodedBits;
+        bitsShift = encodedBits == 0 ? 0 : Integer.numberOfTrailingZeros(encodedBits);
+        data = decodedData;
+    }
+
+    private int index(int x, int y, int z) {
+        return (y * depth + z) * width + x;
+    }
+
+    private int indexOf(BlockType type) {
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i] == type) return i;
+        }
+        return -1;
+    }
+
+    private int addToPalette(BlockType type) {
+        if (paletteSize == MAX_PALETTE_SIZE) {
+            throw new IllegalStateException("Block palette is full (" + MAX_PALETTE_SIZE + " types)");
+        }
+        if (paletteSize == palette.length) {
+            BlockType[] grown = new BlockType[Math.min(palette.length * 2, MAX_PALETTE_SIZE)];
+            System.arraycopy(palette, 0, grown, 0, paletteSize);
+            palette = grown;
+        }
+
+        int paletteIndex = paletteSize++;
+        palette[paletteIndex] = type;
+
+        if (paletteSize > (1 << bitsPerEntry)) {
+            resize(bitsPerEntry == 0 ? 1 : bitsPerEntry << 1);
+        }
+        return paletteIndex;
+    }
+
+    private void resize(int newBitsPerEntry) {
+        long[] oldData = data;
+        int oldBitsPerEntry = bitsPerEntry;
+
+        bitsPerEntry = newBitsPerEntry;
+        bitsShift = Integer.numberOfTrailingZeros(newBitsPerEntry);
+        data = new long[(volume * newBitsPerEntry + Long.SIZE - 1) / Long.SIZE];
+
+        // A uniform storage has every voxel at palette index 0, which is already all zero bits
+        if (oldBitsPerEntry == 0) return;
+
+        int oldShift = Integer.numberOfTrailingZeros(oldBitsPerEntry);
+        long oldMask = (1L << oldBitsPerEntry) - 1;
+        for (int i = 0; i < volume; i++) {
+            int word = i >>> (LONG_BITS_SHIFT - oldShift);
+            int offset = (i << oldShift) & (Long.SIZE - 1);
+            write(data, i, (int) ((oldData[word] >>> offset) & oldMask));
+        }
+    }
+
+    private int read(long[] words, int index) {
+        int word = index >>> (LONG_BITS_SHIFT - bitsShift);
+        int offset = (index << bitsShift) & (Long.SIZE - 1);
+        return (int) ((words[word] >>> offset) & ((1L << bitsPerEntry) - 1));
+    }
+
+    private void write(long[] words, int index, int value) {
+        int word = index >>> (LONG_BITS_SHIFT - bitsShift);
+        int offset = (index << bitsShift) & (Long.SIZE - 1);
+        long mask = ((1L << bitsPerEntry) - 1) << offset;
+        words[word] = (words[word] & ~mask) | ((long) value << offset);
+    }
+}
@@ -1,230 +1,548 @@
 package io.github.some_example_name.chunk;
 
+import com.badlogic.gdx.graphics.g3d.Material;
 import com.badlogic.gdx.graphics.g3d.Model;
-import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
-import com.badlogic.gdx.graphics.g3d.Environment;
 import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
-import com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
-import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockAtlas;
 import io.github.some_example_name.block.BlockType;
 import io.github.some_example_name.terrain.Generation;
-import io.github.some_example_name.player.Camera;
-import java.util.HashMap;
-import java.util.Map;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * Represents a chunk of the voxel world.
+ * Represents a chunk of the voxel world: a column of {@link ChunkSection}s,
+ * each meshed, bounded and culled on its own. Sections that contain only
+ * AIR are not allocated, so the height of the world costs memory and
+ * meshing time only where there are blocks.
  */
 public class Chunk implements Disposable {
     public static final int CHUNK_SIZE = 16;
-    public static final int CHUNK_HEIGHT = 50;
-
-    private static final int VERTEX_ATTRIBUTES = VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal | VertexAttributes.Usage.TextureCoordinates;
-    private static final Generation terrainGenerator = new Generation();
+    public static final int CHUNK_HEIGHT = 256;
+    public static final int SECTION_COUNT = CHUNK_HEIGHT / ChunkSection.SIZE;
+    /** Section mask selecting every section, {@code 1 << index} per section. */
+    public static final int ALL_SECTIONS = (1 << SECTION_COUNT) - 1;
+
+    private static final VertexAttributes VERTEX_ATTRIBUTES = new VertexAttributes(
+        new VertexAttribute(VertexAttributes.Usage.Generic, 4, GL20.GL_UNSIGNED_SHORT, false, ChunkShader.PACKED_ATTRIBUTE));
+    /** Shared with {@link LodTile}, so distant tiles are built from the same heights. */
+    static final Generation terrainGenerator = new Generation();
+    private static final ThreadLocal<GreedyMesher> greedyMesher = ThreadLocal.withInitial(GreedyMesher::new);
+    private static final ThreadLocal<ChunkNeighborhood> neighborhood = ThreadLocal.withInitial(ChunkNeighborhood::new);
+    private static final ThreadLocal<SectionVisibility> sectionVisibility = ThreadLocal.withInitial(SectionVisibility::new);
+    /** Scratch for mesh uploads, which only happen on the render thread. */
+    private static final BoundingBox uploadBounds = new BoundingBox();
+    private static final Matrix4 uploadTransform = new Matrix4();
+    /** Rough heap size of a chunk without sections: object, section array, lock and bounds. */
+    private static final long CHUNK_OVERHEAD_BYTES = 320;
+    /** Rough heap size of a section without its block storage: object, bounds and mesh fields. */
+    private static final long SECTION_OVERHEAD_BYTES = 160;
+    /** Default for builds that do not name a mode; written on the render thread, read by whoever builds. */
+    private static volatile MeshingMode meshingMode = MeshingMode.GREEDY;
 
     private final int chunkX;
     private final int chunkZ;
-    private final BlockType[][][] blocks;
-    private final BoundingBox boundingBox;
+    private final ChunkSection[] sections = new ChunkSection[SECTION_COUNT];
+    /** Held for writing by block edits and for reading while meshing copies blocks out. */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
-    private ModelInstance chunkModel;
     private boolean hasMesh = false;
+    private boolean meshDirty = false;
+    private boolean dirty = false;
+    private boolean edited = false;
+    private int meshNeighborMask;
+    private int dirtySections;
 
     public Chunk(int chunkX, int chunkZ) {
         this.chunkX = chunkX;
         this.chunkZ = chunkZ;
-        this.blocks = new BlockType[CHUNK_SIZE][CHUNK_HEIGHT][CHUNK_SIZE];
-        this.boundingBox = new BoundingBox();
     }
 
     public Chunk(ChunkPosition position) {
         this(position.x, position.z);
     }
 
+    /**
+     * Fills the chunk with generated terrain. Safe to run for different
+     * chunks on several threads at once; see {@link Generation}.
+     */
     public void generateTerrain() {
-        int[][] heightMap = terrainGenerator.generateHeightMap(chunkX, chunkZ, CHUNK_SIZE);
-        terrainGenerator.fillChunkWithTerrain(blocks, heightMap, CHUNK_HEIGHT);
+        terrainGenerator.generateTerrain(this);
     }
 
-    public void buildMesh() {
-        ModelBuilder modelBuilder = new ModelBuilder();
-        modelBuilder.begin();
+    /**
+     * Builds and uploads the mesh synchronously. Must run on the render thread.
+     *
+     * @param neighbors Neighbor chunks indexed by {@link Block} face constant; may be null
+     */
+    public void buildMesh(Chunk[] neighbors) {
+        ChunkMeshData[] sectionData = new ChunkMeshData[SECTION_COUNT];
+        buildMeshData(sectionData, neighbors);
+        uploadMesh(sectionData);
+        ChunkMeshData.freeAll(sectionData);
+    }
+
+    /**
+     * Runs the CPU stage of meshing for every section with the default
+     * {@link #getMeshingMode() meshing mode}. Touches no GL state and may be
+     * called from a worker thread as long as neither this chunk nor its
+     * neighbors are being modified. Faces against a missing neighbor are kept.
+     *
+     * @param sectionData Receives pooled mesh data per section, or null for sections with nothing to draw
+     * @param neighbors Neighbor chunks indexed by {@link Block} face constant; may be null or contain nulls
+     */
+    public void buildMeshData(ChunkMeshData[] sectionData, Chunk[] neighbors) {
+        buildMeshData(sectionData, neighbors, ALL_SECTIONS, meshingMode);
+    }
 
-        Map<BlockType, MeshPartBuilder> meshBuilders = new HashMap<>();
-        buildBlockMeshes(modelBuilder, meshBuilders);
+    /**
+     * Runs the CPU stage of meshing for the selected sections with the
+     * default {@link #getMeshingMode() meshing mode}. Entries of unselected
+     * sections are set to null.
+     *
+     * @param sectionData Receives pooled mesh data per section, or null for sections with nothing to draw
+     * @param neighbors Neighbor chunks indexed by {@link Block} face constant; may be null or contain nulls
+     * @param sectionMask The sections to mesh, {@code 1 << index}
+     */
+    public void buildMeshData(ChunkMeshData[] sectionData, Chunk[] neighbors, int sectionMask) {
+        buildMeshData(sectionData, neighbors, sectionMask, meshingMode);
+    }
 
-        if (meshBuilders.isEmpty()) {
-            hasMesh = false;
-            return;
+    /**
+     * Runs the CPU stage of meshing for the selected sections. Entries of
+     * unselected sections are set to null. Worker threads should be handed
+     * the mode chosen when the work was queued rather than read the default.
+     *
+     * @param sectionData Receives pooled mesh data per section, or null for sections with nothing to draw
+     * @param neighbors Neighbor chunks indexed by {@link Block} face constant; may be null or contain nulls
+     * @param sectionMask The sections to mesh, {@code 1 << index}
+     * @param mode The mesher to use
+     */
+    public void buildMeshData(ChunkMeshData[] sectionData, Chunk[] neighbors, int sectionMask, MeshingMode mode) {
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            if ((sectionMask & (1 << i)) == 0 || !isSectionMeshable(i, neighbors)) {
+                sectionData[i] = null;
+                continue;
+            }
+            ChunkMeshData meshData = ChunkMeshData.obtain();
+            buildSectionMeshData(i, meshData, neighbors, mode);
+            sectionData[i] = meshData;
+        }
+    }
+
+    /**
+     * Checks whether a section can have visible faces. Empty sections have
+     * none, and neither do full sections enclosed by full sections on all six
+     * sides, so both skip meshing entirely. Full means opaque throughout, see
+     * {@link ChunkSection#isFull()}; a section next to WATER keeps its faces.
+     *
+     * @param index The section index, 0 at the bottom
+     * @param neighbors Neighbor chunks indexed by {@link Block} face constant; may be null or contain nulls
+     * @return True if the section has to be meshed
+     */
+    public boolean isSectionMeshable(int index, Chunk[] neighbors) {
+        ChunkSection section = sections[index];
+        if (section == null || section.isEmpty()) return false;
+        if (!section.isFull()) return true;
+
+        boolean buried = isSectionFull(this, index - 1) && isSectionFull(this, index + 1);
+        for (int face = Block.RIGHT; buried && face <= Block.BACK; face++) {
+            if (face == Block.TOP || face == Block.BOTTOM) continue;
+            buried = neighbors != null && isSectionFull(neighbors[face], index);
         }
+        return !buried;
+    }
 
-        createModelInstance(modelBuilder);
-        hasMesh = true;
+    private static boolean isSectionFull(Chunk chunk, int index) {
+        if (chunk == null || index < 0 || index >= SECTION_COUNT) return false;
+        ChunkSection section = chunk.sections[index];
+        return section != null && section.isFull();
     }
 
-    private void buildBlockMeshes(ModelBuilder modelBuilder, Map<BlockType, MeshPartBuilder> meshBuilders) {
-        for (int x = 0; x < CHUNK_SIZE; x++) {
-            for (int y = 0; y < CHUNK_HEIGHT; y++) {
-                for (int z = 0; z < CHUNK_SIZE; z++) {
-                    BlockType type = blocks[x][y][z];
-                    if (type != BlockType.AIR && shouldRenderBlock(x, y, z)) {
-                        MeshPartBuilder builder = getOrCreateMeshBuilder(modelBuilder, meshBuilders, type);
-                        addBlockFaces(builder, x, y, z, getVisibleFaces(x, y, z));
+    /**
+     * Runs the CPU stage of meshing for one section and records which of
+     * its faces see each other. Vertex positions are relative to the
+     * section origin.
+     *
+     * @param index The section index, 0 at the bottom
+     * @param meshData Empty mesh data to fill, usually from {@link ChunkMeshData#obtain()}
+     * @param neighbors Neighbor chunks indexed by {@link Block} face constant; may be null or contain nulls
+     * @param mode The mesher to use
+     */
+    public void buildSectionMeshData(int index, ChunkMeshData meshData, Chunk[] neighbors, MeshingMode mode) {
+        ChunkNeighborhood blocks = neighborhood.get();
+        lockForMeshing(neighbors);
+        try {
+            blocks.fill(this, index, neighbors);
+        } finally {
+            unlockForMeshing(neighbors);
+        }
+
+        meshData.setVisibility(sectionVisibility.get().compute(blocks));
+        if (mode == MeshingMode.GREEDY) {
+            greedyMesher.get().mesh(blocks, meshData);
+            return;
+        }
+
+        for (int y = 0; y < ChunkSection.SIZE; y++) {
+            for (int z = 0; z < ChunkSection.SIZE; z++) {
+                for (int x = 0; x < ChunkSection.SIZE; x++) {
+                    BlockType type = blocks.get(x, y, z);
+                    if (type == BlockType.AIR) continue;
+
+                    int visibleFaces = getVisibleFaces(blocks, type, x, y, z);
+                    if (visibleFaces != 0) {
+                        addBlockFaces(meshData, type, x, y, z, visibleFaces);
                     }
                 }
             }
         }
     }
 
-    private MeshPartBuilder getOrCreateMeshBuilder(ModelBuilder modelBuilder, Map<BlockType, MeshPartBuilder> meshBuilders, BlockType type) {
-        MeshPartBuilder builder = meshBuilders.get(type);
-        if (builder == null) {
-            String partId = "blocktype_" + type.name();
-            builder = modelBuilder.part(partId, GL20.GL_TRIANGLES, VERTEX_ATTRIBUTES, type.getMaterial());
-            meshBuilders.put(type, builder);
+    /**
+     * Takes read locks on this chunk and its neighbors, so block edits wait
+     * until the neighborhood has been copied. Readers never block each
+     * other, and the render thread only ever holds one write lock, so the
+     * order of acquisition does not matter.
+     */
+    private void lockForMeshing(Chunk[] neighbors) {
+        lock.readLock().lock();
+        if (neighbors == null) return;
+        for (Chunk neighbor : neighbors) {
+            if (neighbor != null) neighbor.lock.readLock().lock();
         }
-        return builder;
     }
 
-    private void createModelInstance(ModelBuilder modelBuilder) {
-        Model model = modelBuilder.end();
-
-        if (chunkModel != null && chunkModel.model != null) {
-            chunkModel.model.dispose();
+    private void unlockForMeshing(Chunk[] neighbors) {
+        if (neighbors != null) {
+            for (Chunk neighbor : neighbors) {
+                if (neighbor != null) neighbor.lock.readLock().unlock();
+            }
         }
+        lock.readLock().unlock();
+    }
+
+    /**
+     * Uploads previously built mesh data to the GPU, replacing the mesh of
+     * every section. Must run on the render thread. The mesh data is not retained.
+     *
+     * @param sectionData The output of {@link #buildMeshData}
+     */
+    public void uploadMesh(ChunkMeshData[] sectionData) {
+        uploadMesh(sectionData, ALL_SECTIONS);
+    }
 
-        chunkModel = new ModelInstance(model);
-        chunkModel.transform.setToTranslation(chunkX * CHUNK_SIZE, 0, chunkZ * CHUNK_SIZE);
+    /**
+     * Uploads previously built mesh data for the selected sections, leaving
+     * the meshes of other sections untouched. Must run on the render thread.
+     *
+     * @param sectionData The output of {@link #buildMeshData}
+     * @param sectionMask The sections to replace, {@code 1 << index}
+     */
+    public void uploadMesh(ChunkMeshData[] sectionData, int sectionMask) {
+        applyMesh(sectionData, sectionMask, true);
+    }
 
-        // Calculate bounding box for frustum culling
-        chunkModel.calculateBoundingBox(boundingBox);
-        boundingBox.mul(chunkModel.transform);
+    /**
+     * Applies everything of previously built mesh data except the GPU
+     * meshes: face counts, bounds and section visibility. Lets headless
+     * tools such as benchmarks run culling without a GL context.
+     *
+     * @param sectionData The output of {@link #buildMeshData}
+     * @param sectionMask The sections to replace, {@code 1 << index}
+     */
+    public void uploadMeshMetadata(ChunkMeshData[] sectionData, int sectionMask) {
+        applyMesh(sectionData, sectionMask, false);
     }
 
-    private boolean isBlockSolid(int x, int y, int z) {
-        if (x < 0 || x >= CHUNK_SIZE || y < 0 || y >= CHUNK_HEIGHT || z < 0 || z >= CHUNK_SIZE) {
-            return false;
+    private void applyMesh(ChunkMeshData[] sectionData, int sectionMask, boolean createModels) {
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            if ((sectionMask & (1 << i)) == 0) continue;
+            ChunkMeshData meshData = sectionData[i];
+            ChunkSection section = sections[i];
+            if (section == null) continue;
+
+            if (meshData == null) {
+                // Not meshed: either empty, or opaque and buried under other opaque sections
+                long visibility = section.isFull() ? SectionVisibility.NONE : SectionVisibility.ALL;
+                section.setMesh(null, null, uploadBounds.inf(), 0, visibility);
+                continue;
+            }
+
+            ModelInstance opaque = null;
+            ModelInstance translucent = null;
+            if (createModels) {
+                BlockAtlas atlas = BlockAtlas.getInstance();
+                opaque = createInstance(meshData, ChunkMeshData.OPAQUE, atlas.getMaterial(), i);
+                translucent = createInstance(meshData, ChunkMeshData.TRANSLUCENT, atlas.getTranslucentMaterial(), i);
+            }
+            uploadTransform.setToTranslation(chunkX * CHUNK_SIZE, i * ChunkSection.SIZE, chunkZ * CHUNK_SIZE);
+            meshData.getBounds(uploadBounds).mul(uploadTransform);
+            section.setMesh(opaque, translucent, uploadBounds, meshData.getQuadCount(), meshData.getVisibility());
         }
-        return blocks[x][y][z] != BlockType.AIR;
+        // A partial upload only patches an existing mesh; the first mesh must cover every section
+        if (sectionMask == ALL_SECTIONS) hasMesh = true;
     }
 
-    private boolean shouldRenderBlock(int x, int y, int z) {
-        return !isBlockSolid(x + 1, y, z) || !isBlockSolid(x - 1, y, z) ||
-               !isBlockSolid(x, y + 1, z) || !isBlockSolid(x, y - 1, z) ||
-               !isBlockSolid(x, y, z + 1) || !isBlockSolid(x, y, z - 1);
+    /**
+     * Copies the uploaded meshes of every section back into mesh data, e.g.
+     * to keep them when the GPU meshes are disposed. Passing the result to
+     * {@link #uploadMesh} restores the same meshes. Must run on the render thread.
+     *
+     * @param sectionData Receives pooled mesh data per allocated section, or null for sections that are AIR
+     */
+    public void copyMeshData(ChunkMeshData[] sectionData) {
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            ChunkSection section = sections[i];
+            if (section == null) {
+                sectionData[i] = null;
+                continue;
+            }
+            ChunkMeshData meshData = ChunkMeshData.obtain();
+            section.copyMeshTo(meshData, chunkX * CHUNK_SIZE, chunkZ * CHUNK_SIZE);
+            sectionData[i] = meshData;
+        }
     }
 
-    private boolean[] getVisibleFaces(int x, int y, int z) {
-        boolean[] visibleFaces = new boolean[6];
-        visibleFaces[Block.RIGHT] = !isBlockSolid(x + 1, y, z);
-        visibleFaces[Block.LEFT] = !isBlockSolid(x - 1, y, z);
-        visibleFaces[Block.TOP] = !isBlockSolid(x, y + 1, z);
-        visibleFaces[Block.BOTTOM] = !isBlockSolid(x, y - 1, z);
-        visibleFaces[Block.FRONT] = !isBlockSolid(x, y, z + 1);
-        visibleFaces[Block.BACK] = !isBlockSolid(x, y, z - 1);
-        return visibleFaces;
+    private ModelInstance createInstance(ChunkMeshData meshData, int layer, Material material, int sectionIndex) {
+        if (meshData.isEmpty(layer)) return null;
+
+        ModelInstance instance = new ModelInstance(createModel(meshData.getParts(layer), material));
+        instance.transform.setToTranslation(chunkX * CHUNK_SIZE, sectionIndex * ChunkSection.SIZE, chunkZ * CHUNK_SIZE);
+        return instance;
     }
 
-    public void render(ModelBatch modelBatch, Environment environment) {
-        if (!hasMesh || chunkModel == null) return;
+    /**
+     * Creates the GPU meshes of one layer. Must run on the render thread.
+     *
+     * @param parts The parts of the layer, see {@link ChunkMeshData#getParts}
+     * @param material The atlas material to draw them with
+     * @return A model with one node part per mesh part
+     */
+    static Model createModel(Array<ChunkMeshData.Part> parts, Material material) {
+        ModelBuilder modelBuilder = new ModelBuilder();
+        modelBuilder.begin();
+
+        // Every part of a layer shares its material; there is more than one only past 65,536 vertices
+        for (int i = 0; i < parts.size; i++) {
+            ChunkMeshData.Part part = parts.get(i);
+            Mesh mesh = new Mesh(true, part.getVertexCount(), part.indices.size, VERTEX_ATTRIBUTES);
+            mesh.setVertices(part.vertices.items, 0, part.vertices.size);
+            mesh.setIndices(part.indices.items, 0, part.indices.size);
 
-        com.badlogic.gdx.graphics.Camera camera = Camera.getInstance().getCamera();
-        if (isVisible(camera)) {
-            modelBatch.render(chunkModel, environment);
+            modelBuilder.part("chunk_" + i, mesh, GL20.GL_TRIANGLES, material);
         }
+
+        return modelBuilder.end();
     }
 
-    private boolean isVisible(com.badlogic.gdx.graphics.Camera camera) {
-        return boundingBox.isValid() && camera.frustum.boundsInFrustum(boundingBox);
+    private static int getVisibleFaces(ChunkNeighborhood blocks, BlockType type, int x, int y, int z) {
+        int visibleFaces = 0;
+        if (!blocks.hidesFace(type, x + 1, y, z)) visibleFaces |= 1 << Block.RIGHT;
+        if (!blocks.hidesFace(type, x - 1, y, z)) visibleFaces |= 1 << Block.LEFT;
+        if (!blocks.hidesFace(type, x, y + 1, z)) visibleFaces |= 1 << Block.TOP;
+        if (!blocks.hidesFace(type, x, y - 1, z)) visibleFaces |= 1 << Block.BOTTOM;
+        if (!blocks.hidesFace(type, x, y, z + 1)) visibleFaces |= 1 << Block.FRONT;
+        if (!blocks.hidesFace(type, x, y, z - 1)) visibleFaces |= 1 << Block.BACK;
+        return visibleFaces;
     }
 
-    private void addBlockFaces(MeshPartBuilder builder, int x, int y, int z, boolean[] visibleFaces) {
-        if (visibleFaces[Block.RIGHT]) {
-            addRightFace(builder, x, y, z);
+    private void addBlockFaces(ChunkMeshData meshData, BlockType type, int x, int y, int z, int visibleFaces) {
+        if ((visibleFaces & (1 << Block.RIGHT)) != 0) {
+            addRightFace(meshData, type, x, y, z);
         }
-        if (visibleFaces[Block.LEFT]) {
-            addLeftFace(builder, x, y, z);
+        if ((visibleFaces & (1 << Block.LEFT)) != 0) {
+            addLeftFace(meshData, type, x, y, z);
         }
-        if (visibleFaces[Block.TOP]) {
-            addTopFace(builder, x, y, z);
+        if ((visibleFaces & (1 << Block.TOP)) != 0) {
+            addTopFace(meshData, type, x, y, z);
         }
-        if (visibleFaces[Block.BOTTOM]) {
-            addBottomFace(builder, x, y, z);
+        if ((visibleFaces & (1 << Block.BOTTOM)) != 0) {
+            addBottomFace(meshData, type, x, y, z);
         }
-        if (visibleFaces[Block.FRONT]) {
-            addFrontFace(builder, x, y, z);
+        if ((visibleFaces & (1 << Block.FRONT)) != 0) {
+            addFrontFace(meshData, type, x, y, z);
         }
-        if (visibleFaces[Block.BACK]) {
-            addBackFace(builder, x, y, z);
+        if ((visibleFaces & (1 << Block.BACK)) != 0) {
+            addBackFace(meshData, type, x, y, z);
         }
     }
 
-    private void addRightFace(MeshPartBuilder builder, int x, int y, int z) {
-        builder.rect(
-            new Vector3(x + 1, y + 1, z),       // top-back
-            new Vector3(x + 1, y + 1, z + 1),   // top-front
-            new Vector3(x + 1, y, z + 1),       // bottom-front
-            new Vector3(x + 1, y, z),           // bottom-back
-            new Vector3(1, 0, 0)                // normal pointing right
+    private void addRightFace(ChunkMeshData meshData, BlockType type, int x, int y, int z) {
+        meshData.quad(type, Block.RIGHT,
+            x + 1, y + 1, z,                    // top-back
+            x + 1, y + 1, z + 1,                // top-front
+            x + 1, y, z + 1,                    // bottom-front
+            x + 1, y, z                         // bottom-back
         );
     }
 
-    private void addLeftFace(MeshPartBuilder builder, int x, int y, int z) {
-        builder.rect(
-            new Vector3(x, y + 1, z + 1),       // top-front
-            new Vector3(x, y + 1, z),           // top-back
-            new Vector3(x, y, z),               // bottom-back
-            new Vector3(x, y, z + 1),           // bottom-front
-            new Vector3(-1, 0, 0)               // normal pointing left
+    private void addLeftFace(ChunkMeshData meshData, BlockType type, int x, int y, int z) {
+        meshData.quad(type, Block.LEFT,
+            x, y + 1, z + 1,                    // top-front
+            x, y + 1, z,                        // top-back
+            x, y, z,                            // bottom-back
+            x, y, z + 1                         // bottom-front
         );
     }
 
-    private void addTopFace(MeshPartBuilder builder, int x, int y, int z) {
-        builder.rect(
-            new Vector3(x + 1, y + 1, z + 1),   // right-front
-            new Vector3(x + 1, y + 1, z),       // right-back
-            new Vector3(x, y + 1, z),           // left-back
-            new Vector3(x, y + 1, z + 1),       // left-front
-            new Vector3(0, 1, 0)                // normal pointing up
+    private void addTopFace(ChunkMeshData meshData, BlockType type, int x, int y, int z) {
+        meshData.quad(type, Block.TOP,
+            x + 1, y + 1, z + 1,                // right-front
+            x + 1, y + 1, z,                    // right-back
+            x, y + 1, z,                        // left-back
+            x, y + 1, z + 1                     // left-front
         );
     }
 
-    private void addBottomFace(MeshPartBuilder builder, int x, int y, int z) {
-        builder.rect(
-            new Vector3(x + 1, y, z),           // right-back
-            new Vector3(x + 1, y, z + 1),       // right-front
-            new Vector3(x, y, z + 1),           // left-front
-            new Vector3(x, y, z),               // left-back
-            new Vector3(0, -1, 0)               // normal pointing down
+    private void addBottomFace(ChunkMeshData meshData, BlockType type, int x, int y, int z) {
+        meshData.quad(type, Block.BOTTOM,
+            x + 1, y, z,                        // right-back
+            x + 1, y, z + 1,                    // right-front
+            x, y, z + 1,                        // left-front
+            x, y, z                             // left-back
         );
     }
 
-    private void addFrontFace(MeshPartBuilder builder, int x, int y, int z) {
-        builder.rect(
-            new Vector3(x, y, z + 1),           // bottom-left
-            new Vector3(x + 1, y, z + 1),       // bottom-right
-            new Vector3(x + 1, y + 1, z + 1),   // top-right
-            new Vector3(x, y + 1, z + 1),       // top-left
-            new Vector3(0, 0, 1)                // normal pointing front
+    private void addFrontFace(ChunkMeshData meshData, BlockType type, int x, int y, int z) {
+        meshData.quad(type, Block.FRONT,
+            x, y, z + 1,                        // bottom-left
+            x + 1, y, z + 1,                    // bottom-right
+            x + 1, y + 1, z + 1,                // top-right
+            x, y + 1, z + 1                     // top-left
         );
     }
 
-    private void addBackFace(MeshPartBuilder builder, int x, int y, int z) {
-        builder.rect(
-            new Vector3(x + 1, y, z),           // bottom-right
-            new Vector3(x, y, z),               // bottom-left
-            new Vector3(x, y + 1, z),           // top-left
-            new Vector3(x + 1, y + 1, z),       // top-right
-            new Vector3(0, 0, -1)               // normal pointing back
+    private void addBackFace(ChunkMeshData meshData, BlockType type, int x, int y, int z) {
+        meshData.quad(type, Block.BACK,
+            x + 1, y, z,                        // bottom-right
+            x, y, z,                            // bottom-left
+            x, y + 1, z,                        // top-left
+            x + 1, y + 1, z                     // top-right
         );
     }
 
+    public BlockType getBlock(int x, int y, int z) {
+        ChunkSection section = sections[y / ChunkSection.SIZE];
+        return section == null ? BlockType.AIR : section.get(x, y % ChunkSection.SIZE, z);
+    }
+
+    /**
+     * Changes a block and marks the sections whose faces it affects for
+     * remeshing: its own, and the one above or below when it lies on a
+     * section boundary. Neighbor chunks are not touched; see
+     * {@code VoxelEngine#setBlock}. Must run on the render thread.
+     *
+     * @param x X coordinate inside the chunk
+     * @param y Y coordinate inside the chunk
+     * @param z Z coordinate inside the chunk
+     * @param type The new block type
+     * @return True if the block changed
+     */
+    public boolean setBlock(int x, int y, int z, BlockType type) {
+        int index = y / ChunkSection.SIZE;
+        int localY = y % ChunkSection.SIZE;
+        ChunkSection section = sections[index];
+        if (section == null ? type == BlockType.AIR : section.get(x, localY, z) == type) return false;
+
+        lock.writeLock().lock();
+        try {
+            getOrCreateSection(index).set(x, localY, z, type);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        dirty = true;
+        edited = true;
+        markSectionDirty(index);
+        if (localY == 0 && index > 0) markSectionDirty(index - 1);
+        if (localY == ChunkSection.SIZE - 1 && index < SECTION_COUNT - 1) markSectionDirty(index + 1);
+        return true;
+    }
+
+    /**
+     * Flags a section's mesh as out of date after a block edit.
+     *
+     * @param index The section index, 0 at the bottom
+     */
+    public void markSectionDirty(int index) {
+        dirtySections |= 1 << index;
+    }
+
+    /**
+     * Gets the sections edited since they were last remeshed.
+     *
+     * @return Section mask, {@code 1 << index}
+     */
+    public int getDirtySections() {
+        return dirtySections;
+    }
+
+    public boolean hasDirtySections() {
+        return dirtySections != 0;
+    }
+
+    /**
+     * Clears the dirty flag of the given sections, typically right before
+     * they are remeshed.
+     *
+     * @param sectionMask Sections to clear, {@code 1 << index}
+     */
+    public void clearDirtySections(int sectionMask) {
+        dirtySections &= ~sectionMask;
+    }
+
+    /**
+     * Gets a section of the column.
+     *
+     * @param index The section index, 0 at the bottom
+     * @return The section, or null if it contains only AIR
+     */
+    public ChunkSection getSection(int index) {
+        return sections[index];
+    }
+
+    /**
+     * Gets a section of the column, allocating it filled with AIR if needed.
+     *
+     * @param index The section index, 0 at the bottom
+     * @return The section
+     */
+    public ChunkSection getOrCreateSection(int index) {
+        ChunkSection section = sections[index];
+        if (section == null) {
+            section = new ChunkSection(index);
+            sections[index] = section;
+        }
+        return section;
+    }
+
+    /**
+     * Drops a section so it reads as AIR, releasing its mesh.
+     *
+     * @param index The section index, 0 at the bottom
+     */
+    public void clearSection(int index) {
+        ChunkSection section = sections[index];
+        if (section != null) {
+            section.dispose();
+            sections[index] = null;
+        }
+    }
+
+    public long getKey() {
+        return ChunkPosition.pack(chunkX, chunkZ);
+    }
+
     public int getChunkX() {
         return chunkX;
     }
@@ -233,20 +551,151 @@ public class Chunk implements Disposable {
         return chunkZ;
     }
 
+    /**
+     * Gets the number of vertices emitted by the last mesh build.
+     *
+     * @return The vertex count
+     */
+    public int getVertexCount() {
+        return getQuadCount() * 4;
+    }
+
+    /**
+     * Gets the number of indices emitted by the last mesh build.
+     *
+     * @return The index count
+     */
+    public int getIndexCount() {
+        return getQuadCount() * 6;
+    }
+
+    /**
+     * Gets the vertex and index bytes of the current meshes.
+     *
+     * @return The mesh size in bytes, 0 without a mesh
+     */
+    public long getMeshBytes() {
+        return (long) getQuadCount() * ChunkMeshData.BYTES_PER_QUAD;
+    }
+
+    /**
+     * Estimates the heap retained by the block data of the column, including
+     * the chunk and section objects.
+     *
+     * @return Approximate size in bytes
+     */
+    public long getDataBytes() {
+        long size = CHUNK_OVERHEAD_BYTES;
+        for (ChunkSection section : sections) {
+            if (section != null) size += SECTION_OVERHEAD_BYTES + section.getBlocks().getSizeInBytes();
+        }
+        return size;
+    }
+
+    private int getQuadCount() {
+        int quads = 0;
+        for (ChunkSection section : sections) {
+            if (section != null) quads += section.getQuadCount();
+        }
+        return quads;
+    }
+
+    public static MeshingMode getMeshingMode() {
+        return meshingMode;
+    }
+
+    /**
+     * Selects the mesher used by subsequent mesh builds that do not name
+     * one. Jobs already queued keep the mode they were queued with.
+     *
+     * @param mode The meshing mode to use
+     */
+    public static void setMeshingMode(MeshingMode mode) {
+        meshingMode = mode;
+    }
+
     public boolean hasMesh() {
         return hasMesh;
     }
 
+    /**
+     * Checks whether the block data differs from what is saved on disk.
+     *
+     * @return True if the chunk should be saved
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Checks whether any block was changed after the chunk was generated or
+     * loaded. Unlike {@link #isDirty()} this is not reset by saving, so it
+     * tells whether the blocks can be regenerated from the terrain generator.
+     *
+     * @return True if {@link #setBlock} changed a block
+     */
+    public boolean isEdited() {
+        return edited;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    /**
+     * Checks whether the chunk has to be (re)meshed, either because it has
+     * no mesh yet or because its current mesh is out of date.
+     *
+     * @return True if a mesh build should be queued
+     */
+    public boolean needsMesh() {
+        return !hasMesh || meshDirty;
+    }
+
+    /**
+     * Flags the current mesh as out of date, e.g. because a neighbor it was
+     * built without has been generated since.
+     */
+    public void markMeshDirty() {
+        meshDirty = true;
+    }
+
+    /**
+     * Records which neighbors a mesh build is about to see and clears the
+     * dirty flag. Called when the build is queued.
+     *
+     * @param neighborMask Bit mask of present neighbors, {@code 1 << face}
+     */
+    public void onMeshQueued(int neighborMask) {
+        meshNeighborMask = neighborMask;
+        meshDirty = false;
+    }
+
+    /**
+     * Gets the neighbors that were present when the latest mesh build was queued.
+     *
+     * @return Bit mask of neighbor faces, {@code 1 << face}
+     */
+    public int getMeshNeighborMask() {
+        return meshNeighborMask;
+    }
+
     public void disposeMesh() {
-        if (chunkModel != null && chunkModel.model != null) {
-            chunkModel.model.dispose();
-            chunkModel = null;
+        for (ChunkSection section : sections) {
+            if (section != null) section.disposeMesh();
         }
         hasMesh = false;
     }
 
     @Override
     public void dispose() {
-        disposeMesh();
+        for (ChunkSection section : sections) {
+            if (section != null) section.dispose();
+        }
+        hasMesh = false;
     }
 }
@@ -0,0 +1,313 @@
+package io.github.some_example_name.chunk;
+
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ShortArray;
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+
+/**
+ * CPU-side output of chunk meshing: packed vertices and triangle
+ * indices for one chunk section or {@link LodTile}, split into an opaque and a translucent
+ * layer. All block types of a layer share one part, textured from the
+ * block atlas, so each layer is a single draw call unless it exceeds the
+ * vertex limit of short indices. The translucent layer is drawn blended
+ * after all opaque geometry. Filling it touches no GL
+ * state, so it can run on a worker thread; {@link Chunk#uploadMesh} turns
+ * it into GPU meshes on the render thread.
+ * Instances are pooled and keep their buffers between uses, so meshing a
+ * chunk allocates nothing once the buffers have grown to their working size.
+ */
+public class ChunkMeshData {
+    /**
+     * Each vertex is four unsigned shorts (x, y, z, face | tile << FACE_BITS),
+     * 8 bytes, stored two shorts per float so the array can go straight to
+     * {@code Mesh.setVertices}. The shader derives the normal and texture
+     * coordinates from the face and position.
+     */
+    public static final int FLOATS_PER_VERTEX = 2;
+    /** Bits of the fourth vertex component holding the face; the atlas tile sits above them. */
+    public static final int FACE_BITS = 3;
+    /** Short indices address at most this many vertices in one mesh. */
+    public static final int MAX_VERTICES_PER_PART = 1 << 16;
+    /** Layer of block types that hide what lies behind them. */
+    public static final int OPAQUE = 0;
+    /** Layer of {@link BlockType#isTranslucent() translucent} block types. */
+    public static final int TRANSLUCENT = 1;
+    public static final int LAYER_COUNT = 2;
+
+    private static final int FLOATS_PER_QUAD = FLOATS_PER_VERTEX * 4;
+    private static final int INDICES_PER_QUAD = 6;
+    /** Vertex and index bytes of one quad, the same on the CPU and in GPU buffers. */
+    public static final int BYTES_PER_QUAD = FLOATS_PER_QUAD * Float.BYTES + INDICES_PER_QUAD * Short.BYTES;
+    private static final int MAX_POOLED = 128;
+    private static final Array<ChunkMeshData> pool = new Array<>(false, MAX_POOLED);
+
+    private final Layer[] layers = {new Layer(), new Layer()};
+    private final Array<Part> spareParts = new Array<>();
+    private int quadCount;
+    private long visibility = SectionVisibility.ALL;
+    private int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+
+    /**
+     * A run of geometry that fits in one mesh.
+     */
+    public static class Part {
+        public final FloatArray vertices = new FloatArray();
+        public final ShortArray indices = new ShortArray();
+
+        public int getVertexCount() {
+            return vertices.size / FLOATS_PER_VERTEX;
+        }
+    }
+
+    /**
+     * The parts of one layer; only the last one is still being filled.
+     */
+    private static class Layer {
+        private final Array<Part> parts = new Array<>();
+        private Part currentPart;
+    }
+
+    /**
+     * Takes a cleared instance from the shared pool, or creates one.
+     * Safe to call from any thread.
+     *
+     * @return Empty mesh data
+     */
+    public static ChunkMeshData obtain() {
+        synchronized (pool) {
+            if (pool.notEmpty()) return pool.pop();
+        }
+        return new ChunkMeshData();
+    }
+
+    /**
+     * Clears the given instance and returns it to the shared pool.
+     * Safe to call from any thread.
+     *
+     * @param meshData The mesh data to recycle
+     */
+    public static void free(ChunkMeshData meshData) {
+        meshData.clear();
+        synchronized (pool) {
+            if (pool.size < MAX_POOLED) pool.add(meshData);
+        }
+    }
+
+    /**
+     * Frees every non-null entry of an array and clears the array.
+     * Safe to call from any thread.
+     *
+     * @param meshData Per-section mesh data, as filled by {@link Chunk#buildMeshData}
+     */
+    public static void freeAll(ChunkMeshData[] meshData) {
+        for (int i = 0; i < meshData.length; i++) {
+            if (meshData[i] != null) {
+                free(meshData[i]);
+                meshData[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Adds a quad. Corners are given in the order used by
+     * {@code MeshPartBuilder.rect}, in blocks relative to the section origin;
+     * the shader repeats the type's atlas tile once per block.
+     *
+     * @param type The block type, selecting the atlas tile and the layer
+     * @param face The {@link Block} face constant the quad faces
+     */
+    public void quad(BlockType type, int face,
+                     int x00, int y00, int z00, int x10, int y10, int z10,
+                     int x11, int y11, int z11, int x01, int y01, int z01) {
+        Part part = nextPart(layers[type.isTranslucent() ? TRANSLUCENT : OPAQUE]);
+        int base = part.getVertexCount();
+        int faceAndTile = face | type.getAtlasTile() << FACE_BITS;
+
+        float[] vertices = part.vertices.ensureCapacity(FLOATS_PER_QUAD);
+        int i = part.vertices.size;
+        i = vertex(vertices, i, x00, y00, z00, faceAndTile);
+        i = vertex(vertices, i, x10, y10, z10, faceAndTile);
+        i = vertex(vertices, i, x11, y11, z11, faceAndTile);
+        i = vertex(vertices, i, x01, y01, z01, faceAndTile);
+        part.vertices.size = i;
+
+        // Corner00 and corner11 are opposite, so together they span the quad
+        extendBounds(x00, y00, z00);
+        extendBounds(x11, y11, z11);
+
+        // Same triangle order as MeshBuilder.rect: 00-10-11, 11-01-00
+        short[] indices = part.indices.ensureCapacity(INDICES_PER_QUAD);
+        int j = part.indices.size;
+        indices[j] = (short) base;
+        indices[j + 1] = (short) (base + 1);
+        indices[j + 2] = (short) (base + 2);
+        indices[j + 3] = (short) (base + 2);
+        indices[j + 4] = (short) (base + 3);
+        indices[j + 5] = (short) base;
+        part.indices.size = j + INDICES_PER_QUAD;
+
+        quadCount++;
+    }
+
+    private static int vertex(float[] out, int i, int x, int y, int z, int faceAndTile) {
+        out[i] = pack(x, y);
+        out[i + 1] = pack(z, faceAndTile);
+        return i + FLOATS_PER_VERTEX;
+    }
+
+    /**
+     * Stores two shorts in the bits of one float, the first in the low half.
+     * Mesh buffers use native byte order, which is little-endian on every
+     * platform the game runs on, so the first short also comes first in memory.
+     * Coordinates of sections and {@link LodTile}s stay within 0..256, far
+     * below the values that would set every exponent bit and make the pattern a NaN.
+     */
+    private static float pack(int first, int second) {
+        return Float.intBitsToFloat((first & 0xFFFF) | second << 16);
+    }
+
+    /**
+     * Reads one of the shorts stored by {@link #pack}.
+     *
+     * @param vertices Vertex data of a {@link Part}
+     * @param vertex Index of the vertex within the part
+     * @param component 0 to 3 for x, y, z and face | tile << FACE_BITS
+     * @return The unsigned component value
+     */
+    public static int unpack(float[] vertices, int vertex, int component) {
+        int bits = Float.floatToRawIntBits(vertices[vertex * FLOATS_PER_VERTEX + (component >> 1)]);
+        return (component & 1) == 0 ? bits & 0xFFFF : bits >>> 16;
+    }
+
+    /**
+     * Appends a copy of a mesh's vertices and indices to a layer as a new
+     * part, e.g. to keep the geometry of a mesh that is about to be disposed.
+     * Reads the client-side copy libGDX keeps of every vertex and index
+     * buffer, so no GL call is made. Bounds are not updated, see {@link #setBounds}.
+     *
+     * @param layer {@link #OPAQUE} or {@link #TRANSLUCENT}
+     * @param mesh A mesh created from a part of this layer
+     */
+    void addPart(int layer, Mesh mesh) {
+        Part part = spareParts.notEmpty() ? spareParts.pop() : new Part();
+        int floatCount = mesh.getNumVertices() * FLOATS_PER_VERTEX;
+        mesh.getVertices(part.vertices.ensureCapacity(floatCount));
+        part.vertices.size = floatCount;
+        mesh.getIndices(part.indices.ensureCapacity(mesh.getNumIndices()));
+        part.indices.size = mesh.getNumIndices();
+
+        layers[layer].parts.add(part);
+        layers[layer].currentPart = part;
+        quadCount += part.indices.size / INDICES_PER_QUAD;
+    }
+
+    /**
+     * Sets the bounds from a box in another space, e.g. the world-space bounds
+     * of an uploaded section.
+     *
+     * @param bounds The box to copy; ignored when invalid
+     * @param originX X of this data's origin in the box's space
+     * @param originY Y of this data's origin in the box's space
+     * @param originZ Z of this data's origin in the box's space
+     */
+    void setBounds(BoundingBox bounds, float originX, float originY, float originZ) {
+        if (!bounds.isValid()) return;
+        extendBounds(Math.round(bounds.min.x - originX), Math.round(bounds.min.y - originY), Math.round(bounds.min.z - originZ));
+        extendBounds(Math.round(bounds.max.x - originX), Math.round(bounds.max.y - originY), Math.round(bounds.max.z - originZ));
+    }
+
+    private void extendBounds(int x, int y, int z) {
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        minZ = Math.min(minZ, z);
+        maxX = Math.max(maxX, x);
+        maxY = Math.max(maxY, y);
+        maxZ = Math.max(maxZ, z);
+    }
+
+    private Part nextPart(Layer layer) {
+        Part part = layer.currentPart;
+        if (part == null || part.getVertexCount() + 4 > MAX_VERTICES_PER_PART) {
+            part = spareParts.notEmpty() ? spareParts.pop() : new Part();
+            layer.currentPart = part;
+            layer.parts.add(part);
+        }
+        return part;
+    }
+
+    /**
+     * Empties this instance while keeping its buffers for reuse.
+     */
+    public void clear() {
+        for (Layer layer : layers) {
+            for (int i = 0; i < layer.parts.size; i++) {
+                Part part = layer.parts.get(i);
+                part.vertices.clear();
+                part.indices.clear();
+                spareParts.add(part);
+            }
+            layer.parts.clear();
+            layer.currentPart = null;
+        }
+        quadCount = 0;
+        visibility = SectionVisibility.ALL;
+        minX = minY = minZ = Integer.MAX_VALUE;
+        maxX = maxY = maxZ = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Gets the parts of one layer.
+     *
+     * @param layer {@link #OPAQUE} or {@link #TRANSLUCENT}
+     * @return The parts, empty if the layer has no quads
+     */
+    public Array<Part> getParts(int layer) {
+        return layers[layer].parts;
+    }
+
+    public boolean isEmpty(int layer) {
+        return layers[layer].parts.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return quadCount == 0;
+    }
+
+    public int getQuadCount() {
+        return quadCount;
+    }
+
+    /**
+     * Gets which faces of the section see each other, see {@link SectionVisibility}.
+     *
+     * @return The visibility matrix; {@link SectionVisibility#ALL} until set
+     */
+    public long getVisibility() {
+        return visibility;
+    }
+
+    public void setVisibility(long visibility) {
+        this.visibility = visibility;
+    }
+
+    /**
+     * Gets the bounds of all quads, relative to the chunk origin. Computed
+     * while meshing because packed vertices have no position attribute for
+     * {@code Mesh.calculateBoundingBox} to read.
+     *
+     * @param out The box to set; left invalid when there are no quads
+     * @return The given box
+     */
+    public BoundingBox getBounds(BoundingBox out) {
+        out.inf();
+        if (quadCount > 0) {
+            out.ext(minX, minY, minZ).ext(maxX, maxY, maxZ);
+        }
+        return out;
+    }
+}
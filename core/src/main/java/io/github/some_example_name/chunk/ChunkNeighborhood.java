@@ -0,0 +1,145 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+
+import java.util.Arrays;
+
+/**
+ * Padded, read-only copy of one chunk section plus the bordering layer of
+ * each of its six neighbors: the sections above and below in the same
+ * column and the same section of each horizontal neighbor chunk. Meshing
+ * can then cull faces across section and chunk boundaries without touching
+ * other chunks. Missing neighbors and the space above and below the column
+ * read as AIR. Meant to be reused per thread; {@link #fill} overwrites all
+ * previous content.
+ */
+public class ChunkNeighborhood {
+    private static final BlockType[] TYPES = BlockType.values();
+    private static final byte AIR = (byte) BlockType.AIR.ordinal();
+    private static final boolean[] OPAQUE = new boolean[TYPES.length];
+    private static final int SIZE = ChunkSection.SIZE;
+    private static final int PADDED_SIZE = SIZE + 2;
+
+    private final byte[] blocks = new byte[PADDED_SIZE * PADDED_SIZE * PADDED_SIZE];
+
+    static {
+        for (BlockType type : TYPES) {
+            OPAQUE[type.ordinal()] = type != BlockType.AIR && !type.isTranslucent();
+        }
+    }
+
+    /**
+     * Copies a section of the center chunk and the facing layers of its neighbors.
+     *
+     * @param center The chunk being meshed
+     * @param sectionIndex The section of the center chunk to copy
+     * @param neighbors Neighbor chunks indexed by {@link Block} face constant; may be null or contain nulls
+     */
+    public void fill(Chunk center, int sectionIndex, Chunk[] neighbors) {
+        Arrays.fill(blocks, AIR);
+
+        ChunkSection section = center.getSection(sectionIndex);
+        if (section != null) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int z = 0; z < SIZE; z++) {
+                    int row = index(0, y, z);
+                    for (int x = 0; x < SIZE; x++) {
+                        blocks[row + x] = (byte) section.get(x, y, z).ordinal();
+                    }
+                }
+            }
+        }
+
+        fillBorderY(sectionIndex > 0 ? center.getSection(sectionIndex - 1) : null, -1, SIZE - 1);
+        fillBorderY(sectionIndex < Chunk.SECTION_COUNT - 1 ? center.getSection(sectionIndex + 1) : null, SIZE, 0);
+        fillBorderX(neighborSection(neighbors, Block.RIGHT, sectionIndex), SIZE, 0);
+        fillBorderX(neighborSection(neighbors, Block.LEFT, sectionIndex), -1, SIZE - 1);
+        fillBorderZ(neighborSection(neighbors, Block.FRONT, sectionIndex), SIZE, 0);
+        fillBorderZ(neighborSection(neighbors, Block.BACK, sectionIndex), -1, SIZE - 1);
+    }
+
+    private static ChunkSection neighborSection(Chunk[] neighbors, int face, int sectionIndex) {
+        if (neighbors == null || neighbors[face] == null) return null;
+        return neighbors[face].getSection(sectionIndex);
+    }
+
+    // Empty neighbor sections are skipped; the padding is already AIR
+
+    private void fillBorderY(ChunkSection neighbor, int y, int sourceY) {
+        if (neighbor == null || neighbor.isEmpty()) return;
+        for (int z = 0; z < SIZE; z++) {
+            for (int x = 0; x < SIZE; x++) {
+                blocks[index(x, y, z)] = (byte) neighbor.get(x, sourceY, z).ordinal();
+            }
+        }
+    }
+
+    private void fillBorderX(ChunkSection neighbor, int x, int sourceX) {
+        if (neighbor == null || neighbor.isEmpty()) return;
+        for (int y = 0; y < SIZE; y++) {
+            for (int z = 0; z < SIZE; z++) {
+                blocks[index(x, y, z)] = (byte) neighbor.get(sourceX, y, z).ordinal();
+            }
+        }
+    }
+
+    private void fillBorderZ(ChunkSection neighbor, int z, int sourceZ) {
+        if (neighbor == null || neighbor.isEmpty()) return;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                blocks[index(x, y, z)] = (byte) neighbor.get(x, y, sourceZ).ordinal();
+            }
+        }
+    }
+
+    private static int index(int x, int y, int z) {
+        return ((y + 1) * PADDED_SIZE + z + 1) * PADDED_SIZE + x + 1;
+    }
+
+    /**
+     * Gets the block type at coordinates relative to the section. Each
+     * coordinate may range one block beyond the section on either side.
+     */
+    public BlockType get(int x, int y, int z) {
+        return TYPES[blocks[index(x, y, z)]];
+    }
+
+    public boolean isSolid(int x, int y, int z) {
+        return blocks[index(x, y, z)] != AIR;
+    }
+
+    /**
+     * Checks whether the block at the given coordinates blocks the view,
+     * i.e. is neither AIR nor translucent.
+     */
+    public boolean isOpaque(int x, int y, int z) {
+        return OPAQUE[blocks[index(x, y, z)]];
+    }
+
+    /**
+     * Checks whether the block at the given coordinates hides the adjacent
+     * face of a block of the given type. Translucent blocks only hide faces
+     * of their own type, so the ground under water is still meshed while
+     * the faces between two water blocks are not.
+     *
+     * @param type The type of the block whose face is tested
+     * @return True if the face cannot be seen
+     */
+    public boolean hidesFace(BlockType type, int x, int y, int z) {
+        BlockType neighbor = get(x, y, z);
+        return neighbor != BlockType.AIR && (neighbor == type || !neighbor.isTranslucent());
+    }
+
+    public int getWidth() {
+        return SIZE;
+    }
+
+    public int getHeight() {
+        return SIZE;
+    }
+
+    public int getDepth() {
+        return SIZE;
+    }
+}
@@ -2,18 +2,43 @@ package io.github.some_example_name.chunk;
 
 /**
  * Represents the position of a chunk in the world.
+ * Hot paths index chunks by a packed {@code long} key instead of instances
+ * of this class; see {@link #pack(int, int)}.
  */
 public class ChunkPosition {
     public final int x;
     public final int z;
 
-    private static final int HASH_MULTIPLIER = 31;
+    private static final long HASH_MIX = 0x9E3779B97F4A7C15L;
 
     public ChunkPosition(int x, int z) {
         this.x = x;
         this.z = z;
     }
 
+    /**
+     * Packs chunk coordinates into a single key, X in the high and Z in the low 32 bits.
+     *
+     * @param x Chunk X coordinate
+     * @param z Chunk Z coordinate
+     * @return The packed key
+     */
+    public static long pack(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    public static int unpackX(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int unpackZ(long key) {
+        return (int) key;
+    }
+
+    public long toKey() {
+        return pack(x, z);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -24,7 +49,9 @@ public class ChunkPosition {
 
     @Override
     public int hashCode() {
-        return HASH_MULTIPLIER * x + z;
+        // Fibonacci hashing spreads neighboring coordinates across the table
+        long hash = pack(x, z) * HASH_MIX;
+        return (int) (hash ^ (hash >>> 32));
     }
 
     @Override
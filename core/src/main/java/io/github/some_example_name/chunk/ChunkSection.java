@@ -0,0 +1,252 @@
+package io.github.some_example_name.chunk;
+
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.some_example_name.block.BlockType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A 16x16x16 slice of a chunk column with its own block storage, meshes
+ * (one per {@link ChunkMeshData} layer) and bounding box. Tracks how many of its blocks are not AIR, and how many
+ * are opaque, so empty sections and sections that hide what lies behind
+ * them can be recognized without scanning them.
+ */
+public class ChunkSection implements Disposable {
+    public static final int SIZE = 16;
+    public static final int VOLUME = SIZE * SIZE * SIZE;
+
+    private final int sectionY;
+    private final BlockStorage blocks;
+    private final BoundingBox boundingBox = new BoundingBox();
+
+    private int nonAirCount;
+    private int opaqueCount;
+    private ModelInstance opaqueModel;
+    private ModelInstance translucentModel;
+    private int quadCount;
+    private long visibility = SectionVisibility.ALL;
+
+    public ChunkSection(int sectionY) {
+        this.sectionY = sectionY;
+        this.blocks = new BlockStorage(SIZE, SIZE, SIZE);
+    }
+
+    public BlockType get(int x, int y, int z) {
+        return blocks.get(x, y, z);
+    }
+
+    /**
+     * Sets the block type at the specified local coordinates and updates
+     * the non-air and opaque counts.
+     *
+     * @param x X coordinate inside the section
+     * @param y Y coordinate inside the section
+     * @param z Z coordinate inside the section
+     * @param type The block type to store
+     */
+    public void set(int x, int y, int z, BlockType type) {
+        BlockType previous = blocks.get(x, y, z);
+        if (previous == type) return;
+
+        if (previous == BlockType.AIR) nonAirCount++;
+        else if (type == BlockType.AIR) nonAirCount--;
+        if (isOpaque(previous)) opaqueCount--;
+        if (isOpaque(type)) opaqueCount++;
+        blocks.set(x, y, z, type);
+    }
+
+    /**
+     * Resets every block of the section to a single type.
+     *
+     * @param type The block type to fill the section with
+     */
+    public void fill(BlockType type) {
+        blocks.fill(type);
+        nonAirCount = type == BlockType.AIR ? 0 : VOLUME;
+        opaqueCount = isOpaque(type) ? VOLUME : 0;
+    }
+
+    /**
+     * Replaces the block data with data written by {@link BlockStorage#writeTo}.
+     *
+     * @param in Buffer positioned at the encoded data
+     * @throws IllegalArgumentException If the data is malformed
+     */
+    public void readFrom(ByteBuffer in) {
+        blocks.readFrom(in);
+        nonAirCount = 0;
+        opaqueCount = 0;
+        for (int y = 0; y < SIZE; y++) {
+            for (int z = 0; z < SIZE; z++) {
+                for (int x = 0; x < SIZE; x++) {
+                    BlockType type = blocks.get(x, y, z);
+                    if (type != BlockType.AIR) nonAirCount++;
+                    if (isOpaque(type)) opaqueCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a block type hides the faces behind it, the same test
+     * meshing uses against blocks of another type.
+     */
+    private static boolean isOpaque(BlockType type) {
+        return type != BlockType.AIR && !type.isTranslucent();
+    }
+
+    public BlockStorage getBlocks() {
+        return blocks;
+    }
+
+    public int getSectionY() {
+        return sectionY;
+    }
+
+    public int getNonAirCount() {
+        return nonAirCount;
+    }
+
+    public int getOpaqueCount() {
+        return opaqueCount;
+    }
+
+    public boolean isEmpty() {
+        return nonAirCount == 0;
+    }
+
+    /**
+     * Checks whether every block of the section is opaque, so it hides
+     * whatever lies behind it. A section of WATER is not full: faces
+     * behind it show through.
+     *
+     * @return True if the section contains neither AIR nor translucent blocks
+     */
+    public boolean isFull() {
+        return opaqueCount == VOLUME;
+    }
+
+    /**
+     * Replaces the section's meshes. Both models are already translated to
+     * the section's world position. Both are null when only the mesh
+     * metadata is applied, see {@link Chunk#uploadMeshMetadata}.
+     *
+     * @param opaqueModel The opaque layer; null if it is empty
+     * @param translucentModel The translucent layer; null if it is empty
+     * @param bounds Bounds of the geometry of both layers in world space; copied
+     * @param quadCount The number of exposed faces in both layers
+     * @param visibility Which faces see each other, see {@link SectionVisibility}
+     */
+    void setMesh(ModelInstance opaqueModel, ModelInstance translucentModel, BoundingBox bounds, int quadCount,
+                 long visibility) {
+        disposeMesh();
+        this.opaqueModel = opaqueModel;
+        this.translucentModel = translucentModel;
+        this.quadCount = quadCount;
+        this.visibility = visibility;
+        if (quadCount > 0) boundingBox.set(bounds);
+    }
+
+    public boolean hasMesh() {
+        return opaqueModel != null || translucentModel != null;
+    }
+
+    /**
+     * Copies the current meshes, bounds and visibility into mesh data, so
+     * they can be uploaded again without remeshing.
+     *
+     * @param out Empty mesh data to fill
+     * @param originX World X of the section origin
+     * @param originZ World Z of the section origin
+     */
+    void copyMeshTo(ChunkMeshData out, float originX, float originZ) {
+        copyModel(opaqueModel, ChunkMeshData.OPAQUE, out);
+        copyModel(translucentModel, ChunkMeshData.TRANSLUCENT, out);
+        out.setVisibility(visibility);
+        if (quadCount > 0) out.setBounds(boundingBox, originX, sectionY * SIZE, originZ);
+    }
+
+    private static void copyModel(ModelInstance instance, int layer, ChunkMeshData out) {
+        if (instance == null) return;
+        for (int i = 0; i < instance.model.meshes.size; i++) {
+            out.addPart(layer, instance.model.meshes.get(i));
+        }
+    }
+
+    /**
+     * Checks whether the last mesh build produced any faces. Unlike
+     * {@link #hasMesh()} this also holds when only the metadata was applied.
+     *
+     * @return True if there is something to draw
+     */
+    public boolean hasGeometry() {
+        return quadCount > 0;
+    }
+
+    /**
+     * Gets which faces of the section see each other as of the last mesh build.
+     *
+     * @return The visibility matrix; {@link SectionVisibility#ALL} without a mesh
+     */
+    public long getVisibility() {
+        return visibility;
+    }
+
+    public boolean hasTranslucentMesh() {
+        return translucentModel != null;
+    }
+
+    /**
+     * Gets the number of exposed faces (quads) in the current mesh.
+     *
+     * @return The quad count, 0 without a mesh
+     */
+    public int getQuadCount() {
+        return quadCount;
+    }
+
+    public BoundingBox getBoundingBox() {
+        return boundingBox;
+    }
+
+    /**
+     * Submits the opaque layer for drawing. Culling and ordering are up to
+     * the caller.
+     */
+    public void renderOpaque(ModelBatch modelBatch, Environment environment) {
+        if (opaqueModel != null) modelBatch.render(opaqueModel, environment);
+    }
+
+    /**
+     * Submits the translucent layer for drawing. Must come after all opaque
+     * geometry, since it is blended without writing depth.
+     */
+    public void renderTranslucent(ModelBatch modelBatch, Environment environment) {
+        if (translucentModel != null) modelBatch.render(translucentModel, environment);
+    }
+
+    public void disposeMesh() {
+        disposeModel(opaqueModel);
+        disposeModel(translucentModel);
+        opaqueModel = null;
+        translucentModel = null;
+        quadCount = 0;
+        visibility = SectionVisibility.ALL;
+        boundingBox.inf();
+    }
+
+    private static void disposeModel(ModelInstance instance) {
+        if (instance != null && instance.model != null) {
+            instance.model.dispose();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposeMesh();
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.some_example_name.chunk;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.Attributes;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.DirectionalLightsAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.shaders.BaseShader;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.some_example_name.block.BlockAtlas;
+
+/**
+ * Shader for chunk meshes textured from the {@link BlockAtlas}.
+ * Unpacks the {@link #PACKED_ATTRIBUTE} vertex written by {@link ChunkMeshData}
+ * into position, face normal, texture coordinates and atlas tile, and
+ * repeats the tile across greedy quads, lit by the environment's ambient
+ * light and first directional light. Renderables with a
+ * {@link BlendingAttribute} are blended without writing depth.
+ */
+public class ChunkShader extends BaseShader {
+    public static final String PACKED_ATTRIBUTE = "a_packed";
+
+    private static final String VERTEX_SHADER = "Shaders/Chunk.vert";
+    private static final String FRAGMENT_SHADER = "Shaders/Chunk.frag";
+
+    private final Renderable renderable;
+
+    private final int atlasGrid = register(new Uniform("u_atlasGrid"));
+    private final int tileInset = register(new Uniform("u_tileInset"));
+    private final int ambientLight = register(new Uniform("u_ambientLight"));
+    private final int lightColor = register(new Uniform("u_lightColor"));
+    private final int lightDirection = register(new Uniform("u_lightDirection"));
+    private final int opacity = register(new Uniform("u_opacity"));
+
+    public ChunkShader(Renderable renderable) {
+        this.renderable = renderable;
+        register(DefaultShader.Inputs.projViewTrans, DefaultShader.Setters.projViewTrans);
+        register(DefaultShader.Inputs.worldTrans, DefaultShader.Setters.worldTrans);
+        register(DefaultShader.Inputs.diffuseTexture, DefaultShader.Setters.diffuseTexture);
+    }
+
+    /**
+     * Checks whether a renderable uses one of the block atlas materials.
+     *
+     * @param renderable The renderable to check
+     * @return True if this shader can draw it
+     */
+    public static boolean isChunkRenderable(Renderable renderable) {
+        if (renderable.material == null) return false;
+        String id = renderable.material.id;
+        return BlockAtlas.MATERIAL_ID.equals(id) || BlockAtlas.TRANSLUCENT_MATERIAL_ID.equals(id);
+    }
+
+    @Override
+    public void init() {
+        ShaderProgram program = new ShaderProgram(Gdx.files.internal(VERTEX_SHADER), Gdx.files.internal(FRAGMENT_SHADER));
+        if (!program.isCompiled()) {
+            throw new GdxRuntimeException("Chunk shader failed to compile: " + program.getLog());
+        }
+        init(program, renderable);
+    }
+
+    @Override
+    public int compareTo(Shader other) {
+        return 0;
+    }
+
+    @Override
+    public boolean canRender(Renderable instance) {
+        return isChunkRenderable(instance);
+    }
+
+    @Override
+    public void begin(Camera camera, RenderContext context) {
+        super.begin(camera, context);
+        context.setDepthTest(GL20.GL_LEQUAL);
+        context.setDepthMask(true);
+        context.setCullFace(GL20.GL_BACK);
+
+        BlockAtlas atlas = BlockAtlas.getInstance();
+        set(atlasGrid, atlas.getColumns(), atlas.getRows());
+        set(tileInset, 0.5f / BlockAtlas.TILE_SIZE);
+    }
+
+    @Override
+    public void render(Renderable renderable, Attributes combinedAttributes) {
+        ColorAttribute ambient = combinedAttributes.get(ColorAttribute.class, ColorAttribute.AmbientLight);
+        if (ambient != null) {
+            set(ambientLight, ambient.color.r, ambient.color.g, ambient.color.b);
+        } else {
+            set(ambientLight, 0f, 0f, 0f);
+        }
+
+        DirectionalLightsAttribute lights = combinedAttributes.get(DirectionalLightsAttribute.class, DirectionalLightsAttribute.Type);
+        if (lights != null && lights.lights.notEmpty()) {
+            DirectionalLight light = lights.lights.first();
+            set(lightColor, light.color.r, light.color.g, light.color.b);
+            set(lightDirection, light.direction);
+        } else {
+            set(lightColor, 0f, 0f, 0f);
+            set(lightDirection, 0f, -1f, 0f);
+        }
+
+        // The render state caches these, so only switching between layers touches GL
+        BlendingAttribute blending = combinedAttributes.get(BlendingAttribute.class, BlendingAttribute.Type);
+        if (blending != null && blending.blended) {
+            context.setBlending(true, blending.sourceFunction, blending.destFunction);
+            context.setDepthMask(false);
+            set(opacity, blending.opacity);
+        } else {
+            context.setBlending(false, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            context.setDepthMask(true);
+            set(opacity, 1f);
+        }
+
+        super.render(renderable, combinedAttributes);
+    }
+
+    @Override
+    public void dispose() {
+        if (program != null) program.dispose();
+        super.dispose();
+    }
+}
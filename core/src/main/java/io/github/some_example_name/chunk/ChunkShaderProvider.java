@@ -0,0 +1,19 @@
+package io.github.some_example_name.chunk;
+
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+
+/**
+ * Uses {@link ChunkShader} for chunk meshes and libGDX's default shader for
+ * everything else.
+ */
+public class ChunkShaderProvider extends DefaultShaderProvider {
+    @Override
+    protected Shader createShader(Renderable renderable) {
+        if (ChunkShader.isChunkRenderable(renderable)) {
+            return new ChunkShader(renderable);
+        }
+        return super.createShader(renderable);
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+
+/**
+ * Builds chunk section geometry by merging coplanar, same-type block faces
+ * into maximal rectangles. Each slice of the section is swept once per face
+ * direction. Faces on the section border are culled against the
+ * neighboring sections captured in the {@link ChunkNeighborhood}.
+ */
+public class GreedyMesher {
+    private static final int AXIS_X = 0;
+    private static final int AXIS_Y = 1;
+    private static final int AXIS_Z = 2;
+
+    private final int[] dims = new int[3];
+    private final int[] pos = new int[3];
+    private final int[] quadMin = new int[3];
+    private final int[] quadMax = new int[3];
+    private BlockType[] mask = new BlockType[0];
+
+    private ChunkNeighborhood blocks;
+    private int quadCount;
+
+    /**
+     * Meshes the center section of the given neighborhood into the output mesh data.
+     *
+     * @param blocks The blocks to mesh, including the neighbor borders
+     * @param out Receives one quad per merged rectangle
+     * @return The number of quads emitted
+     */
+    public int mesh(ChunkNeighborhood blocks, ChunkMeshData out) {
+        this.blocks = blocks;
+        this.quadCount = 0;
+        dims[AXIS_X] = blocks.getWidth();
+        dims[AXIS_Y] = blocks.getHeight();
+        dims[AXIS_Z] = blocks.getDepth();
+
+        for (int face = Block.RIGHT; face <= Block.BACK; face++) {
+            meshFaceDirection(face, out);
+        }
+
+        this.blocks = null;
+        return quadCount;
+    }
+
+    private void meshFaceDirection(int face, ChunkMeshData out) {
+        int axis = face >> 1;
+        int step = (face & 1) == 0 ? 1 : -1;
+        int uAxis = axis == AXIS_X ? AXIS_Z : AXIS_X;
+        int vAxis = axis == AXIS_Y ? AXIS_Z : AXIS_Y;
+        int uSize = dims[uAxis];
+        int vSize = dims[vAxis];
+
+        if (mask.length < uSize * vSize) {
+            mask = new BlockType[uSize * vSize];
+        }
+
+        for (int slice = 0; slice < dims[axis]; slice++) {
+            pos[axis] = slice;
+            fillMask(axis, step, uAxis, vAxis, uSize, vSize);
+            mergeMask(face, axis, slice, uAxis, vAxis, uSize, vSize, out);
+        }
+    }
+
+    private void fillMask(int axis, int step, int uAxis, int vAxis, int uSize, int vSize) {
+        for (int v = 0; v < vSize; v++) {
+            pos[vAxis] = v;
+            for (int u = 0; u < uSize; u++) {
+                pos[uAxis] = u;
+                BlockType type = blocks.get(pos[AXIS_X], pos[AXIS_Y], pos[AXIS_Z]);
+
+                boolean visible = false;
+                if (type != BlockType.AIR) {
+                    pos[axis] += step;
+                    visible = !blocks.hidesFace(type, pos[AXIS_X], pos[AXIS_Y], pos[AXIS_Z]);
+                    pos[axis] -= step;
+                }
+                mask[u + v * uSize] = visible ? type : null;
+            }
+        }
+    }
+
+    private void mergeMask(int face, int axis, int slice, int uAxis, int vAxis, int uSize, int vSize,
+                           ChunkMeshData out) {
+        for (int v = 0; v < vSize; v++) {
+            for (int u = 0; u < uSize; ) {
+                BlockType type = mask[u + v * uSize];
+                if (type == null) {
+                    u++;
+                    continue;
+                }
+
+                int width = 1;
+                while (u + width < uSize && mask[u + width + v * uSize] == type) {
+                    width++;
+                }
+
+                int height = 1;
+                while (v + height < vSize && isRowMergeable(type, u, v + height, width, uSize)) {
+                    height++;
+                }
+
+                for (int dv = 0; dv < height; dv++) {
+                    for (int du = 0; du < width; du++) {
+                        mask[u + du + (v + dv) * uSize] = null;
+                    }
+                }
+
+                quadMin[axis] = slice;
+                quadMax[axis] = slice + 1;
+                quadMin[uAxis] = u;
+                quadMax[uAxis] = u + width;
+                quadMin[vAxis] = v;
+                quadMax[vAxis] = v + height;
+                addQuad(out, type, face, quadMin, quadMax);
+
+                u += width;
+            }
+        }
+    }
+
+    private boolean isRowMergeable(BlockType type, int u, int v, int width, int uSize) {
+        for (int du = 0; du < width; du++) {
+            if (mask[u + du + v * uSize] != type) return false;
+        }
+        return true;
+    }
+
+    private void addQuad(ChunkMeshData out, BlockType type, int face, int[] min, int[] max) {
+        int x0 = min[AXIS_X], y0 = min[AXIS_Y], z0 = min[AXIS_Z];
+        int x1 = max[AXIS_X], y1 = max[AXIS_Y], z1 = max[AXIS_Z];
+
+        // Corner order and winding match the per-face builders in Chunk
+        switch (face) {
+            case Block.RIGHT:
+                out.quad(type, Block.RIGHT, x1, y1, z0, x1, y1, z1, x1, y0, z1, x1, y0, z0);
+                break;
+            case Block.LEFT:
+                out.quad(type, Block.LEFT, x0, y1, z1, x0, y1, z0, x0, y0, z0, x0, y0, z1);
+                break;
+            case Block.TOP:
+                out.quad(type, Block.TOP, x1, y1, z1, x1, y1, z0, x0, y1, z0, x0, y1, z1);
+                break;
+            case Block.BOTTOM:
+                out.quad(type, Block.BOTTOM, x1, y0, z0, x1, y0, z1, x0, y0, z1, x0, y0, z0);
+                break;
+            case Block.FRONT:
+                out.quad(type, Block.FRONT, x0, y0, z1, x1, y0, z1, x1, y1, z1, x0, y1, z1);
+                break;
+            default:
+                out.quad(type, Block.BACK, x1, y0, z0, x0, y0, z0, x0, y1, z0, x1, y1, z0);
+                break;
+        }
+        quadCount++;
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.terrain.Generation;
+
+/**
+ * Builds the simplified surface of a {@link LodTile} from terrain
+ * heights sampled at the tile's resolution, without generating any blocks.
+ * Every cell of the tile becomes one column as high as the tallest of the
+ * heights sampled at its four corners, with
+ * side faces down to lower neighbor cells and, along the tile border, a
+ * skirt down to y = 0. Tiles of different levels never share vertices, so
+ * the skirts are what closes the gaps between them: whichever of two
+ * adjacent tiles is higher shows its skirt towards the lower one.
+ * Holds its height buffers between tiles, so each thread needs its own instance.
+ */
+public class LodMesher {
+    private static final int CORNERS = LodTile.CELLS + 1;
+
+    private final Generation generation;
+    private final int[] tops = new int[LodTile.CELLS * LodTile.CELLS];
+    /** Heights at the cell corners, {@code x * (CELLS + 1) + z}. */
+    private final int[] heights = new int[CORNERS * CORNERS];
+
+    /**
+     * @param generation The terrain generator whose heights full-detail chunks are built from
+     */
+    public LodMesher(Generation generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * Meshes one tile into the output mesh data. Vertex positions are
+     * relative to the tile's origin at y = 0.
+     *
+     * @param tile The tile to mesh
+     * @param out Receives the quads
+     * @return The number of quads emitted
+     */
+    public int mesh(LodTile tile, ChunkMeshData out) {
+        sampleTops(tile);
+
+        int step = tile.getCellSize();
+        int waterTop = Generation.getWaterSurfaceY() + 1;
+        int quads = 0;
+        for (int cellX = 0; cellX < LodTile.CELLS; cellX++) {
+            for (int cellZ = 0; cellZ < LodTile.CELLS; cellZ++) {
+                int top = topAt(cellX, cellZ);
+                int x0 = cellX * step;
+                int z0 = cellZ * step;
+                int x1 = x0 + step;
+                int z1 = z0 + step;
+
+                out.quad(BlockType.DIRT, Block.TOP, x1, top, z1, x1, top, z0, x0, top, z0, x0, top, z1);
+                quads++;
+                if (top < waterTop) {
+                    // Only cells that are lake throughout show water; any higher column would stick out of it
+                    out.quad(BlockType.WATER, Block.TOP, x1, waterTop, z1, x1, waterTop, z0, x0, waterTop, z0, x0, waterTop, z1);
+                    quads++;
+                }
+
+                int bottom = topAt(cellX + 1, cellZ);
+                if (bottom < top) {
+                    out.quad(BlockType.DIRT, Block.RIGHT, x1, top, z0, x1, top, z1, x1, bottom, z1, x1, bottom, z0);
+                    quads++;
+                }
+                bottom = topAt(cellX - 1, cellZ);
+                if (bottom < top) {
+                    out.quad(BlockType.DIRT, Block.LEFT, x0, top, z1, x0, top, z0, x0, bottom, z0, x0, bottom, z1);
+                    quads++;
+                }
+                bottom = topAt(cellX, cellZ + 1);
+                if (bottom < top) {
+                    out.quad(BlockType.DIRT, Block.FRONT, x0, bottom, z1, x1, bottom, z1, x1, top, z1, x0, top, z1);
+                    quads++;
+                }
+                bottom = topAt(cellX, cellZ - 1);
+                if (bottom < top) {
+                    out.quad(BlockType.DIRT, Block.BACK, x1, bottom, z0, x0, bottom, z0, x0, top, z0, x1, top, z0);
+                    quads++;
+                }
+            }
+        }
+        return quads;
+    }
+
+    /**
+     * Fills {@link #tops} with the top face height of every cell: one above
+     * the highest of its corner samples. One sample per cell corner keeps
+     * the cost of a tile independent of its level and leaves the height
+     * caches of chunk generation alone; taking the maximum keeps distant
+     * ridges from sinking below the terrain they stand in for.
+     */
+    private void sampleTops(LodTile tile) {
+        int step = tile.getCellSize();
+        generation.sampleHeights(tile.getMinChunkX() * Chunk.CHUNK_SIZE, tile.getMinChunkZ() * Chunk.CHUNK_SIZE,
+            step, CORNERS, heights);
+
+        for (int cellX = 0; cellX < LodTile.CELLS; cellX++) {
+            for (int cellZ = 0; cellZ < LodTile.CELLS; cellZ++) {
+                int i = cellX * CORNERS + cellZ;
+                int highest = Math.max(Math.max(heights[i], heights[i + 1]), Math.max(heights[i + CORNERS], heights[i + CORNERS + 1]));
+                tops[cellX * LodTile.CELLS + cellZ] = Math.min(highest, Chunk.CHUNK_HEIGHT - 1) + 1;
+            }
+        }
+    }
+
+    /**
+     * Gets the top of a cell, or 0 outside the tile so border cells get a skirt.
+     */
+    private int topAt(int cellX, int cellZ) {
+        if (cellX < 0 || cellX >= LodTile.CELLS || cellZ < 0 || cellZ >= LodTile.CELLS) return 0;
+        return tops[cellX * LodTile.CELLS + cellZ];
+    }
+}
@@ -0,0 +1,202 @@
+package io.github.some_example_name.chunk;
+
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.some_example_name.block.BlockAtlas;
+
+/**
+ * A square of {@code 2^level} by {@code 2^level} chunks drawn as a
+ * simplified heightmap surface instead of full-detail chunk meshes. Every
+ * tile has {@link #CELLS} by {@link #CELLS} cells of {@code 2^level} blocks,
+ * so its vertex count does not depend on its level while the area it covers
+ * grows fourfold per level. Tiles hold no block data, only their meshes;
+ * see {@link LodMesher}.
+ */
+public class LodTile implements Disposable {
+    /** The coarsest level, whose cells are 8 by 8 blocks. */
+    public static final int MAX_LEVEL = 3;
+    /** Cells along each side of a tile, at every level. */
+    public static final int CELLS = Chunk.CHUNK_SIZE;
+
+    private static final ThreadLocal<LodMesher> mesher = ThreadLocal.withInitial(() -> new LodMesher(Chunk.terrainGenerator));
+
+    private final int level;
+    private final int tileX;
+    private final int tileZ;
+    private final BoundingBox boundingBox = new BoundingBox();
+
+    private ModelInstance opaqueModel;
+    private ModelInstance translucentModel;
+    private int quadCount;
+    private boolean hasMesh;
+
+    /**
+     * @param level The level of detail, 0 for one-block cells up to {@link #MAX_LEVEL}
+     * @param tileX X coordinate in tiles of this level
+     * @param tileZ Z coordinate in tiles of this level
+     */
+    public LodTile(int level, int tileX, int tileZ) {
+        if (level < 0 || level > MAX_LEVEL) {
+            throw new IllegalArgumentException("LOD level " + level + " is outside 0.." + MAX_LEVEL);
+        }
+        this.level = level;
+        this.tileX = tileX;
+        this.tileZ = tileZ;
+    }
+
+    /**
+     * Runs the CPU stage of meshing. Touches no GL state and may be called
+     * from a worker thread.
+     *
+     * @param meshData Empty mesh data to fill, usually from {@link ChunkMeshData#obtain()}
+     */
+    public void buildMeshData(ChunkMeshData meshData) {
+        mesher.get().mesh(this, meshData);
+    }
+
+    /**
+     * Uploads previously built mesh data to the GPU, replacing the current
+     * mesh. Must run on the render thread. The mesh data is not retained.
+     *
+     * @param meshData The output of {@link #buildMeshData}
+     */
+    public void uploadMesh(ChunkMeshData meshData) {
+        disposeMesh();
+        BlockAtlas atlas = BlockAtlas.getInstance();
+        opaqueModel = createInstance(meshData, ChunkMeshData.OPAQUE, atlas.getMaterial());
+        translucentModel = createInstance(meshData, ChunkMeshData.TRANSLUCENT, atlas.getTranslucentMaterial());
+        quadCount = meshData.getQuadCount();
+
+        float originX = getMinChunkX() * Chunk.CHUNK_SIZE;
+        float originZ = getMinChunkZ() * Chunk.CHUNK_SIZE;
+        meshData.getBounds(boundingBox);
+        if (quadCount > 0) {
+            boundingBox.min.add(originX, 0, originZ);
+            boundingBox.max.add(originX, 0, originZ);
+            boundingBox.update();
+        }
+        hasMesh = true;
+    }
+
+    private ModelInstance createInstance(ChunkMeshData meshData, int layer, Material material) {
+        if (meshData.isEmpty(layer)) return null;
+
+        ModelInstance instance = new ModelInstance(Chunk.createModel(meshData.getParts(layer), material));
+        instance.transform.setToTranslation(getMinChunkX() * Chunk.CHUNK_SIZE, 0, getMinChunkZ() * Chunk.CHUNK_SIZE);
+        return instance;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getTileX() {
+        return tileX;
+    }
+
+    public int getTileZ() {
+        return tileZ;
+    }
+
+    /**
+     * Gets the number of chunks along each side of the tile.
+     *
+     * @return {@code 2^level}
+     */
+    public int getChunkSpan() {
+        return 1 << level;
+    }
+
+    /**
+     * Gets the edge length of one cell in blocks.
+     *
+     * @return {@code 2^level}
+     */
+    public int getCellSize() {
+        return 1 << level;
+    }
+
+    public int getMinChunkX() {
+        return tileX << level;
+    }
+
+    public int getMinChunkZ() {
+        return tileZ << level;
+    }
+
+    /**
+     * Gets the packed position of the tile among the tiles of its level.
+     *
+     * @return The tile coordinates packed by {@link ChunkPosition#pack(int, int)}
+     */
+    public long getKey() {
+        return ChunkPosition.pack(tileX, tileZ);
+    }
+
+    /**
+     * Checks whether a mesh has been uploaded. A tile without one draws nothing.
+     *
+     * @return True once {@link #uploadMesh} has run
+     */
+    public boolean hasMesh() {
+        return hasMesh;
+    }
+
+    public boolean hasGeometry() {
+        return quadCount > 0;
+    }
+
+    public int getQuadCount() {
+        return quadCount;
+    }
+
+    /**
+     * Gets the bounds of the tile's geometry in world space.
+     *
+     * @return The bounding box; invalid without geometry
+     */
+    public BoundingBox getBoundingBox() {
+        return boundingBox;
+    }
+
+    /**
+     * Submits the opaque layer for drawing. Culling and ordering are up to
+     * the caller.
+     */
+    public void renderOpaque(ModelBatch modelBatch, Environment environment) {
+        if (opaqueModel != null) modelBatch.render(opaqueModel, environment);
+    }
+
+    /**
+     * Submits the translucent layer for drawing. Must come after all opaque
+     * geometry, since it is blended without writing depth.
+     */
+    public void renderTranslucent(ModelBatch modelBatch, Environment environment) {
+        if (translucentModel != null) modelBatch.render(translucentModel, environment);
+    }
+
+    public void disposeMesh() {
+        disposeModel(opaqueModel);
+        disposeModel(translucentModel);
+        opaqueModel = null;
+        translucentModel = null;
+        quadCount = 0;
+        hasMesh = false;
+        boundingBox.inf();
+    }
+
+    private static void disposeModel(ModelInstance instance) {
+        if (instance != null && instance.model != null) {
+            instance.model.dispose();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposeMesh();
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.some_example_name.chunk;
+
+/**
+ * Selects how chunk geometry is generated.
+ */
+public enum MeshingMode {
+    /** One quad for every visible block face. */
+    PER_FACE,
+    /** Coplanar faces of the same block type merged into maximal rectangles. */
+    GREEDY
+}
@@ -0,0 +1,105 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+
+import java.util.Arrays;
+
+/**
+ * Records which faces of a chunk section can see each other through it:
+ * two faces are connected when a path of non-opaque blocks (AIR or
+ * translucent blocks) joins them. The result is a 6x6 bit matrix in a
+ * long, bit {@code from * 6 + to} for {@link Block} face constants.
+ * Computed by flood filling the section while it is meshed; rendering
+ * walks these connections to skip sections hidden behind terrain.
+ * Meant to be reused per thread.
+ */
+public class SectionVisibility {
+    /** No face sees any other, e.g. a section of solid rock. */
+    public static final long NONE = 0L;
+    /** Every face sees every other, e.g. a section of AIR. */
+    public static final long ALL = (1L << 36) - 1;
+
+    private static final int SIZE = ChunkSection.SIZE;
+    private static final int LAST = SIZE - 1;
+
+    private final int[] queue = new int[ChunkSection.VOLUME];
+    private final boolean[] visited = new boolean[ChunkSection.VOLUME];
+
+    /**
+     * Checks whether a section with the given visibility lets a line of
+     * sight entering through one face leave through another.
+     *
+     * @param visibility The section's visibility matrix
+     * @param from The face the view enters through
+     * @param to The face the view leaves through
+     * @return True if the faces are connected
+     */
+    public static boolean isConnected(long visibility, int from, int to) {
+        return (visibility & (1L << (from * 6 + to))) != 0;
+    }
+
+    /**
+     * Flood fills the non-opaque blocks of the center section of a
+     * neighborhood and connects the faces each open region touches.
+     *
+     * @param blocks The section being meshed
+     * @return The visibility matrix
+     */
+    public long compute(ChunkNeighborhood blocks) {
+        Arrays.fill(visited, false);
+        long visibility = NONE;
+
+        for (int start = 0; start < ChunkSection.VOLUME; start++) {
+            if (visited[start] || blocks.isOpaque(start & LAST, start >> 8, (start >> 4) & LAST)) continue;
+            visibility |= connect(fill(blocks, start));
+        }
+        return visibility;
+    }
+
+    /**
+     * Visits the open region containing a cell; cells are indexed
+     * {@code x | z << 4 | y << 8}.
+     *
+     * @return Bit mask of the faces the region touches, {@code 1 << face}
+     */
+    private int fill(ChunkNeighborhood blocks, int start) {
+        int faces = 0;
+        int head = 0;
+        int tail = 0;
+        visited[start] = true;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell & LAST;
+            int z = (cell >> 4) & LAST;
+            int y = cell >> 8;
+
+            if (x == LAST) faces |= 1 << Block.RIGHT; else tail = visit(blocks, cell + 1, x + 1, y, z, tail);
+            if (x == 0) faces |= 1 << Block.LEFT; else tail = visit(blocks, cell - 1, x - 1, y, z, tail);
+            if (y == LAST) faces |= 1 << Block.TOP; else tail = visit(blocks, cell + (1 << 8), x, y + 1, z, tail);
+            if (y == 0) faces |= 1 << Block.BOTTOM; else tail = visit(blocks, cell - (1 << 8), x, y - 1, z, tail);
+            if (z == LAST) faces |= 1 << Block.FRONT; else tail = visit(blocks, cell + (1 << 4), x, y, z + 1, tail);
+            if (z == 0) faces |= 1 << Block.BACK; else tail = visit(blocks, cell - (1 << 4), x, y, z - 1, tail);
+        }
+        return faces;
+    }
+
+    private int visit(ChunkNeighborhood blocks, int cell, int x, int y, int z, int tail) {
+        if (visited[cell] || blocks.isOpaque(x, y, z)) return tail;
+        visited[cell] = true;
+        queue[tail] = cell;
+        return tail + 1;
+    }
+
+    private static long connect(int faces) {
+        long visibility = NONE;
+        for (int from = Block.RIGHT; from <= Block.BACK; from++) {
+            if ((faces & (1 << from)) == 0) continue;
+            for (int to = Block.RIGHT; to <= Block.BACK; to++) {
+                if ((faces & (1 << to)) != 0) visibility |= 1L << (from * 6 + to);
+            }
+        }
+        return visibility;
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.some_example_name.debug;
+
+/**
+ * A per-frame count recorded by {@link FrameProfiler}.
+ */
+public enum FrameCounter {
+    /** Chunks whose full mesh was uploaded, built or restored from retained data. */
+    CHUNKS_MESHED("meshed"),
+    /** Vertices of all chunk meshes and edited sections uploaded. */
+    VERTICES_UPLOADED("vertices"),
+    /** GL draw calls of the world, without the HUD. */
+    DRAW_CALLS("draw_calls"),
+    /** Chunks in range and in view without a mesh, missing ones included; each frame one waits counts once. */
+    POP_IN_CHUNKS("pop_in");
+
+    private final String label;
+
+    FrameCounter(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the short name used in the HUD and in exported data.
+     *
+     * @return The label
+     */
+    public String getLabel() {
+        return label;
+    }
+}
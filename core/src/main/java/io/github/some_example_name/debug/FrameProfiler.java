@@ -0,0 +1,205 @@
+package io.github.some_example_name.debug;
+
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Low-overhead frame instrumentation. Subsystems wrap their work in
+ * {@link #start()} and {@link #stop} and report counts with {@link #count};
+ * {@link #endFrame()} moves the totals of the frame into a ring of the last
+ * {@value #HISTORY_FRAMES} frames per metric, from which percentiles are read
+ * and which can be exported as CSV or JSON. Timing costs two
+ * {@link System#nanoTime()} calls per span and nothing when disabled.
+ * All methods must be called from the render thread.
+ */
+public class FrameProfiler {
+    /** Frames kept per metric, about ten seconds at 60 FPS. */
+    public static final int HISTORY_FRAMES = 600;
+
+    private static final FrameTimer[] TIMERS = FrameTimer.values();
+    private static final FrameCounter[] COUNTERS = FrameCounter.values();
+    private static final double[] PERCENTILES = {50, 95, 99};
+    /** Created after the tables above, which the constructor reads. */
+    private static final FrameProfiler INSTANCE = new FrameProfiler();
+
+    private final SampleRing[] timerRings = new SampleRing[TIMERS.length];
+    private final SampleRing[] counterRings = new SampleRing[COUNTERS.length];
+    private final long[] frameNanos = new long[TIMERS.length];
+    private final long[] frameCounts = new long[COUNTERS.length];
+    private long lastFrameEnd;
+    private boolean enabled = true;
+
+    private FrameProfiler() {
+        for (int i = 0; i < TIMERS.length; i++) timerRings[i] = new SampleRing(HISTORY_FRAMES);
+        for (int i = 0; i < COUNTERS.length; i++) counterRings[i] = new SampleRing(HISTORY_FRAMES);
+    }
+
+    public static FrameProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts timing a span.
+     *
+     * @return The start time to pass to {@link #stop}, 0 while disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time since {@link #start()} to a timer of the current frame.
+     * A timer stopped several times in a frame records the sum.
+     *
+     * @param timer The timer to add to
+     * @param start The value returned by {@link #start()}
+     */
+    public void stop(FrameTimer timer, long start) {
+        if (!enabled || start == 0) return;
+        frameNanos[timer.ordinal()] += System.nanoTime() - start;
+    }
+
+    /**
+     * Adds to a counter of the current frame.
+     *
+     * @param counter The counter to add to
+     * @param amount The amount to add
+     */
+    public void count(FrameCounter counter, long amount) {
+        if (!enabled) return;
+        frameCounts[counter.ordinal()] += amount;
+    }
+
+    /**
+     * Records the totals of the current frame and starts the next one. The
+     * {@link FrameTimer#FRAME} time is measured from the previous call, so the
+     * first frame after enabling only sets the reference point.
+     */
+    public void endFrame() {
+        if (!enabled) return;
+
+        long now = System.nanoTime();
+        if (lastFrameEnd != 0) {
+            frameNanos[FrameTimer.FRAME.ordinal()] = now - lastFrameEnd;
+            for (int i = 0; i < TIMERS.length; i++) timerRings[i].add(frameNanos[i]);
+            for (int i = 0; i < COUNTERS.length; i++) counterRings[i].add(frameCounts[i]);
+        }
+        lastFrameEnd = now;
+        resetFrame();
+    }
+
+    private void resetFrame() {
+        for (int i = 0; i < TIMERS.length; i++) frameNanos[i] = 0;
+        for (int i = 0; i < COUNTERS.length; i++) frameCounts[i] = 0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables recording. The history is kept, but the partial
+     * frame in progress is discarded.
+     *
+     * @param enabled Whether to record
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        lastFrameEnd = 0;
+        resetFrame();
+    }
+
+    /**
+     * Gets the recorded frame times of one span.
+     *
+     * @param timer The span
+     * @return The ring of per-frame times in nanoseconds
+     */
+    public SampleRing getTimes(FrameTimer timer) {
+        return timerRings[timer.ordinal()];
+    }
+
+    /**
+     * Gets the recorded per-frame values of one counter.
+     *
+     * @param counter The counter
+     * @return The ring of per-frame counts
+     */
+    public SampleRing getCounts(FrameCounter counter) {
+        return counterRings[counter.ordinal()];
+    }
+
+    public int getFrameCount() {
+        return timerRings[0].size();
+    }
+
+    /**
+     * Writes the recorded frames as CSV, one row per frame from oldest to
+     * newest, with a column of nanoseconds per timer and one per counter.
+     *
+     * @param out The writer to append to; not closed
+     * @throws IOException If writing fails
+     */
+    public void writeCsv(Writer out) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (FrameTimer timer : TIMERS) line.append(timer.getLabel()).append("_ns,");
+        for (FrameCounter counter : COUNTERS) line.append(counter.getLabel()).append(',');
+        line.setLength(line.length() - 1);
+        out.write(line.append('\n').toString());
+
+        for (int frame = 0; frame < getFrameCount(); frame++) {
+            line.setLength(0);
+            for (SampleRing ring : timerRings) line.append(ring.get(frame)).append(',');
+            for (SampleRing ring : counterRings) line.append(ring.get(frame)).append(',');
+            line.setLength(line.length() - 1);
+            out.write(line.append('\n').toString());
+        }
+    }
+
+    /**
+     * Writes the recorded frames as JSON: for every timer and counter its
+     * p50, p95, p99 and max, followed by the samples from oldest to newest.
+     * Times are in nanoseconds.
+     *
+     * @param out The writer to append to; not closed
+     * @throws IOException If writing fails
+     */
+    public void writeJson(Writer out) throws IOException {
+        JsonWriter json = new JsonWriter(out);
+        json.setOutputType(JsonWriter.OutputType.json);
+        json.object();
+        json.set("frames", getFrameCount());
+        json.object("timers");
+        for (FrameTimer timer : TIMERS) writeRing(json, timer.getLabel(), getTimes(timer));
+        json.pop();
+        json.object("counters");
+        for (FrameCounter counter : COUNTERS) writeRing(json, counter.getLabel(), getCounts(counter));
+        json.pop();
+        json.pop();
+        json.flush();
+    }
+
+    private static void writeRing(JsonWriter json, String name, SampleRing ring) throws IOException {
+        json.object(name);
+        for (double percentile : PERCENTILES) {
+            json.set("p" + (int) percentile, ring.getPercentile(percentile));
+        }
+        json.set("max", ring.getMax());
+        json.array("samples");
+        for (int i = 0; i < ring.size(); i++) json.value(ring.get(i));
+        json.pop();
+        json.pop();
+    }
+
+    /**
+     * Drops the recorded history.
+     */
+    public void clear() {
+        for (SampleRing ring : timerRings) ring.clear();
+        for (SampleRing ring : counterRings) ring.clear();
+        lastFrameEnd = 0;
+        resetFrame();
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.some_example_name.debug;
+
+/**
+ * A span of the frame timed by {@link FrameProfiler}.
+ */
+public enum FrameTimer {
+    /** Wall-clock time between two ends of frames, including vsync and buffer swaps. */
+    FRAME("frame"),
+    /** Input handling and camera movement. */
+    CAMERA_MOVEMENT("camera"),
+    /** Scanning the chunks in range and queueing generation. */
+    FIND_VISIBLE_CHUNKS("visible"),
+    /** Queueing mesh builds and uploading finished meshes. */
+    BUILD_CHUNK_MESHES("mesh"),
+    /** Culling, sorting and submitting chunk and LOD draws. */
+    RENDER_VISIBLE_CHUNKS("render"),
+    /** Cancelling stale work and evicting meshes and chunk data. */
+    UNLOAD_DISTANT_CHUNKS("unload");
+
+    private final String label;
+
+    FrameTimer(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the short name used in the HUD and in exported data.
+     *
+     * @return The label
+     */
+    public String getLabel() {
+        return label;
+    }
+}
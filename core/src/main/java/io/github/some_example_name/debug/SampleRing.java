@@ -0,0 +1,77 @@
+package io.github.some_example_name.debug;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring of the most recent per-frame samples of one metric, with
+ * percentiles over the samples it holds. Adding a sample never allocates;
+ * percentiles sort a scratch copy, which is reused until the next sample.
+ */
+public class SampleRing {
+    private final long[] samples;
+    private final long[] sorted;
+    private int next;
+    private int size;
+    private boolean sortedValid;
+
+    /**
+     * @param capacity Number of samples kept; older ones are overwritten
+     * @throws IllegalArgumentException If the capacity is not positive
+     */
+    public SampleRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Sample ring capacity must be positive, got " + capacity);
+        }
+        this.samples = new long[capacity];
+        this.sorted = new long[capacity];
+    }
+
+    public void add(long sample) {
+        samples[next] = sample;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) size++;
+        sortedValid = false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets a sample by age.
+     *
+     * @param index 0 for the oldest sample held, up to {@link #size()} - 1 for the newest
+     * @return The sample
+     */
+    public long get(int index) {
+        int oldest = size < samples.length ? 0 : next;
+        return samples[(oldest + index) % samples.length];
+    }
+
+    /**
+     * Gets the nearest-rank percentile of the samples held.
+     *
+     * @param percentile 0 to 100
+     * @return The smallest sample that at least that share of samples does not exceed, 0 without samples
+     */
+    public long getPercentile(double percentile) {
+        if (size == 0) return 0;
+        if (!sortedValid) {
+            System.arraycopy(samples, 0, sorted, 0, size);
+            Arrays.sort(sorted, 0, size);
+            sortedValid = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return sorted[Math.max(0, Math.min(size, rank) - 1)];
+    }
+
+    public long getMax() {
+        return getPercentile(100);
+    }
+
+    public void clear() {
+        next = 0;
+        size = 0;
+        sortedValid = false;
+    }
+}
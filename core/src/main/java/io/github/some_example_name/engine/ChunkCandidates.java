@@ -0,0 +1,78 @@
+package io.github.some_example_name.engine;
+
+import io.github.some_example_name.chunk.Chunk;
+
+import java.util.Arrays;
+
+/**
+ * Chunks collected during one frame's scan, to be queued for generation or
+ * meshing in priority order. Entries are ranked by sorting packed
+ * priority-index pairs, so collecting and sorting never allocate once the
+ * buffers have grown to the largest frame.
+ */
+class ChunkCandidates {
+    private long[] keys = new long[256];
+    private Chunk[] chunks = new Chunk[256];
+    private long[] order = new long[256];
+    private int size;
+
+    /**
+     * Adds a candidate.
+     *
+     * @param key The packed chunk position
+     * @param chunk The chunk, or null for a chunk that is not loaded yet
+     * @param priority Lower values come first; must not be negative
+     */
+    void add(long key, Chunk chunk, int priority) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+            order = Arrays.copyOf(order, capacity);
+        }
+        keys[size] = key;
+        chunks[size] = chunk;
+        order[size] = (long) priority << 32 | size;
+        size++;
+    }
+
+    /**
+     * Ranks the candidates by priority; ties keep the order they were added in.
+     */
+    void sort() {
+        Arrays.sort(order, 0, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param rank 0 for the most urgent candidate after {@link #sort()}; the insertion index before
+     * @return The packed chunk position
+     */
+    long getKey(int rank) {
+        return keys[(int) order[rank]];
+    }
+
+    /**
+     * @param rank 0 for the most urgent candidate after {@link #sort()}; the insertion index before
+     * @return The priority it was added with
+     */
+    int getPriority(int rank) {
+        return (int) (order[rank] >>> 32);
+    }
+
+    /**
+     * @param rank 0 for the most urgent candidate after {@link #sort()}; the insertion index before
+     * @return The chunk, or null if it was added without one
+     */
+    Chunk getChunk(int rank) {
+        return chunks[(int) order[rank]];
+    }
+
+    void clear() {
+        Arrays.fill(chunks, 0, size, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.some_example_name.engine;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkPosition;
+import io.github.some_example_name.storage.WorldStorage;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads or generates chunk terrain on demand on a fork-join pool.
+ * Chunks found in the world storage are loaded from disk; all others are
+ * generated and marked dirty so they get saved.
+ * Requests wait in a priority queue ordered by distance to the camera at the
+ * time they were made; each pool task pulls the nearest outstanding request,
+ * so close chunks are generated first regardless of submission order.
+ * All public methods must be called from the render thread.
+ */
+public class ChunkGenerator implements Disposable {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+
+    private final ForkJoinPool pool;
+    private final WorldStorage storage;
+    private final PriorityBlockingQueue<GenerationRequest> requests = new PriorityBlockingQueue<>();
+    private final LongMap<GenerationRequest> pendingRequests = new LongMap<>();
+    private final ConcurrentLinkedQueue<GenerationRequest> completedRequests = new ConcurrentLinkedQueue<>();
+
+    /**
+     * A request to generate the terrain of one chunk.
+     */
+    private static class GenerationRequest implements Comparable<GenerationRequest> {
+        private final long key;
+        private final int priority;
+        private volatile boolean cancelled;
+        private Chunk chunk;
+
+        private GenerationRequest(long key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(GenerationRequest other) {
+            return Integer.compare(priority, other.priority);
+        }
+    }
+
+    /**
+     * @param parallelism Number of worker threads
+     * @param storage Storage to load chunks from, or null to always generate
+     */
+    public ChunkGenerator(int parallelism, WorldStorage storage) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.storage = storage;
+    }
+
+    /**
+     * Requests generation of a chunk unless it is already pending.
+     *
+     * @param key The packed chunk position, see {@link ChunkPosition#pack(int, int)}
+     * @param priority Lower values are generated first, e.g. squared distance to the camera
+     */
+    public void request(long key, int priority) {
+        if (pendingRequests.containsKey(key)) return;
+
+        GenerationRequest request = new GenerationRequest(key, priority);
+        pendingRequests.put(key, request);
+        requests.add(request);
+        pool.execute(this::generateNext);
+    }
+
+    private void generateNext() {
+        GenerationRequest request = requests.poll();
+        while (request != null && request.cancelled) {
+            request = requests.poll();
+        }
+        if (request == null) return;
+
+        Chunk chunk = new Chunk(ChunkPosition.unpackX(request.key), ChunkPosition.unpackZ(request.key));
+        if (storage == null || !storage.load(chunk)) {
+            chunk.generateTerrain();
+            chunk.markDirty();
+        }
+        request.chunk = chunk;
+
+        if (!request.cancelled) completedRequests.add(request);
+    }
+
+    public boolean isPending(long key) {
+        return pendingRequests.containsKey(key);
+    }
+
+    /**
+     * Cancels every pending request further than the given Chebyshev
+     * distance from the center chunk.
+     *
+     * @param centerX Center chunk X coordinate
+     * @param centerZ Center chunk Z coordinate
+     * @param distance Maximum distance in chunks
+     */
+    public void cancelOutside(int centerX, int centerZ, int distance) {
+        LongMap.Entries<GenerationRequest> entries = pendingRequests.entries();
+        while (entries.hasNext()) {
+            LongMap.Entry<GenerationRequest> entry = entries.next();
+            int x = ChunkPosition.unpackX(entry.key);
+            int z = ChunkPosition.unpackZ(entry.key);
+            if (Math.abs(x - centerX) > distance || Math.abs(z - centerZ) > distance) {
+                GenerationRequest request = entry.value;
+                request.cancelled = true;
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * Moves every finished chunk into the given map.
+     *
+     * @param chunks The map of loaded chunks
+     * @param added Receives the chunks added by this call; cleared first
+     * @return The number of chunks added
+     */
+    public int drainCompleted(LongMap<Chunk> chunks, Array<Chunk> added) {
+        added.clear();
+        GenerationRequest request;
+        while ((request = completedRequests.poll()) != null) {
+            if (request.cancelled || pendingRequests.get(request.key) != request) continue;
+
+            pendingRequests.remove(request.key);
+            chunks.put(request.key, request.chunk);
+            added.add(request.chunk);
+        }
+        return added.size;
+    }
+
+    public int getPendingCount() {
+        return pendingRequests.size;
+    }
+
+    @Override
+    public void dispose() {
+        pool.shutdownNow();
+        try {
+            // Running tasks may still be reading from the storage
+            pool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        requests.clear();
+        pendingRequests.clear();
+        completedRequests.clear();
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.some_example_name.engine;
+
+import com.badlogic.gdx.utils.LongMap;
+import io.github.some_example_name.chunk.Chunk;
+
+import java.util.Arrays;
+
+/**
+ * Chunks waiting to be meshed, most urgent first. The queue is a binary
+ * min-heap that persists across frames, so a chunk is ranked once when it
+ * is queued instead of every frame. When the camera enters another chunk
+ * or turns, {@link #reprioritize} ranks every entry again and restores the
+ * heap in linear time. Entries are not removed when their chunk stops
+ * needing a mesh; callers skip those as they come up. All methods must be
+ * called from the render thread.
+ */
+class ChunkLoadQueue {
+    private Chunk[] heap = new Chunk[256];
+    private int[] priorities = new int[256];
+    private int size;
+    /** The chunk queued per position; a chunk reloaded since it was queued does not match. */
+    private final LongMap<Chunk> queued = new LongMap<>();
+
+    /**
+     * Checks whether this chunk object is queued.
+     *
+     * @param chunk The chunk
+     * @return True if it is waiting in the queue
+     */
+    boolean contains(Chunk chunk) {
+        return queued.get(chunk.getKey()) == chunk;
+    }
+
+    /**
+     * Queues a chunk. Does nothing if it is already queued.
+     *
+     * @param chunk The chunk
+     * @param priority Lower values come first, see {@link ChunkStreamer#getPriority}
+     */
+    void add(Chunk chunk, int priority) {
+        if (contains(chunk)) return;
+
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+            priorities = Arrays.copyOf(priorities, size * 2);
+        }
+        queued.put(chunk.getKey(), chunk);
+        heap[size] = chunk;
+        priorities[size] = priority;
+        siftUp(size++);
+    }
+
+    /**
+     * Gets the priority of the chunk {@link #poll()} returns next.
+     *
+     * @return The priority, or {@link Integer#MAX_VALUE} if the queue is empty
+     */
+    int peekPriority() {
+        return size > 0 ? priorities[0] : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Removes the most urgent chunk.
+     *
+     * @return The chunk, or null if the queue is empty
+     */
+    Chunk poll() {
+        if (size == 0) return null;
+
+        Chunk top = heap[0];
+        if (queued.get(top.getKey()) == top) queued.remove(top.getKey());
+        size--;
+        heap[0] = heap[size];
+        priorities[0] = priorities[size];
+        heap[size] = null;
+        if (size > 0) siftDown(0);
+        return top;
+    }
+
+    /**
+     * Ranks every queued chunk against the current camera and drops those
+     * that moved out of range.
+     *
+     * @param camChunkX Chunk X coordinate of the camera
+     * @param camChunkZ Chunk Z coordinate of the camera
+     * @param radius Radius in chunks beyond which entries are dropped, see {@link RenderArea}
+     * @param streamer Ranks the chunks
+     */
+    void reprioritize(int camChunkX, int camChunkZ, int radius, ChunkStreamer streamer) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Chunk chunk = heap[i];
+            int dx = chunk.getChunkX() - camChunkX;
+            int dz = chunk.getChunkZ() - camChunkZ;
+            if (!RenderArea.contains(dx, dz, radius)) {
+                if (queued.get(chunk.getKey()) == chunk) queued.remove(chunk.getKey());
+                continue;
+            }
+            heap[kept] = chunk;
+            priorities[kept] = ChunkStreamer.getPriority(dx, dz, streamer.isInFrustum(chunk.getChunkX(), chunk.getChunkZ()));
+            kept++;
+        }
+        Arrays.fill(heap, kept, size, null);
+        size = kept;
+
+        // Floyd's heap construction; cheaper than sorting and than re-adding each entry
+        for (int i = size / 2 - 1; i >= 0; i--) siftDown(i);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+        queued.clear();
+    }
+
+    private void siftUp(int index) {
+        Chunk chunk = heap[index];
+        int priority = priorities[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) break;
+            heap[index] = heap[parent];
+            priorities[index] = priorities[parent];
+            index = parent;
+        }
+        heap[index] = chunk;
+        priorities[index] = priority;
+    }
+
+    private void siftDown(int index) {
+        Chunk chunk = heap[index];
+        int priority = priorities[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && priorities[child + 1] < priorities[child]) child++;
+            if (priority <= priorities[child]) break;
+            heap[index] = heap[child];
+            priorities[index] = priorities[child];
+            index = child;
+        }
+        heap[index] = chunk;
+        priorities[index] = priority;
+    }
+}
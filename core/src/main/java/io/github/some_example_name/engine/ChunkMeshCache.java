@@ -0,0 +1,371 @@
+package io.github.some_example_name.engine;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkMeshData;
+
+import java.util.Comparator;
+
+/**
+ * Keeps the GPU meshes of chunks that left the render distance until their
+ * total size exceeds a byte budget, so moving back and forth does not
+ * dispose and rebuild the same meshes. Over budget, meshes of chunks out
+ * of range are evicted in the order of the {@link MeshEvictionPolicy}.
+ * <p>
+ * Evicted meshes can optionally be kept as CPU-side vertex data under a
+ * second budget. A chunk that comes back into range is then uploaded from
+ * that data instead of being remeshed, as long as neither its blocks nor
+ * its set of neighbors changed in between; the oldest data is dropped
+ * first. All methods must be called from the render thread.
+ */
+public class ChunkMeshCache {
+    /** Default budget for GPU meshes. */
+    public static final long DEFAULT_BUDGET_BYTES = 256L * 1024 * 1024;
+
+    private static final Comparator<Entry> LEAST_RECENTLY_USED = (a, b) -> Integer.compare(a.lastUsedFrame, b.lastUsedFrame);
+    private static final Comparator<Entry> FARTHEST = (a, b) -> Integer.compare(b.distance, a.distance);
+
+    private final ChunkMeshPipeline meshPipeline;
+    private final LongMap<Entry> resident = new LongMap<>();
+    private final LongMap<Retained> retained = new LongMap<>();
+    /** The values of {@link #retained}, oldest first. */
+    private final Array<Retained> retainedOrder = new Array<>();
+    private final Array<Entry> candidates = new Array<>(false, 64);
+
+    private long budgetBytes = DEFAULT_BUDGET_BYTES;
+    private long retainedBudgetBytes;
+    private MeshEvictionPolicy policy = MeshEvictionPolicy.LEAST_RECENTLY_USED;
+    private long residentBytes;
+    private long retainedBytes;
+    private int frame;
+
+    private long residentHits;
+    private long retainedHits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * A chunk with GPU meshes.
+     */
+    private static class Entry {
+        private final Chunk chunk;
+        private long bytes;
+        /** The last frame the chunk was within the render distance. */
+        private int lastUsedFrame;
+        /** Chebyshev distance in chunks to the camera, set while picking eviction candidates. */
+        private int distance;
+
+        private Entry(Chunk chunk) {
+            this.chunk = chunk;
+        }
+    }
+
+    /**
+     * CPU-side copy of an evicted chunk's meshes.
+     */
+    private static class Retained {
+        private final long key;
+        private final int neighborMask;
+        private final ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
+        private long bytes;
+
+        private Retained(long key, int neighborMask) {
+            this.key = key;
+            this.neighborMask = neighborMask;
+        }
+    }
+
+    /**
+     * @param meshPipeline The pipeline meshing the cached chunks, to tell
+     *                     whether a mesh is about to be replaced
+     */
+    public ChunkMeshCache(ChunkMeshPipeline meshPipeline) {
+        this.meshPipeline = meshPipeline;
+    }
+
+    /**
+     * Starts a frame. Chunks not {@link #touch touched} during it count as out of range.
+     */
+    void beginFrame() {
+        frame++;
+    }
+
+    /**
+     * Records an upload, full or partial, so the cache tracks the chunk's
+     * current mesh size.
+     *
+     * @param chunk The chunk whose mesh was uploaded
+     */
+    void onUploaded(Chunk chunk) {
+        if (!chunk.hasMesh()) return;
+
+        Entry entry = resident.get(chunk.getKey());
+        if (entry == null) {
+            entry = new Entry(chunk);
+            resident.put(chunk.getKey(), entry);
+        }
+        residentBytes -= entry.bytes;
+        entry.bytes = chunk.getMeshBytes();
+        residentBytes += entry.bytes;
+        entry.lastUsedFrame = frame;
+    }
+
+    /**
+     * Marks a meshed chunk as within the render distance this frame. A chunk
+     * that was out of range in the previous frame counts as a hit, since its
+     * mesh did not have to be rebuilt.
+     *
+     * @param chunk A chunk with a mesh
+     */
+    void touch(Chunk chunk) {
+        Entry entry = resident.get(chunk.getKey());
+        if (entry == null) return;
+
+        if (entry.lastUsedFrame < frame - 1) residentHits++;
+        entry.lastUsedFrame = frame;
+    }
+
+    /**
+     * Uploads a chunk that has no mesh from its retained data, if there is
+     * any and it was built with the same neighbors. Stale data is dropped,
+     * and the chunk is left to be meshed, which the caller counts with
+     * {@link #countMiss}.
+     *
+     * @param chunk A chunk without a mesh that is about to be meshed
+     * @param neighborMask Bit mask of the neighbors it would be meshed with, {@code 1 << face}
+     * @return True if the chunk was uploaded and needs no meshing
+     */
+    boolean restore(Chunk chunk, int neighborMask) {
+        Retained data = retained.remove(chunk.getKey());
+        if (data != null) retainedOrder.removeValue(data, true);
+
+        boolean valid = data != null && data.neighborMask == neighborMask;
+        if (valid) {
+            chunk.uploadMesh(data.sectionData);
+            onUploaded(chunk);
+            retainedHits++;
+        }
+        if (data != null) release(data);
+        return valid;
+    }
+
+    /**
+     * Counts a chunk whose mesh is built from its blocks because the cache
+     * could not provide it.
+     */
+    void countMiss() {
+        misses++;
+    }
+
+    /**
+     * Checks whether an evicted mesh of a chunk is held as CPU-side data.
+     *
+     * @param key The packed chunk position
+     * @return True if {@link #restore} may upload it
+     */
+    boolean isRetained(long key) {
+        return retained.containsKey(key);
+    }
+
+    /**
+     * Drops the retained data of a chunk, e.g. because its blocks changed.
+     *
+     * @param key The packed chunk position
+     */
+    void discardRetained(long key) {
+        Retained data = retained.remove(key);
+        if (data == null) return;
+
+        retainedOrder.removeValue(data, true);
+        release(data);
+    }
+
+    /**
+     * Evicts meshes of chunks not touched this frame until the cache is
+     * within its budget. Chunks in range are never evicted, so the cache
+     * stays over budget when they alone exceed it.
+     *
+     * @param camChunkX Chunk X coordinate of the camera
+     * @param camChunkZ Chunk Z coordinate of the camera
+     * @return The number of chunks evicted
+     */
+    int evict(int camChunkX, int camChunkZ) {
+        if (residentBytes <= budgetBytes) return 0;
+
+        candidates.clear();
+        for (Entry entry : resident.values()) {
+            if (entry.lastUsedFrame == frame) continue;
+            entry.distance = Math.max(Math.abs(entry.chunk.getChunkX() - camChunkX), Math.abs(entry.chunk.getChunkZ() - camChunkZ));
+            candidates.add(entry);
+        }
+        candidates.sort(policy == MeshEvictionPolicy.FARTHEST ? FARTHEST : LEAST_RECENTLY_USED);
+
+        int evicted = 0;
+        for (int i = 0; i < candidates.size && residentBytes > budgetBytes; i++) {
+            evict(candidates.get(i));
+            evicted++;
+        }
+        candidates.clear();
+        return evicted;
+    }
+
+    /**
+     * Evicts the mesh of one chunk regardless of the budget, because its
+     * block data is about to be dropped. The mesh may still be retained as
+     * CPU-side data, which stays valid for the same blocks loaded again.
+     *
+     * @param chunk The chunk whose mesh to evict
+     * @return True if the chunk had a mesh in the cache
+     */
+    boolean evict(Chunk chunk) {
+        Entry entry = resident.get(chunk.getKey());
+        if (entry == null) return false;
+
+        evict(entry);
+        return true;
+    }
+
+    private void evict(Entry entry) {
+        Chunk chunk = entry.chunk;
+        resident.remove(chunk.getKey());
+        residentBytes -= entry.bytes;
+        evictions++;
+
+        // A mesh that is out of date or about to be replaced is not worth keeping
+        boolean current = !chunk.needsMesh() && !chunk.hasDirtySections() && !meshPipeline.isPending(chunk.getKey());
+        if (retainedBudgetBytes > 0 && current && entry.bytes <= retainedBudgetBytes) {
+            Retained data = new Retained(chunk.getKey(), chunk.getMeshNeighborMask());
+            chunk.copyMeshData(data.sectionData);
+            data.bytes = entry.bytes;
+            retained.put(data.key, data);
+            retainedOrder.add(data);
+            retainedBytes += data.bytes;
+            trimRetained();
+        }
+        chunk.disposeMesh();
+    }
+
+    private void trimRetained() {
+        while (retainedBytes > retainedBudgetBytes && retainedOrder.notEmpty()) {
+            Retained oldest = retainedOrder.removeIndex(0);
+            retained.remove(oldest.key);
+            release(oldest);
+        }
+    }
+
+    private void release(Retained data) {
+        retainedBytes -= data.bytes;
+        ChunkMeshData.freeAll(data.sectionData);
+    }
+
+    /**
+     * Sets the byte budget of GPU meshes. Takes effect at the next eviction.
+     *
+     * @param budgetBytes The budget in bytes of vertex and index data
+     */
+    public void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Sets the byte budget of CPU-side copies of evicted meshes. Zero, the
+     * default, disposes evicted meshes without keeping a copy.
+     *
+     * @param retainedBudgetBytes The budget in bytes of vertex and index data
+     */
+    public void setRetainedBudgetBytes(long retainedBudgetBytes) {
+        this.retainedBudgetBytes = retainedBudgetBytes;
+        trimRetained();
+    }
+
+    public long getRetainedBudgetBytes() {
+        return retainedBudgetBytes;
+    }
+
+    public MeshEvictionPolicy getEvictionPolicy() {
+        return policy;
+    }
+
+    public void setEvictionPolicy(MeshEvictionPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Gets the vertex and index bytes of all GPU meshes.
+     *
+     * @return The resident mesh size in bytes
+     */
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public int getResidentChunkCount() {
+        return resident.size;
+    }
+
+    /**
+     * Gets the vertex and index bytes kept for evicted meshes.
+     *
+     * @return The retained data size in bytes
+     */
+    public long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    public int getRetainedChunkCount() {
+        return retained.size;
+    }
+
+    /**
+     * Gets how often a chunk came back into range with its GPU mesh still resident.
+     *
+     * @return The number of resident hits
+     */
+    public long getResidentHits() {
+        return residentHits;
+    }
+
+    /**
+     * Gets how often a chunk without a mesh was uploaded from retained data.
+     *
+     * @return The number of retained hits
+     */
+    public long getRetainedHits() {
+        return retainedHits;
+    }
+
+    /**
+     * Gets how often a chunk was queued for a full mesh build from its
+     * blocks, whether it never had a mesh, its mesh was evicted without
+     * retained data, or its retained data was stale.
+     *
+     * @return The number of misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Forgets every chunk and frees all retained data. Meshes are left to
+     * their chunks to dispose.
+     */
+    void clear() {
+        for (int i = 0; i < retainedOrder.size; i++) {
+            ChunkMeshData.freeAll(retainedOrder.get(i).sectionData);
+        }
+        retained.clear();
+        retainedOrder.clear();
+        resident.clear();
+        residentBytes = 0;
+        retainedBytes = 0;
+    }
+}
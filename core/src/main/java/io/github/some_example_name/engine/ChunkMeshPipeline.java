@@ -0,0 +1,191 @@
+package io.github.some_example_name.engine;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkMeshData;
+import io.github.some_example_name.chunk.MeshingMode;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Two-stage chunk meshing pipeline.
+ * The CPU stage builds vertex and index arrays on a pool of worker threads;
+ * the GPU stage uploads finished results on the render thread under a
+ * per-frame time budget. All public methods must be called from the render thread.
+ */
+public class ChunkMeshPipeline implements Disposable {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final ExecutorService workers;
+    private final LongMap<MeshJob> pendingJobs = new LongMap<>();
+    private final ConcurrentLinkedQueue<MeshJob> completedJobs = new ConcurrentLinkedQueue<>();
+
+    /**
+     * A single CPU-stage meshing job for some or all sections of one chunk.
+     */
+    private class MeshJob implements Runnable {
+        private final long key;
+        private final Chunk chunk;
+        private final Chunk[] neighbors;
+        private final int sectionMask;
+        /** Read on the render thread when queued, so workers never see the global change mid-job. */
+        private final MeshingMode mode;
+        private volatile boolean cancelled;
+        private volatile boolean started;
+        private Future<?> future;
+        private final ChunkMeshData[] results = new ChunkMeshData[Chunk.SECTION_COUNT];
+
+        private MeshJob(Chunk chunk, Chunk[] neighbors, int sectionMask) {
+            this.key = chunk.getKey();
+            this.chunk = chunk;
+            this.neighbors = neighbors.clone();
+            this.sectionMask = sectionMask;
+            this.mode = Chunk.getMeshingMode();
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) return;
+
+            started = true;
+            chunk.buildMeshData(results, neighbors, sectionMask, mode);
+            if (cancelled) {
+                ChunkMeshData.freeAll(results);
+                return;
+            }
+            completedJobs.add(this);
+        }
+    }
+
+    public ChunkMeshPipeline(int workerThreads) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "chunk-mesher-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues every section of a chunk for meshing unless a job that covers
+     * them has not started yet.
+     *
+     * @param chunk The chunk to mesh
+     * @param neighbors Neighbor chunks indexed by face constant, copied by the job; entries may be null
+     */
+    public void submit(Chunk chunk, Chunk[] neighbors) {
+        submit(chunk, neighbors, Chunk.ALL_SECTIONS);
+    }
+
+    /**
+     * Queues sections of a chunk for meshing. A job for the chunk that has
+     * not started yet and already covers the sections is left alone, since
+     * it will read the current blocks. Any other in-flight job is replaced
+     * by one covering the sections of both, so edits made after it read
+     * the chunk are not lost.
+     *
+     * @param chunk The chunk to mesh
+     * @param neighbors Neighbor chunks indexed by face constant, copied by the job; entries may be null
+     * @param sectionMask The sections to mesh, {@code 1 << index}
+     */
+    public void submit(Chunk chunk, Chunk[] neighbors, int sectionMask) {
+        MeshJob pending = pendingJobs.get(chunk.getKey());
+        if (pending != null) {
+            if (!pending.started && (pending.sectionMask | sectionMask) == pending.sectionMask) return;
+            sectionMask |= pending.sectionMask;
+            cancel(pending.key);
+        }
+
+        MeshJob job = new MeshJob(chunk, neighbors, sectionMask);
+        pendingJobs.put(job.key, job);
+        job.future = workers.submit(job);
+    }
+
+    public boolean isPending(long key) {
+        return pendingJobs.containsKey(key);
+    }
+
+    /**
+     * Cancels the in-flight job for a chunk, if any. A job that has already
+     * finished its CPU stage is discarded instead of uploaded.
+     *
+     * @param key The packed chunk position
+     */
+    public void cancel(long key) {
+        MeshJob job = pendingJobs.remove(key);
+        if (job == null) return;
+
+        job.cancelled = true;
+        job.future.cancel(false);
+    }
+
+    /**
+     * Cancels every in-flight job whose chunk lies further than the given
+     * Chebyshev distance from the center chunk, flagging the chunk's mesh
+     * as out of date.
+     *
+     * @param centerX Center chunk X coordinate
+     * @param centerZ Center chunk Z coordinate
+     * @param distance Maximum distance in chunks
+     */
+    public void cancelOutside(int centerX, int centerZ, int distance) {
+        LongMap.Values<MeshJob> jobs = pendingJobs.values();
+        while (jobs.hasNext()) {
+            MeshJob job = jobs.next();
+            if (Math.abs(job.chunk.getChunkX() - centerX) > distance || Math.abs(job.chunk.getChunkZ() - centerZ) > distance) {
+                // The chunk still needs the mesh it was queued for once it comes back into range
+                job.chunk.markMeshDirty();
+                job.cancelled = true;
+                job.future.cancel(false);
+                jobs.remove();
+            }
+        }
+    }
+
+    /**
+     * Uploads completed meshes until the time budget is spent.
+     * At least one mesh is uploaded per call when one is ready.
+     *
+     * @param budgetMillis Time budget for this frame in milliseconds
+     * @param uploaded Receives the chunks uploaded by this call; cleared first
+     * @return The number of chunks uploaded
+     */
+    public int uploadCompleted(float budgetMillis, Array<Chunk> uploaded) {
+        long start = System.nanoTime();
+        long budgetNanos = (long) (budgetMillis * NANOS_PER_MILLI);
+        uploaded.clear();
+
+        while (System.nanoTime() - start < budgetNanos) {
+            MeshJob job = completedJobs.poll();
+            if (job == null) break;
+            if (job.cancelled || pendingJobs.get(job.key) != job) {
+                ChunkMeshData.freeAll(job.results);
+                continue;
+            }
+
+            pendingJobs.remove(job.key);
+            job.chunk.uploadMesh(job.results, job.sectionMask);
+            ChunkMeshData.freeAll(job.results);
+            uploaded.add(job.chunk);
+        }
+
+        return uploaded.size;
+    }
+
+    public int getPendingCount() {
+        return pendingJobs.size;
+    }
+
+    @Override
+    public void dispose() {
+        workers.shutdownNow();
+        pendingJobs.clear();
+        completedJobs.clear();
+    }
+}
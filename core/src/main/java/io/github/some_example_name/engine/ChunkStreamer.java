@@ -0,0 +1,150 @@
+package io.github.some_example_name.engine;
+
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import io.github.some_example_name.chunk.Chunk;
+
+/**
+ * Predicts where the camera is heading and ranks chunks for loading.
+ * The horizontal velocity is measured over the camera positions of the last
+ * few frames and extrapolated {@value #LOOKAHEAD_SECONDS} seconds ahead, so
+ * chunks along the path can be generated and meshed before they come into
+ * range. Chunks in the view frustum rank before chunks behind the camera,
+ * nearer chunks before farther ones. Rankings only change when the camera
+ * enters another chunk or turns by more than {@value #RERANK_ANGLE}
+ * degrees, which {@link #getViewRevision()} tells apart.
+ * All methods must be called from the render thread.
+ */
+class ChunkStreamer {
+    /** How far ahead the path is predicted, about the time to generate and mesh a ring of chunks. */
+    static final float LOOKAHEAD_SECONDS = 2f;
+    /** Limit on how far the predicted position leads the camera, which bounds the prefetched area. */
+    static final int MAX_LEAD_CHUNKS = 4;
+
+    private static final int HISTORY_FRAMES = 32;
+    /** Span of history the velocity is measured over; short enough to follow turns, long enough to smooth frame jitter. */
+    private static final long VELOCITY_WINDOW_NANOS = 250_000_000L;
+    private static final float NANOS_PER_SECOND = 1_000_000_000f;
+    /** Priority multiplier for chunks outside the view frustum. */
+    private static final int OUTSIDE_FRUSTUM_PENALTY = 4;
+    /** Turn in degrees after which chunks are ranked against the frustum again. */
+    private static final float RERANK_ANGLE = 15f;
+    private static final float COS_RERANK_ANGLE = MathUtils.cosDeg(RERANK_ANGLE);
+
+    private final float[] historyX = new float[HISTORY_FRAMES];
+    private final float[] historyZ = new float[HISTORY_FRAMES];
+    private final long[] historyNanos = new long[HISTORY_FRAMES];
+    private int next;
+    private int size;
+    private float velocityX;
+    private float velocityZ;
+    private int leadX;
+    private int leadZ;
+    private Frustum frustum;
+    private final Vector3 rankedDirection = new Vector3();
+    private int viewRevision;
+
+    /**
+     * Records the camera of the current frame.
+     *
+     * @param position Camera position in blocks
+     * @param direction Camera view direction, normalized
+     * @param nanos Time of the frame, e.g. {@link System#nanoTime()}
+     * @param frustum The camera's view frustum, or null to treat every chunk as in view
+     */
+    void update(Vector3 position, Vector3 direction, long nanos, Frustum frustum) {
+        this.frustum = frustum;
+        if (direction.dot(rankedDirection) < COS_RERANK_ANGLE) {
+            rankedDirection.set(direction);
+            viewRevision++;
+        }
+
+        float x = position.x;
+        float z = position.z;
+        historyX[next] = x;
+        historyZ[next] = z;
+        historyNanos[next] = nanos;
+        next = (next + 1) % HISTORY_FRAMES;
+        if (size < HISTORY_FRAMES) size++;
+
+        // Oldest sample still inside the window, measured against the one just added
+        int oldest = -1;
+        for (int age = 1; age < size; age++) {
+            int index = (next - 1 - age + HISTORY_FRAMES) % HISTORY_FRAMES;
+            if (nanos - historyNanos[index] > VELOCITY_WINDOW_NANOS) break;
+            oldest = index;
+        }
+
+        if (oldest < 0 || historyNanos[oldest] == nanos) {
+            velocityX = 0;
+            velocityZ = 0;
+        } else {
+            float seconds = (nanos - historyNanos[oldest]) / NANOS_PER_SECOND;
+            velocityX = (x - historyX[oldest]) / seconds;
+            velocityZ = (z - historyZ[oldest]) / seconds;
+        }
+        leadX = toLeadChunks(velocityX);
+        leadZ = toLeadChunks(velocityZ);
+    }
+
+    private static int toLeadChunks(float velocity) {
+        int chunks = Math.round(velocity * LOOKAHEAD_SECONDS / Chunk.CHUNK_SIZE);
+        return Math.max(-MAX_LEAD_CHUNKS, Math.min(MAX_LEAD_CHUNKS, chunks));
+    }
+
+    /**
+     * Gets the chunk offset from the camera's chunk to its predicted chunk.
+     *
+     * @return The X offset, at most {@value #MAX_LEAD_CHUNKS} either way
+     */
+    int getLeadX() {
+        return leadX;
+    }
+
+    /**
+     * @return The Z offset, at most {@value #MAX_LEAD_CHUNKS} either way
+     * @see #getLeadX()
+     */
+    int getLeadZ() {
+        return leadZ;
+    }
+
+    /**
+     * Gets a counter that changes whenever the camera turned far enough
+     * for chunks to move in or out of the frustum, so rankings made before
+     * should be redone.
+     *
+     * @return The revision of the view direction
+     */
+    int getViewRevision() {
+        return viewRevision;
+    }
+
+    /**
+     * Tests the full-height column of a chunk against the view frustum.
+     *
+     * @return True if any part of the chunk may be in view, or if no frustum is set
+     */
+    boolean isInFrustum(int chunkX, int chunkZ) {
+        if (frustum == null) return true;
+
+        float half = Chunk.CHUNK_SIZE / 2f;
+        float halfHeight = Chunk.CHUNK_HEIGHT / 2f;
+        return frustum.boundsInFrustum(chunkX * Chunk.CHUNK_SIZE + half, halfHeight, chunkZ * Chunk.CHUNK_SIZE + half,
+            half, halfHeight, half);
+    }
+
+    /**
+     * Ranks a chunk for generation or meshing.
+     *
+     * @param dx Chunk offset from the camera's chunk along X
+     * @param dz Chunk offset from the camera's chunk along Z
+     * @param inFrustum Whether the chunk is in view, see {@link #isInFrustum}
+     * @return The priority; lower values are loaded first
+     */
+    static int getPriority(int dx, int dz, boolean inFrustum) {
+        int distanceSquared = dx * dx + dz * dz;
+        return inFrustum ? distanceSquared : distanceSquared * OUTSIDE_FRUSTUM_PENALTY;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.some_example_name.engine;
+
+import io.github.some_example_name.chunk.LodTile;
+
+/**
+ * Ring sizes of the level-of-detail terrain drawn beyond the render
+ * distance. Level {@code n} merges {@code 2^n} by {@code 2^n} block columns
+ * into one cell and is drawn out to its ring radius; past the last ring
+ * nothing is drawn. Rings are squares measured in chunks from the camera's
+ * chunk, like the render distance, and are rounded outwards to whole tiles.
+ */
+public class LodSettings {
+    private final int[] ringRadii;
+
+    /**
+     * @param ringRadii Outer radius in chunks of each ring, starting with level 1 (2x2 cells);
+     *                  at most {@link LodTile#MAX_LEVEL} rings, strictly increasing
+     * @throws IllegalArgumentException If there are no rings, too many, or they do not increase
+     */
+    public LodSettings(int... ringRadii) {
+        if (ringRadii.length == 0 || ringRadii.length > LodTile.MAX_LEVEL) {
+            throw new IllegalArgumentException("Expected 1.." + LodTile.MAX_LEVEL + " LOD rings, got " + ringRadii.length);
+        }
+        for (int i = 1; i < ringRadii.length; i++) {
+            if (ringRadii[i] <= ringRadii[i - 1]) {
+                throw new IllegalArgumentException("LOD ring radii must increase: " + ringRadii[i - 1] + ", " + ringRadii[i]);
+            }
+        }
+        this.ringRadii = ringRadii.clone();
+    }
+
+    /**
+     * Gets the number of levels beyond full detail.
+     *
+     * @return The coarsest level
+     */
+    public int getLevelCount() {
+        return ringRadii.length;
+    }
+
+    /**
+     * Gets the outer radius of a ring.
+     *
+     * @param level 1 to {@link #getLevelCount()}
+     * @return The radius in chunks
+     */
+    public int getRingRadius(int level) {
+        return ringRadii[level - 1];
+    }
+
+    /**
+     * Gets the radius of the outermost ring, the distance terrain is drawn to.
+     *
+     * @return The radius in chunks
+     */
+    public int getMaxDistance() {
+        return ringRadii[ringRadii.length - 1];
+    }
+}
@@ -0,0 +1,459 @@
+package io.github.some_example_name.engine;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkMeshData;
+import io.github.some_example_name.chunk.ChunkPosition;
+import io.github.some_example_name.chunk.LodTile;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Level-of-detail terrain between the render distance and the outermost
+ * {@link LodSettings} ring. Tiles are picked by a quadtree walk from the
+ * coarsest level: a tile is split into its four children while it lies
+ * within the ring of the next finer level, and the chunks of a split
+ * level-1 tile that lie outside the render distance become level-0 tiles.
+ * The tiles picked therefore cover the area exactly once and never overlap
+ * the full-detail chunks.
+ * <p>
+ * The walk only runs when the camera enters another chunk. Missing tiles
+ * are meshed on a fork-join pool, nearest to the camera's current chunk
+ * first, and uploaded under a frame budget. Until a new tile is ready, the tiles it replaces keep being drawn,
+ * and a tile the render distance moves over keeps being drawn until the
+ * chunks there have meshes, so changing levels does not open holes. All
+ * methods must be called from the render thread.
+ */
+class LodTerrain implements Disposable {
+    private static final float UPLOAD_BUDGET_MS = 2f;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+    private static final Comparator<TileEntry> NEAREST_FIRST = (a, b) -> Integer.compare(a.distance, b.distance);
+
+    private final LodSettings settings;
+    private int renderDistance;
+    /** Known tiles per level: picked by the current walk, being built, or still covering for one. */
+    private final Array<LongMap<TileEntry>> tiles = new Array<>();
+    private final Array<TileEntry> selected = new Array<>(false, 256);
+    private final Array<TileEntry> drawList = new Array<>(false, 256);
+    private final Array<TileEntry> visible = new Array<>(false, 256);
+    private final ForkJoinPool pool;
+    /** Tiles waiting to be built; guarded by itself, since walks rank the queued tiles again. */
+    private final PriorityQueue<TileEntry> requests = new PriorityQueue<>();
+    private final Array<TileEntry> ranked = new Array<>(false, 256);
+    private final ConcurrentLinkedQueue<TileEntry> completed = new ConcurrentLinkedQueue<>();
+
+    private boolean walked;
+    /** Whether the draw list holds a tile waiting for full-detail chunks to be meshed. */
+    private boolean awaitingChunks;
+    private int selection;
+    private int centerX;
+    private int centerZ;
+
+    /**
+     * A tile and its state in the walk and the build queue.
+     */
+    private static class TileEntry implements Comparable<TileEntry> {
+        private final LodTile tile;
+        /** {@link #distance} when the build queue was last ranked; guarded by the queue. */
+        private int priority;
+        private volatile boolean cancelled;
+        private ChunkMeshData meshData;
+        /** The walk that last picked this tile. */
+        private int selection;
+        /** Chebyshev distance in chunks to the camera's chunk at the last walk. */
+        private int distance;
+
+        private TileEntry(LodTile tile, int distance) {
+            this.tile = tile;
+            this.priority = distance;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(TileEntry other) {
+            return Integer.compare(priority, other.priority);
+        }
+    }
+
+    /**
+     * @param settings The ring sizes
+     * @param renderDistance Radius of full-detail chunks; must be smaller than the first ring
+     * @param parallelism Number of worker threads
+     * @throws IllegalArgumentException If the first ring does not reach past the render distance
+     */
+    LodTerrain(LodSettings settings, int renderDistance, int parallelism) {
+        checkRenderDistance(settings, renderDistance);
+        this.settings = settings;
+        this.renderDistance = renderDistance;
+        this.pool = new ForkJoinPool(parallelism);
+        for (int level = 0; level <= settings.getLevelCount(); level++) {
+            tiles.add(new LongMap<>());
+        }
+    }
+
+    private static void checkRenderDistance(LodSettings settings, int renderDistance) {
+        if (settings.getRingRadius(1) <= renderDistance) {
+            throw new IllegalArgumentException("The first LOD ring (" + settings.getRingRadius(1)
+                + ") must reach past the render distance (" + renderDistance + ")");
+        }
+    }
+
+    /**
+     * Changes the radius of full-detail chunks; the tiles are picked again
+     * by the next {@link #update}.
+     *
+     * @param renderDistance Radius of full-detail chunks; must be smaller than the first ring
+     * @throws IllegalArgumentException If the first ring does not reach past the render distance
+     */
+    void setRenderDistance(int renderDistance) {
+        checkRenderDistance(settings, renderDistance);
+        this.renderDistance = renderDistance;
+        walked = false;
+    }
+
+    /**
+     * Picks the tiles around the camera if it entered another chunk and
+     * uploads finished tiles.
+     *
+     * @param camChunkX Chunk X coordinate of the camera
+     * @param camChunkZ Chunk Z coordinate of the camera
+     * @param chunks The loaded full-detail chunks by {@link ChunkPosition} key
+     */
+    void update(int camChunkX, int camChunkZ, LongMap<Chunk> chunks) {
+        boolean changed = awaitingChunks;
+        if (!walked || camChunkX != centerX || camChunkZ != centerZ) {
+            selectTiles(camChunkX, camChunkZ);
+            changed = true;
+        }
+        if (uploadCompleted(UPLOAD_BUDGET_MS) > 0) changed = true;
+        if (changed) updateDrawList(chunks);
+    }
+
+    /**
+     * Walks the quadtree around the camera's chunk, queues the picked tiles
+     * that are missing and ranks the build queue by the new distances.
+     * Package-private for tests.
+     *
+     * @param camChunkX Chunk X coordinate of the camera
+     * @param camChunkZ Chunk Z coordinate of the camera
+     */
+    void selectTiles(int camChunkX, int camChunkZ) {
+        walked = true;
+        selection++;
+        centerX = camChunkX;
+        centerZ = camChunkZ;
+        selected.clear();
+
+        int top = settings.getLevelCount();
+        int span = 1 << top;
+        int maxDistance = settings.getMaxDistance();
+        int minTileX = Math.floorDiv(camChunkX - maxDistance, span);
+        int maxTileX = Math.floorDiv(camChunkX + maxDistance, span);
+        int minTileZ = Math.floorDiv(camChunkZ - maxDistance, span);
+        int maxTileZ = Math.floorDiv(camChunkZ + maxDistance, span);
+        for (int tileX = minTileX; tileX <= maxTileX; tileX++) {
+            for (int tileZ = minTileZ; tileZ <= maxTileZ; tileZ++) {
+                if (distance(top, tileX, tileZ) <= maxDistance) visit(top, tileX, tileZ);
+            }
+        }
+
+        // Tiles that were never finished are not covering for anything, so drop them right away
+        for (LongMap<TileEntry> level : tiles) {
+            LongMap.Values<TileEntry> entries = level.values();
+            while (entries.hasNext()) {
+                TileEntry entry = entries.next();
+                if (entry.selection != selection && !entry.tile.hasMesh()) {
+                    entry.cancelled = true;
+                    entries.remove();
+                }
+            }
+        }
+        rankRequests();
+    }
+
+    /**
+     * Orders the queued tiles by their distance from the last walk, so the
+     * tiles nearest the camera are built first after it moved. Every queued
+     * tile was picked by that walk; the others were cancelled and are dropped.
+     */
+    private void rankRequests() {
+        synchronized (requests) {
+            ranked.clear();
+            for (TileEntry entry : requests) {
+                if (entry.cancelled) continue;
+                entry.priority = entry.distance;
+                ranked.add(entry);
+            }
+            requests.clear();
+            for (int i = 0; i < ranked.size; i++) requests.add(ranked.get(i));
+        }
+        ranked.clear();
+    }
+
+    private void visit(int level, int tileX, int tileZ) {
+        int distance = distance(level, tileX, tileZ);
+        if (level == 0) {
+            if (isOutsideRenderArea(level, tileX, tileZ)) select(level, tileX, tileZ, distance);
+        } else if (distance <= getRadius(level - 1)) {
+            int childX = tileX << 1;
+            int childZ = tileZ << 1;
+            visit(level - 1, childX, childZ);
+            visit(level - 1, childX + 1, childZ);
+            visit(level - 1, childX, childZ + 1);
+            visit(level - 1, childX + 1, childZ + 1);
+        } else {
+            select(level, tileX, tileZ, distance);
+        }
+    }
+
+    private void select(int level, int tileX, int tileZ, int distance) {
+        LongMap<TileEntry> levelTiles = tiles.get(level);
+        long key = ChunkPosition.pack(tileX, tileZ);
+        TileEntry entry = levelTiles.get(key);
+        if (entry == null) {
+            entry = new TileEntry(new LodTile(level, tileX, tileZ), distance);
+            levelTiles.put(key, entry);
+            synchronized (requests) {
+                requests.add(entry);
+            }
+            pool.execute(this::buildNext);
+        }
+        entry.selection = selection;
+        entry.distance = distance;
+        selected.add(entry);
+    }
+
+    private int getRadius(int level) {
+        return level == 0 ? renderDistance : settings.getRingRadius(level);
+    }
+
+    /**
+     * Gets the Chebyshev distance in chunks from the camera's chunk to the
+     * nearest chunk of a tile, 0 if the tile contains it.
+     */
+    private int distance(int level, int tileX, int tileZ) {
+        int span = 1 << level;
+        return Math.max(axisDistance(tileX << level, span, centerX), axisDistance(tileZ << level, span, centerZ));
+    }
+
+    /**
+     * Checks whether a tile lies entirely outside the circle of full-detail
+     * chunks, see {@link RenderArea}, by testing its chunk nearest to the
+     * camera's chunk.
+     */
+    private boolean isOutsideRenderArea(int level, int tileX, int tileZ) {
+        int span = 1 << level;
+        return !RenderArea.contains(axisDistance(tileX << level, span, centerX), axisDistance(tileZ << level, span, centerZ),
+            renderDistance);
+    }
+
+    private static int axisDistance(int min, int span, int center) {
+        return Math.max(0, Math.max(min - center, center - (min + span - 1)));
+    }
+
+    private void buildNext() {
+        TileEntry entry;
+        synchronized (requests) {
+            entry = requests.poll();
+            while (entry != null && entry.cancelled) {
+                entry = requests.poll();
+            }
+        }
+        if (entry == null) return;
+
+        ChunkMeshData meshData = ChunkMeshData.obtain();
+        entry.tile.buildMeshData(meshData);
+        entry.meshData = meshData;
+        completed.add(entry);
+    }
+
+    /**
+     * Uploads built tiles until the time budget is spent. At least one tile
+     * is uploaded per call when one is ready.
+     *
+     * @param budgetMillis Time budget for this frame in milliseconds
+     * @return The number of tiles uploaded
+     */
+    private int uploadCompleted(float budgetMillis) {
+        long start = System.nanoTime();
+        long budgetNanos = (long) (budgetMillis * NANOS_PER_MILLI);
+        int uploaded = 0;
+
+        while (System.nanoTime() - start < budgetNanos) {
+            TileEntry entry = completed.poll();
+            if (entry == null) break;
+
+            if (!entry.cancelled) {
+                entry.tile.uploadMesh(entry.meshData);
+                uploaded++;
+            }
+            ChunkMeshData.free(entry.meshData);
+            entry.meshData = null;
+        }
+        return uploaded;
+    }
+
+    /**
+     * Collects the tiles to draw: the picked tiles that are ready, plus
+     * tiles of earlier walks that still cover for a picked tile being built.
+     * Earlier tiles reaching into the render distance are kept until every
+     * chunk they cover there has a mesh, then dropped, since they would
+     * hide the full-detail chunks.
+     */
+    private void updateDrawList(LongMap<Chunk> chunks) {
+        drawList.clear();
+        awaitingChunks = false;
+        for (int i = 0; i < selected.size; i++) {
+            TileEntry entry = selected.get(i);
+            if (entry.tile.hasMesh()) drawList.add(entry);
+        }
+
+        for (LongMap<TileEntry> level : tiles) {
+            LongMap.Values<TileEntry> entries = level.values();
+            while (entries.hasNext()) {
+                TileEntry entry = entries.next();
+                if (entry.selection == selection) continue;
+
+                LodTile tile = entry.tile;
+                entry.distance = distance(tile.getLevel(), tile.getTileX(), tile.getTileZ());
+                boolean keep;
+                if (isOutsideRenderArea(tile.getLevel(), tile.getTileX(), tile.getTileZ())) {
+                    keep = coversPendingTile(tile);
+                } else {
+                    keep = coversUnmeshedChunk(tile, chunks);
+                    awaitingChunks |= keep;
+                }
+                if (keep) {
+                    drawList.add(entry);
+                } else {
+                    tile.dispose();
+                    entries.remove();
+                }
+            }
+        }
+        drawList.sort(NEAREST_FIRST);
+    }
+
+    private boolean coversPendingTile(LodTile tile) {
+        for (int i = 0; i < selected.size; i++) {
+            LodTile pending = selected.get(i).tile;
+            if (!pending.hasMesh() && overlaps(tile, pending)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a chunk of a tile inside the render distance is not
+     * loaded or has no mesh yet.
+     */
+    private boolean coversUnmeshedChunk(LodTile tile, LongMap<Chunk> chunks) {
+        int span = tile.getChunkSpan();
+        for (int chunkX = tile.getMinChunkX(); chunkX < tile.getMinChunkX() + span; chunkX++) {
+            for (int chunkZ = tile.getMinChunkZ(); chunkZ < tile.getMinChunkZ() + span; chunkZ++) {
+                if (!RenderArea.contains(chunkX - centerX, chunkZ - centerZ, renderDistance)) continue;
+
+                Chunk chunk = chunks.get(ChunkPosition.pack(chunkX, chunkZ));
+                if (chunk == null || !chunk.hasMesh()) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean overlaps(LodTile a, LodTile b) {
+        return a.getMinChunkX() < b.getMinChunkX() + b.getChunkSpan() && b.getMinChunkX() < a.getMinChunkX() + a.getChunkSpan()
+            && a.getMinChunkZ() < b.getMinChunkZ() + b.getChunkSpan() && b.getMinChunkZ() < a.getMinChunkZ() + a.getChunkSpan();
+    }
+
+    /**
+     * Draws the tiles in the camera's frustum: opaque layers nearest first,
+     * then translucent layers farthest first. Tiles lie beyond every
+     * full-detail chunk, so this goes between the chunks' opaque and
+     * translucent layers.
+     */
+    void render(ModelBatch modelBatch, Environment environment, PerspectiveCamera camera) {
+        visible.clear();
+        for (int i = 0; i < drawList.size; i++) {
+            LodTile tile = drawList.get(i).tile;
+            if (tile.hasGeometry() && camera.frustum.boundsInFrustum(tile.getBoundingBox())) {
+                visible.add(drawList.get(i));
+                tile.renderOpaque(modelBatch, environment);
+            }
+        }
+        for (int i = visible.size - 1; i >= 0; i--) {
+            visible.get(i).tile.renderTranslucent(modelBatch, environment);
+        }
+    }
+
+    /**
+     * Gets the radius of the outermost ring.
+     *
+     * @return The radius in chunks
+     */
+    int getMaxDistance() {
+        return settings.getMaxDistance();
+    }
+
+    /**
+     * Gets the number of tiles picked by the last walk, built or not.
+     * Package-private for tests.
+     *
+     * @return The selected tile count
+     */
+    int getSelectedTileCount() {
+        return selected.size;
+    }
+
+    /**
+     * Gets a tile picked by the last walk. Package-private for tests.
+     *
+     * @param index 0 to {@link #getSelectedTileCount()} - 1
+     * @return The tile
+     */
+    LodTile getSelectedTile(int index) {
+        return selected.get(index).tile;
+    }
+
+    /**
+     * Gets the number of tiles drawn by the last frame, after frustum culling.
+     *
+     * @return The rendered tile count
+     */
+    int getRenderedTileCount() {
+        return visible.size;
+    }
+
+    @Override
+    public void dispose() {
+        pool.shutdownNow();
+        try {
+            pool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (requests) {
+            requests.clear();
+        }
+        TileEntry entry;
+        while ((entry = completed.poll()) != null) {
+            ChunkMeshData.free(entry.meshData);
+        }
+        for (LongMap<TileEntry> level : tiles) {
+            for (TileEntry tileEntry : level.values()) tileEntry.tile.dispose();
+            level.clear();
+        }
+        selected.clear();
+        drawList.clear();
+        visible.clear();
+        awaitingChunks = false;
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.some_example_name.engine;
+
+/**
+ * Selects which chunk meshes {@link ChunkMeshCache} disposes first when it
+ * is over its budget. Chunks within the render distance are never evicted.
+ */
+public enum MeshEvictionPolicy {
+    /** The chunk that left the render distance longest ago. */
+    LEAST_RECENTLY_USED,
+    /** The chunk farthest from the camera. */
+    FARTHEST
+}
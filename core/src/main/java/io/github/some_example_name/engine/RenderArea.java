@@ -0,0 +1,26 @@
+package io.github.some_example_name.engine;
+
+/**
+ * The chunks drawn in full detail: those whose offset from the camera's
+ * chunk lies within a circle of the render distance. For the same view
+ * distance straight ahead, the circle needs about a quarter fewer chunks
+ * than the enclosing square, 441 instead of 625 at a radius of 12; the
+ * square's corners only add distance along the diagonals.
+ */
+final class RenderArea {
+    private RenderArea() {
+    }
+
+    /**
+     * Tests a chunk offset against the circle. A chunk within a radius has
+     * all four horizontal neighbors within the radius plus one.
+     *
+     * @param dx Chunk offset from the camera's chunk along X
+     * @param dz Chunk offset from the camera's chunk along Z
+     * @param radius Radius in chunks
+     * @return True if the chunk is within the radius
+     */
+    static boolean contains(int dx, int dz, int radius) {
+        return dx * dx + dz * dz <= radius * radius;
+    }
+}
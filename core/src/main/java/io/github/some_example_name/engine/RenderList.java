@@ -0,0 +1,474 @@
+package io.github.some_example_name.engine;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkPosition;
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.chunk.ChunkSection;
+import io.github.some_example_name.chunk.SectionVisibility;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The chunk sections to draw, frustum culled and sorted by distance, kept
+ * across frames. The list is only rebuilt when the camera enters another
+ * chunk, moves or turns past a threshold, or the meshes change; in between
+ * the same list is drawn. To stay complete while the camera drifts within
+ * those thresholds, culling uses a frustum widened by the rotation threshold
+ * and pulled back far enough to contain every frustum within the movement
+ * threshold. Culling walks a quadtree over the chunk grid, so regions
+ * entirely outside or inside the frustum are settled with a single test.
+ * <p>
+ * Occlusion culling then walks the section grid breadth first from the
+ * camera's section, entering a neighbor only through faces that the
+ * {@link SectionVisibility} of the current section connects to the face
+ * it was entered by, and never turning back along an axis: a line of
+ * sight is straight, so it cannot. A section may be entered once through
+ * each face, since a later path can reach faces the first one could not.
+ * Sections behind terrain are never reached and not drawn.
+ * <p>
+ * Opaque layers are drawn front to back, so the depth test rejects hidden
+ * fragments early; translucent layers follow back to front so they blend
+ * correctly. The model batch must keep submission order, see {@code Main}.
+ */
+class RenderList {
+    /** Camera rotation, in degrees, that triggers a rebuild. */
+    static final float REBUILD_ANGLE = 5f;
+    /** Camera movement, in blocks, that triggers a rebuild. */
+    static final float REBUILD_DISTANCE = 8f;
+
+    private static final float COS_REBUILD_ANGLE = MathUtils.cosDeg(REBUILD_ANGLE);
+    /** Turning about an off-center axis moves the frustum corners further than the view axis. */
+    private static final float CULL_ANGLE_MARGIN = REBUILD_ANGLE * 1.5f;
+    private static final byte OUTSIDE = 0;
+    private static final byte INTERSECTING = 1;
+    private static final byte INSIDE = 2;
+    /** Entry face of the camera's own section, which sees out through every face. */
+    private static final int NO_FACE = 6;
+    /** Set in a cell's entered faces once its section is in the list. */
+    private static final int ADDED = 1 << 7;
+    private static final int[] FACE_DX = {1, -1, 0, 0, 0, 0};
+    private static final int[] FACE_DY = {0, 0, 1, -1, 0, 0};
+    private static final int[] FACE_DZ = {0, 0, 0, 0, 1, -1};
+    private static final Comparator<Entry> FRONT_TO_BACK = (a, b) -> Float.compare(a.distance, b.distance);
+    private static final Comparator<Entry> BACK_TO_FRONT = (a, b) -> Float.compare(b.distance, a.distance);
+
+    private final PerspectiveCamera cullCamera = new PerspectiveCamera();
+    private final Array<Entry> opaque = new Array<>();
+    private final Array<Entry> translucent = new Array<>();
+    private final Array<Entry> entries = new Array<>();
+    private int entryCount;
+    private boolean occlusionCulling = true;
+
+    private boolean valid;
+    private int builtChunkX;
+    private int builtChunkZ;
+    private int builtSectionY;
+    private final Vector3 builtPosition = new Vector3();
+    private final Vector3 builtDirection = new Vector3();
+    private float builtFieldOfView;
+    private float builtViewportWidth;
+    private float builtViewportHeight;
+    private long cullNanos;
+
+    // Build state over a grid of side x side columns and layers sections, x fastest
+    private Plane[] planes;
+    private int originX, originZ;
+    private int side;
+    private int layers;
+    private float eyeX, eyeY, eyeZ;
+    private Chunk[] columns = new Chunk[0];
+    private byte[] columnStates = new byte[0];
+    /** Visits packed as cell << 9 | directions taken << 3 | entry face. */
+    private int[] queue = new int[0];
+    /** Per cell: bit mask of the faces it has been entered through, and {@link #ADDED}. */
+    private byte[] enteredFaces = new byte[0];
+
+    /**
+     * A section in the list and its squared distance from the camera.
+     */
+    private static class Entry {
+        private ChunkSection section;
+        private float distance;
+    }
+
+    /**
+     * Rebuilds the list if needed and records the time spent culling.
+     *
+     * @param camera The camera the frame is rendered with
+     * @param chunks All loaded chunks
+     * @param centerX Chunk X coordinate of the camera
+     * @param centerZ Chunk Z coordinate of the camera
+     * @param radius Render distance in chunks
+     * @return True if the list was rebuilt
+     */
+    boolean update(PerspectiveCamera camera, LongMap<Chunk> chunks, int centerX, int centerZ, int radius) {
+        long start = System.nanoTime();
+        boolean rebuild = needsRebuild(camera, centerX, centerZ);
+        if (rebuild) build(camera, chunks, centerX, centerZ, radius);
+        cullNanos = System.nanoTime() - start;
+        return rebuild;
+    }
+
+    private boolean needsRebuild(PerspectiveCamera camera, int centerX, int centerZ) {
+        if (!valid || centerX != builtChunkX || centerZ != builtChunkZ) return true;
+        if (sectionY(camera.position.y) != builtSectionY) return true;
+        if (camera.position.dst2(builtPosition) > REBUILD_DISTANCE * REBUILD_DISTANCE) return true;
+        if (camera.direction.dot(builtDirection) < COS_REBUILD_ANGLE) return true;
+        return camera.fieldOfView != builtFieldOfView
+            || camera.viewportWidth != builtViewportWidth
+            || camera.viewportHeight != builtViewportHeight;
+    }
+
+    /**
+     * Forces a rebuild on the next {@link #update}, e.g. because meshes were
+     * uploaded or disposed.
+     */
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Enables or disables skipping sections hidden behind terrain; frustum
+     * culling always applies.
+     */
+    void setOcclusionCulling(boolean enabled) {
+        if (occlusionCulling != enabled) valid = false;
+        occlusionCulling = enabled;
+    }
+
+    private static int sectionY(float y) {
+        return (int) Math.floor(y / ChunkSection.SIZE);
+    }
+
+    private void build(PerspectiveCamera camera, LongMap<Chunk> chunks, int centerX, int centerZ, int radius) {
+        clear();
+        valid = true;
+        builtChunkX = centerX;
+        builtChunkZ = centerZ;
+        builtSectionY = sectionY(camera.position.y);
+        builtPosition.set(camera.position);
+        builtDirection.set(camera.direction);
+        builtFieldOfView = camera.fieldOfView;
+        builtViewportWidth = camera.viewportWidth;
+        builtViewportHeight = camera.viewportHeight;
+
+        planes = setUpCullCamera(camera).frustum.planes;
+        eyeX = camera.position.x;
+        eyeY = camera.position.y;
+        eyeZ = camera.position.z;
+        int cameraLayer = MathUtils.clamp(builtSectionY, 0, Chunk.SECTION_COUNT - 1);
+
+        // Sight lines from below the top layer cannot come back down, so the walk needs no more layers
+        int topLayer = prepareGrid(chunks, centerX, centerZ, radius);
+        layers = occlusionCulling ? Math.max(topLayer, cameraLayer + 1) : topLayer;
+        if (layers > 0) {
+            cullRegion(0, 0, side - 1, side - 1);
+            if (occlusionCulling) {
+                traverseSections(radius, cameraLayer, radius);
+            } else {
+                collectSectionsInFrustum();
+            }
+        }
+        planes = null;
+        Arrays.fill(columns, null);
+
+        opaque.sort(FRONT_TO_BACK);
+        translucent.sort(BACK_TO_FRONT);
+    }
+
+    /**
+     * Sets up the conservative culling frustum. Both view angles are widened
+     * by {@link #CULL_ANGLE_MARGIN}, the apex is pulled back until a sphere
+     * of {@link #REBUILD_DISTANCE} around the eye fits inside, and the far
+     * plane is moved out to reach the far corners of a turned camera, so it
+     * contains the frustum of every camera that does not trigger a rebuild.
+     */
+    private PerspectiveCamera setUpCullCamera(PerspectiveCamera camera) {
+        float margin = CULL_ANGLE_MARGIN * MathUtils.degreesToRadians;
+        float aspect = camera.viewportWidth / camera.viewportHeight;
+        float halfVertical = camera.fieldOfView * 0.5f * MathUtils.degreesToRadians;
+        float tanVertical = (float) Math.tan(halfVertical);
+        float halfHorizontal = (float) Math.atan(tanVertical * aspect);
+        float cornerDistance = (float) Math.sqrt(1f + tanVertical * tanVertical * (1f + aspect * aspect));
+
+        // The field of view is vertical; widen it until the horizontal angle grew by the margin as well
+        float widenedVertical = Math.max(halfVertical + margin,
+            (float) Math.atan(Math.tan(halfHorizontal + margin) / aspect));
+        float pullBack = REBUILD_DISTANCE / (float) Math.sin(Math.min(halfVertical, halfHorizontal) + margin);
+
+        cullCamera.fieldOfView = widenedVertical * 2f * MathUtils.radiansToDegrees;
+        cullCamera.viewportWidth = camera.viewportWidth;
+        cullCamera.viewportHeight = camera.viewportHeight;
+        cullCamera.near = camera.near;
+        cullCamera.far = camera.far * cornerDistance + pullBack + REBUILD_DISTANCE;
+        cullCamera.direction.set(camera.direction);
+        cullCamera.up.set(camera.up);
+        cullCamera.position.set(camera.position).mulAdd(camera.direction, -pullBack);
+        cullCamera.update();
+        return cullCamera;
+    }
+
+    /**
+     * Looks up the meshed chunks in range and sizes the work arrays.
+     *
+     * @return The number of layers up to the highest section with geometry
+     */
+    private int prepareGrid(LongMap<Chunk> chunks, int centerX, int centerZ, int radius) {
+        side = radius * 2 + 1;
+        originX = centerX - radius;
+        originZ = centerZ - radius;
+        int columnCount = side * side;
+        if (columns.length < columnCount) {
+            columns = new Chunk[columnCount];
+            columnStates = new byte[columnCount];
+        }
+        int cellCount = columnCount * Chunk.SECTION_COUNT;
+        if (enteredFaces.length < cellCount) {
+            // A cell is visited at most once per face, plus the start
+            queue = new int[cellCount * 6 + 1];
+            enteredFaces = new byte[cellCount];
+        }
+
+        int top = 0;
+        for (int z = 0; z < side; z++) {
+            for (int x = 0; x < side; x++) {
+                Chunk chunk = chunks.get(ChunkPosition.pack(originX + x, originZ + z));
+                // Cached meshes in the corners of the grid are LOD terrain's area
+                if (chunk == null || !chunk.hasMesh() || !RenderArea.contains(x - radius, z - radius, radius)) chunk = null;
+                columns[x + z * side] = chunk;
+                if (chunk == null) continue;
+
+                for (int i = Chunk.SECTION_COUNT - 1; i >= top; i--) {
+                    ChunkSection section = chunk.getSection(i);
+                    if (section != null && section.hasGeometry()) {
+                        top = i + 1;
+                        break;
+                    }
+                }
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Classifies the columns of a rectangle of the grid, inclusive on both
+     * ends, against the frustum by testing its box and recursing into
+     * quadrants while the box straddles the frustum. Whole regions outside
+     * or inside are settled without looking at their columns.
+     */
+    private void cullRegion(int x0, int z0, int x1, int z1) {
+        byte state = classify((originX + x0) * Chunk.CHUNK_SIZE, 0, (originZ + z0) * Chunk.CHUNK_SIZE,
+            (originX + x1 + 1) * Chunk.CHUNK_SIZE, layers * ChunkSection.SIZE, (originZ + z1 + 1) * Chunk.CHUNK_SIZE);
+
+        if (state != INTERSECTING || (x0 == x1 && z0 == z1)) {
+            for (int z = z0; z <= z1; z++) {
+                Arrays.fill(columnStates, x0 + z * side, x1 + 1 + z * side, state);
+            }
+            return;
+        }
+
+        int midX = (x0 + x1) >> 1;
+        int midZ = (z0 + z1) >> 1;
+        cullRegion(x0, z0, midX, midZ);
+        if (midX < x1) cullRegion(midX + 1, z0, x1, midZ);
+        if (midZ < z1) cullRegion(x0, midZ + 1, midX, z1);
+        if (midX < x1 && midZ < z1) cullRegion(midX + 1, midZ + 1, x1, z1);
+    }
+
+    /**
+     * Adds every section with geometry in the frustum, without occlusion culling.
+     */
+    private void collectSectionsInFrustum() {
+        for (int column = 0; column < side * side; column++) {
+            Chunk chunk = columns[column];
+            if (chunk == null || columnStates[column] == OUTSIDE) continue;
+
+            for (int y = 0; y < layers; y++) {
+                addSection(chunk.getSection(y), columnStates[column] == INSIDE);
+            }
+        }
+    }
+
+    /**
+     * Walks the sections reachable from the camera breadth first, adding
+     * those with geometry.
+     */
+    private void traverseSections(int startX, int startY, int startZ) {
+        Arrays.fill(enteredFaces, 0, side * side * layers, (byte) 0);
+
+        int start = cell(startX, startY, startZ);
+        enteredFaces[start] = (byte) (1 << NO_FACE);
+        queue[0] = start << 9 | NO_FACE;
+        int head = 0;
+        int tail = 1;
+
+        while (head < tail) {
+            int visit = queue[head++];
+            int cell = visit >>> 9;
+            int directions = (visit >> 3) & 0x3F;
+            int entryFace = visit & 7;
+            int x = cell % side;
+            int z = cell / side % side;
+            int y = cell / (side * side);
+            Chunk chunk = columns[x + z * side];
+            ChunkSection section = chunk != null ? chunk.getSection(y) : null;
+            // Missing chunks and sections are open space
+            long visibility = section != null ? section.getVisibility() : SectionVisibility.ALL;
+            if ((enteredFaces[cell] & ADDED) == 0) {
+                enteredFaces[cell] = (byte) (enteredFaces[cell] | ADDED);
+                addSection(section, columnStates[x + z * side] == INSIDE);
+            }
+
+            for (int face = Block.RIGHT; face <= Block.BACK; face++) {
+                int opposite = face ^ 1;
+                if ((directions & (1 << opposite)) != 0) continue;
+                if (entryFace != NO_FACE && !SectionVisibility.isConnected(visibility, entryFace, face)) continue;
+
+                int nx = x + FACE_DX[face];
+                int ny = y + FACE_DY[face];
+                int nz = z + FACE_DZ[face];
+                if (nx < 0 || nx >= side || ny < 0 || ny >= layers || nz < 0 || nz >= side) continue;
+
+                // Entering again through another face may open up faces the first visit could not see
+                int neighbor = cell(nx, ny, nz);
+                int entered = enteredFaces[neighbor];
+                if ((entered & (1 << opposite)) != 0) continue;
+                if (entered == 0 && !isCellInFrustum(nx, ny, nz)) continue;
+                enteredFaces[neighbor] = (byte) (entered | 1 << opposite);
+                queue[tail++] = neighbor << 9 | (directions | 1 << face) << 3 | opposite;
+            }
+        }
+    }
+
+    private int cell(int x, int y, int z) {
+        return (y * side + z) * side + x;
+    }
+
+    private boolean isCellInFrustum(int x, int y, int z) {
+        byte state = columnStates[x + z * side];
+        if (state != INTERSECTING) return state == INSIDE;
+
+        float minX = (originX + x) * Chunk.CHUNK_SIZE;
+        float minY = y * ChunkSection.SIZE;
+        float minZ = (originZ + z) * Chunk.CHUNK_SIZE;
+        return classify(minX, minY, minZ, minX + Chunk.CHUNK_SIZE, minY + ChunkSection.SIZE, minZ + Chunk.CHUNK_SIZE) != OUTSIDE;
+    }
+
+    private void addSection(ChunkSection section, boolean inside) {
+        if (section == null || !section.hasGeometry()) return;
+
+        BoundingBox bounds = section.getBoundingBox();
+        if (!inside && classify(bounds.min.x, bounds.min.y, bounds.min.z,
+                bounds.max.x, bounds.max.y, bounds.max.z) == OUTSIDE) {
+            return;
+        }
+
+        Entry entry = obtainEntry();
+        entry.section = section;
+        float dx = (bounds.min.x + bounds.max.x) * 0.5f - eyeX;
+        float dy = (bounds.min.y + bounds.max.y) * 0.5f - eyeY;
+        float dz = (bounds.min.z + bounds.max.z) * 0.5f - eyeZ;
+        entry.distance = dx * dx + dy * dy + dz * dz;
+        opaque.add(entry);
+        if (section.hasTranslucentMesh()) translucent.add(entry);
+    }
+
+    /**
+     * Tests a box against the culling frustum. Frustum plane normals point
+     * inwards; per plane, the corner farthest along the normal tells whether
+     * the box is outside and the nearest whether it straddles the plane.
+     */
+    private byte classify(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        byte result = INSIDE;
+        for (Plane plane : planes) {
+            Vector3 n = plane.normal;
+            float farthest = n.x * (n.x > 0 ? maxX : minX) + n.y * (n.y > 0 ? maxY : minY)
+                + n.z * (n.z > 0 ? maxZ : minZ) + plane.d;
+            if (farthest < 0) return OUTSIDE;
+
+            float nearest = n.x * (n.x > 0 ? minX : maxX) + n.y * (n.y > 0 ? minY : maxY)
+                + n.z * (n.z > 0 ? minZ : maxZ) + plane.d;
+            if (nearest < 0) result = INTERSECTING;
+        }
+        return result;
+    }
+
+    private Entry obtainEntry() {
+        if (entryCount == entries.size) {
+            entries.add(new Entry());
+        }
+        return entries.get(entryCount++);
+    }
+
+    /**
+     * Submits the opaque layers of the last build, nearest first.
+     */
+    void renderOpaque(ModelBatch modelBatch, Environment environment) {
+        for (int i = 0; i < opaque.size; i++) {
+            opaque.get(i).section.renderOpaque(modelBatch, environment);
+        }
+    }
+
+    /**
+     * Submits the translucent layers of the last build, farthest first.
+     * Must come after all opaque geometry, including anything drawn behind
+     * the sections.
+     */
+    void renderTranslucent(ModelBatch modelBatch, Environment environment) {
+        for (int i = 0; i < translucent.size; i++) {
+            translucent.get(i).section.renderTranslucent(modelBatch, environment);
+        }
+    }
+
+    /**
+     * Gets the number of sections that passed culling in the last build.
+     *
+     * @return The section count
+     */
+    int getSectionCount() {
+        return opaque.size;
+    }
+
+    /**
+     * Gets a section of the last build, in the order opaque layers are drawn.
+     *
+     * @param index 0 to {@link #getSectionCount()} - 1, nearest first
+     * @return The section
+     */
+    ChunkSection getSection(int index) {
+        return opaque.get(index).section;
+    }
+
+    /**
+     * Gets the time the last {@link #update} took, including the rebuild
+     * if there was one.
+     *
+     * @return The culling time in nanoseconds
+     */
+    long getCullNanos() {
+        return cullNanos;
+    }
+
+    /**
+     * Empties the list and drops its section references.
+     */
+    void clear() {
+        for (int i = 0; i < entryCount; i++) {
+            entries.get(i).section = null;
+        }
+        entryCount = 0;
+        opaque.clear();
+        translucent.clear();
+        valid = false;
+    }
+}
@@ -1,127 +1,903 @@
 package io.github.some_example_name.engine;
 
+import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.graphics.g3d.Environment;
 import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
 import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkMeshData;
 import io.github.some_example_name.chunk.ChunkPosition;
+import io.github.some_example_name.chunk.ChunkSection;
+import io.github.some_example_name.debug.FrameCounter;
+import io.github.some_example_name.debug.FrameProfiler;
+import io.github.some_example_name.debug.FrameTimer;
 import io.github.some_example_name.player.Camera;
+import io.github.some_example_name.storage.WorldStorage;
 
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * Core engine for managing the voxel-based world.
  * Handles chunk generation, loading, rendering, and memory management
  * based on player position and view distance.
+ * <p>
+ * A chunk is generated or loaded once it comes within range, meshed while
+ * within the render distance, has its mesh evicted by the
+ * {@link ChunkMeshCache} once out of range, and finally has its block data
+ * dropped when the loaded chunks exceed the heap budget. Dropped chunks are
+ * loaded from the world storage or regenerated when they come back into range.
  */
 public class VoxelEngine implements Disposable {
-    private ObjectMap<ChunkPosition, Chunk> chunks;
-    private int worldSize;
+    private LongMap<Chunk> chunks;
     private int renderDistance;
-    private final Set<ChunkPosition> chunksToLoad = new HashSet<>();
+    private final Array<Chunk> visibleChunks = new Array<>(false, 256);
+    private final ChunkCandidates chunksToGenerate = new ChunkCandidates();
+    private final ChunkLoadQueue chunksToLoad = new ChunkLoadQueue();
+    private final ChunkCandidates deferredChunks = new ChunkCandidates();
+    private final ChunkStreamer streamer = new ChunkStreamer();
+    private final Array<Chunk> generatedChunks = new Array<>(false, 64);
+    private final Array<Chunk> editedChunks = new Array<>(false, 16);
+    private final Array<Chunk> uploadedChunks = new Array<>(false, 64);
+    private final Array<SectionRemesh> sectionRemeshes = new Array<>();
+    private int sectionRemeshCount;
+    private final Chunk[] neighbors = new Chunk[6];
+    private final Array<Chunk> evictionCandidates = new Array<>(false, 64);
+    private final Comparator<Chunk> farthestFirst = (a, b) -> Integer.compare(distanceToCamera(b), distanceToCamera(a));
+    private final RenderList renderList = new RenderList();
+    private ChunkGenerator chunkGenerator;
+    private ChunkMeshPipeline meshPipeline;
+    private ChunkMeshCache meshCache;
+    private LodTerrain lodTerrain;
+    private WorldStorage worldStorage;
+    private long lastSaveTime;
+    private int renderedSectionCount;
+    private long chunkDataBytes;
+    private long chunkDataBudgetBytes = DEFAULT_CHUNK_DATA_BUDGET_BYTES;
+    private long chunkDataEvictions;
+    private long popInChunkFrames;
+    /** Camera chunk and view revision {@link #chunksToLoad} was last ranked for. */
+    private int rankedChunkX;
+    private int rankedChunkZ;
+    private int rankedViewRevision;
+    private boolean ranked;
+    /** Camera chunk of the current eviction pass, read by {@link #farthestFirst}. */
+    private int evictionCamX;
+    private int evictionCamZ;
 
-    private static final int MAX_CHUNKS_PER_FRAME = 100;
+    /** Default heap budget for the block data of loaded chunks. */
+    public static final long DEFAULT_CHUNK_DATA_BUDGET_BYTES = 128L * 1024 * 1024;
+
+    private static final float MESH_UPLOAD_BUDGET_MS = 4f;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
     private static final int UNLOAD_BUFFER = 2;
+    /** Chunks waiting for generation at most; the most urgent of the rest are requested as these finish. */
+    private static final int MAX_PENDING_GENERATION = 256;
+    /** Mesh jobs queued at most, so a turn or a burst of prefetching cannot bury the chunks now in view. */
+    private static final int MAX_PENDING_MESH_JOBS = 64;
+    /** Queued chunks passed over per frame while the pipeline or the upload budget is full. */
+    private static final int MAX_DEFERRED_CHUNKS = 16;
+    private static final long SAVE_INTERVAL_MS = 5000;
+    /** Sections remeshed on the render thread per frame for block edits; the rest wait for later frames. */
+    static final int EDIT_SECTIONS_PER_FRAME = 16;
+    /** Chunks one ring beyond the render distance are generated so edge chunks can cull against them. */
+    private static final int NEIGHBOR_RING = 1;
 
-    public void init(int worldSize, int renderDistance) {
-        this.worldSize = worldSize;
-        this.renderDistance = renderDistance;
-        this.chunks = new ObjectMap<>();
+    private static final int[] HORIZONTAL_FACES = {Block.RIGHT, Block.LEFT, Block.FRONT, Block.BACK};
+    private static final int[] NEIGHBOR_DX = {1, -1, 0, 0, 0, 0};
+    private static final int[] NEIGHBOR_DZ = {0, 0, 0, 0, 1, -1};
 
-        generateInitialWorld();
+    /**
+     * Dirty sections of one edited chunk, meshed and waiting for upload.
+     */
+    private static class SectionRemesh {
+        private Chunk chunk;
+        private int sectionMask;
+        private final ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
     }
 
-    private void generateInitialWorld() {
-        for (int x = 0; x < worldSize; x++) {
-            for (int z = 0; z < worldSize; z++) {
-                ChunkPosition pos = new ChunkPosition(x, z);
-                Chunk chunk = new Chunk(pos);
-                chunk.generateTerrain();
-                chunks.put(pos, chunk);
-            }
-        }
+    /**
+     * Initializes the engine without persistence. Terrain is generated
+     * lazily around the camera, so the world has no fixed size.
+     *
+     * @param renderDistance View radius in chunks
+     */
+    public void init(int renderDistance) {
+        init(renderDistance, null);
+    }
+
+    /**
+     * Initializes the engine. Chunks are loaded from the world directory when
+     * saved there and generated otherwise; generated chunks are saved back
+     * periodically and on dispose.
+     *
+     * @param renderDistance View radius in chunks
+     * @param worldDirectory Directory for region files, or null to keep the world in memory only
+     */
+    public void init(int renderDistance, Path worldDirectory) {
+        init(renderDistance, worldDirectory, null);
+    }
+
+    /**
+     * Initializes the engine with level-of-detail terrain drawn beyond the
+     * render distance, see {@link LodSettings}.
+     *
+     * @param renderDistance View radius of full-detail chunks
+     * @param worldDirectory Directory for region files, or null to keep the world in memory only
+     * @param lodSettings Ring sizes of the simplified terrain, or null to draw nothing past the render distance
+     * @throws IllegalArgumentException If the first LOD ring does not reach past the render distance
+     */
+    public void init(int renderDistance, Path worldDirectory, LodSettings lodSettings) {
+        this.renderDistance = renderDistance;
+        this.chunks = new LongMap<>();
+        this.worldStorage = worldDirectory != null ? new WorldStorage(worldDirectory) : null;
+        this.lastSaveTime = TimeUtils.millis();
+
+        int workerThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.chunkGenerator = new ChunkGenerator(workerThreads, worldStorage);
+        this.meshPipeline = new ChunkMeshPipeline(workerThreads);
+        this.meshCache = new ChunkMeshCache(meshPipeline);
+        this.lodTerrain = lodSettings != null ? new LodTerrain(lodSettings, renderDistance, workerThreads) : null;
     }
 
     public void render(ModelBatch modelBatch, Environment environment) {
         Vector3 cameraPos = Camera.getInstance().getPosition();
         int camChunkX = (int) Math.floor(cameraPos.x / Chunk.CHUNK_SIZE);
         int camChunkZ = (int) Math.floor(cameraPos.z / Chunk.CHUNK_SIZE);
+        PerspectiveCamera camera = Camera.getInstance().getCamera();
+        streamer.update(cameraPos, camera.direction, TimeUtils.nanoTime(), camera.frustum);
+
+        meshCache.beginFrame();
+        drainGeneratedChunks();
+        meshEditedSections(EDIT_SECTIONS_PER_FRAME);
+        uploadEditedSections();
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        long start = profiler.start();
+        findVisibleChunks(camChunkX, camChunkZ);
+        profiler.stop(FrameTimer.FIND_VISIBLE_CHUNKS, start);
 
-        Set<ChunkPosition> visibleChunks = findVisibleChunks(camChunkX, camChunkZ);
+        start = profiler.start();
         buildChunkMeshes();
-        renderVisibleChunks(visibleChunks, modelBatch, environment);
+        if (lodTerrain != null) lodTerrain.update(camChunkX, camChunkZ, chunks);
+        profiler.stop(FrameTimer.BUILD_CHUNK_MESHES, start);
+
+        start = profiler.start();
+        renderVisibleChunks(modelBatch, environment, camChunkX, camChunkZ);
+        profiler.stop(FrameTimer.RENDER_VISIBLE_CHUNKS, start);
+
+        start = profiler.start();
         unloadDistantChunks(camChunkX, camChunkZ);
+        profiler.stop(FrameTimer.UNLOAD_DISTANT_CHUNKS, start);
+
+        if (TimeUtils.timeSinceMillis(lastSaveTime) >= SAVE_INTERVAL_MS) {
+            saveDirtyChunks();
+        }
     }
 
-    private Set<ChunkPosition> findVisibleChunks(int camChunkX, int camChunkZ) {
-        Set<ChunkPosition> visibleChunks = new HashSet<>();
+    /**
+     * Changes a block in a loaded chunk. The sections whose faces change,
+     * including those of neighbor chunks when the block lies on a chunk
+     * border, are remeshed during the next {@link #render}. Edits made
+     * between two frames are coalesced, so each section is remeshed once.
+     * Must be called from the render thread.
+     *
+     * @param worldX World X coordinate
+     * @param y World Y coordinate
+     * @param worldZ World Z coordinate
+     * @param type The new block type
+     * @return True if the block changed; false if it already had that type or its chunk is not loaded
+     */
+    public boolean setBlock(int worldX, int y, int worldZ, BlockType type) {
+        if (y < 0 || y >= Chunk.CHUNK_HEIGHT) return false;
+
+        int chunkX = Math.floorDiv(worldX, Chunk.CHUNK_SIZE);
+        int chunkZ = Math.floorDiv(worldZ, Chunk.CHUNK_SIZE);
+        Chunk chunk = chunks.get(ChunkPosition.pack(chunkX, chunkZ));
+        if (chunk == null) return false;
 
-        for (int x = camChunkX - renderDistance; x <= camChunkX + renderDistance; x++) {
-            for (int z = camChunkZ - renderDistance; z <= camChunkZ + renderDistance; z++) {
-                if (isValidChunkPosition(x, z)) {
-                    ChunkPosition pos = new ChunkPosition(x, z);
-                    visibleChunks.add(pos);
+        int x = Math.floorMod(worldX, Chunk.CHUNK_SIZE);
+        int z = Math.floorMod(worldZ, Chunk.CHUNK_SIZE);
+        boolean queued = chunk.hasDirtySections();
+        long dataBytes = chunk.getDataBytes();
+        if (!chunk.setBlock(x, y, z, type)) return false;
+        if (!queued) editedChunks.add(chunk);
+        chunkDataBytes += chunk.getDataBytes() - dataBytes;
 
-                    Chunk chunk = chunks.get(pos);
-                    if (chunk != null && !chunk.hasMesh()) {
-                        chunksToLoad.add(pos);
-                    }
+        // Border blocks also change which faces of the adjacent chunk are visible
+        int section = y / ChunkSection.SIZE;
+        if (x == 0) markNeighborSectionDirty(chunkX - 1, chunkZ, section);
+        if (x == Chunk.CHUNK_SIZE - 1) markNeighborSectionDirty(chunkX + 1, chunkZ, section);
+        if (z == 0) markNeighborSectionDirty(chunkX, chunkZ - 1, section);
+        if (z == Chunk.CHUNK_SIZE - 1) markNeighborSectionDirty(chunkX, chunkZ + 1, section);
+        return true;
+    }
+
+    /**
+     * Gets a block by world coordinates.
+     *
+     * @return The block type, or AIR if the chunk is not loaded or y is outside the world
+     */
+    public BlockType getBlock(int worldX, int y, int worldZ) {
+        if (y < 0 || y >= Chunk.CHUNK_HEIGHT) return BlockType.AIR;
+
+        Chunk chunk = chunks.get(ChunkPosition.pack(Math.floorDiv(worldX, Chunk.CHUNK_SIZE), Math.floorDiv(worldZ, Chunk.CHUNK_SIZE)));
+        if (chunk == null) return BlockType.AIR;
+        return chunk.getBlock(Math.floorMod(worldX, Chunk.CHUNK_SIZE), y, Math.floorMod(worldZ, Chunk.CHUNK_SIZE));
+    }
+
+    private void markNeighborSectionDirty(int chunkX, int chunkZ, int section) {
+        long key = ChunkPosition.pack(chunkX, chunkZ);
+        Chunk neighbor = chunks.get(key);
+        if (neighbor == null) {
+            // Faces towards the edited block may be stale in a mesh kept for when the neighbor is loaded again
+            meshCache.discardRetained(key);
+            return;
+        }
+
+        if (!neighbor.hasDirtySections()) editedChunks.add(neighbor);
+        neighbor.markSectionDirty(section);
+    }
+
+    /**
+     * CPU stage of applying block edits: meshes the dirty sections of edited
+     * chunks, up to a budget, for {@link #uploadEditedSections}. Sections
+     * over the budget stay dirty for the next frame. Chunks with a job in the
+     * mesh pipeline have their sections merged into it instead, and chunks
+     * without a mesh are left to their first full mesh build.
+     * Package-private for benchmarks.
+     *
+     * @param sectionBudget Maximum number of sections to mesh
+     * @return The number of sections meshed
+     */
+    int meshEditedSections(int sectionBudget) {
+        int meshed = 0;
+        for (int i = 0; i < editedChunks.size; ) {
+            Chunk chunk = editedChunks.get(i);
+            int dirtySections = chunk.getDirtySections();
+            boolean pending = meshPipeline.isPending(chunk.getKey());
+
+            if (pending) {
+                collectNeighbors(chunk);
+                meshPipeline.submit(chunk, neighbors, dirtySections);
+                chunk.clearDirtySections(dirtySections);
+            } else if (!chunk.hasMesh()) {
+                chunk.clearDirtySections(dirtySections);
+                meshCache.discardRetained(chunk.getKey());
+            } else if (meshed < sectionBudget) {
+                int sectionMask = lowestSections(dirtySections, sectionBudget - meshed);
+                collectNeighbors(chunk);
+                chunk.clearDirtySections(sectionMask);
+
+                SectionRemesh remesh = obtainSectionRemesh();
+                remesh.chunk = chunk;
+                remesh.sectionMask = sectionMask;
+                chunk.buildMeshData(remesh.sectionData, neighbors, sectionMask);
+                meshed += Integer.bitCount(sectionMask);
+            }
+
+            if (chunk.hasDirtySections()) {
+                i++;
+            } else {
+                editedChunks.removeIndex(i);
+            }
+        }
+        Arrays.fill(neighbors, null);
+        return meshed;
+    }
+
+    private static int lowestSections(int sectionMask, int count) {
+        int selected = 0;
+        for (int i = 0; i < count && sectionMask != 0; i++) {
+            int section = Integer.lowestOneBit(sectionMask);
+            selected |= section;
+            sectionMask &= ~section;
+        }
+        return selected;
+    }
+
+    private SectionRemesh obtainSectionRemesh() {
+        if (sectionRemeshCount == sectionRemeshes.size) {
+            sectionRemeshes.add(new SectionRemesh());
+        }
+        return sectionRemeshes.get(sectionRemeshCount++);
+    }
+
+    /**
+     * GPU stage of applying block edits: uploads the sections meshed by
+     * {@link #meshEditedSections}.
+     */
+    private void uploadEditedSections() {
+        if (sectionRemeshCount > 0) renderList.invalidate();
+        int vertices = 0;
+        for (int i = 0; i < sectionRemeshCount; i++) {
+            SectionRemesh remesh = sectionRemeshes.get(i);
+            for (ChunkMeshData meshData : remesh.sectionData) {
+                if (meshData != null) vertices += meshData.getQuadCount() * 4;
+            }
+            remesh.chunk.uploadMesh(remesh.sectionData, remesh.sectionMask);
+            meshCache.onUploaded(remesh.chunk);
+        }
+        FrameProfiler.getInstance().count(FrameCounter.VERTICES_UPLOADED, vertices);
+        discardEditedSections();
+    }
+
+    /**
+     * Releases the sections meshed by {@link #meshEditedSections} without
+     * uploading them. Package-private for benchmarks, which have no GL context.
+     */
+    void discardEditedSections() {
+        for (int i = 0; i < sectionRemeshCount; i++) {
+            SectionRemesh remesh = sectionRemeshes.get(i);
+            ChunkMeshData.freeAll(remesh.sectionData);
+            remesh.chunk = null;
+        }
+        sectionRemeshCount = 0;
+    }
+
+    /**
+     * Queues every dirty chunk for an asynchronous save.
+     */
+    private void saveDirtyChunks() {
+        lastSaveTime = TimeUtils.millis();
+        if (worldStorage == null) return;
+
+        for (Chunk chunk : chunks.values()) {
+            if (chunk.isDirty()) {
+                worldStorage.saveAsync(chunk);
+                chunk.clearDirty();
+            }
+        }
+    }
+
+    /**
+     * Adds the chunks the generator finished since the last frame to the
+     * world. Package-private for benchmarks.
+     *
+     * @return The number of chunks added
+     */
+    int drainGeneratedChunks() {
+        int added = chunkGenerator.drainCompleted(chunks, generatedChunks);
+        for (int i = 0; i < generatedChunks.size; i++) {
+            chunkDataBytes += generatedChunks.get(i).getDataBytes();
+        }
+        invalidateNeighborMeshes();
+        return added;
+    }
+
+    /**
+     * Marks the neighbors of freshly generated chunks for remeshing when
+     * their current mesh was built without that side, so the faces along
+     * the shared border get culled.
+     */
+    private void invalidateNeighborMeshes() {
+        for (int i = 0; i < generatedChunks.size; i++) {
+            Chunk chunk = generatedChunks.get(i);
+            for (int face : HORIZONTAL_FACES) {
+                Chunk neighbor = chunks.get(ChunkPosition.pack(chunk.getChunkX() + NEIGHBOR_DX[face], chunk.getChunkZ() + NEIGHBOR_DZ[face]));
+                if (neighbor == null) continue;
+
+                long neighborKey = neighbor.getKey();
+                boolean meshed = neighbor.hasMesh() || meshPipeline.isPending(neighborKey);
+                // The neighbor sees this chunk through its opposite face
+                int side = 1 << (face ^ 1);
+                if (meshed && (neighbor.getMeshNeighborMask() & side) == 0) {
+                    meshPipeline.cancel(neighborKey);
+                    neighbor.markMeshDirty();
+                }
+            }
+        }
+        generatedChunks.clear();
+    }
+
+    /**
+     * Collects the loaded chunks in range into {@link #visibleChunks} and
+     * queues generation or meshing for the ones that are not ready yet.
+     * The range is a circle, see {@link RenderArea}; generation covers one
+     * extra ring so border faces can be culled. The same is done around the
+     * position the camera is predicted to reach, see {@link ChunkStreamer},
+     * so chunks along its path are ready when they come into range.
+     * Generation is requested in priority order up to the queue bound; the
+     * rest is found again by the next frame. Chunks to mesh join the
+     * persistent {@link #chunksToLoad} queue, which is only ranked again
+     * when the camera enters another chunk or turns. Reuses the same
+     * collections every frame. Package-private for benchmarks.
+     */
+    void findVisibleChunks(int camChunkX, int camChunkZ) {
+        visibleChunks.clear();
+        chunksToGenerate.clear();
+        int generateDistance = renderDistance + NEIGHBOR_RING;
+        int popIn = 0;
+
+        if (!ranked || camChunkX != rankedChunkX || camChunkZ != rankedChunkZ || streamer.getViewRevision() != rankedViewRevision) {
+            // Covers the render area around the predicted position as well
+            int queueRadius = renderDistance + Math.abs(streamer.getLeadX()) + Math.abs(streamer.getLeadZ());
+            chunksToLoad.reprioritize(camChunkX, camChunkZ, queueRadius, streamer);
+            ranked = true;
+            rankedChunkX = camChunkX;
+            rankedChunkZ = camChunkZ;
+            rankedViewRevision = streamer.getViewRevision();
+        }
+
+        for (int x = camChunkX - generateDistance; x <= camChunkX + generateDistance; x++) {
+            for (int z = camChunkZ - generateDistance; z <= camChunkZ + generateDistance; z++) {
+                int dx = x - camChunkX;
+                int dz = z - camChunkZ;
+                if (!RenderArea.contains(dx, dz, generateDistance)) continue;
+
+                long key = ChunkPosition.pack(x, z);
+                Chunk chunk = chunks.get(key);
+                boolean inRange = RenderArea.contains(dx, dz, renderDistance);
+
+                if (chunk == null) {
+                    boolean inFrustum = streamer.isInFrustum(x, z);
+                    if (inRange && inFrustum) popIn++;
+                    chunksToGenerate.add(key, null, ChunkStreamer.getPriority(dx, dz, inFrustum));
+                    continue;
+                }
+                if (!inRange) continue;
+
+                visibleChunks.add(chunk);
+                if (chunk.hasMesh()) meshCache.touch(chunk);
+                if (!chunk.needsMesh() || chunksToLoad.contains(chunk)) continue;
+
+                // Only chunks without a current mesh pay for the frustum test
+                boolean inFrustum = streamer.isInFrustum(x, z);
+                if (inFrustum && !chunk.hasMesh()) popIn++;
+                queueMesh(chunk, dx, dz, inFrustum);
+            }
+        }
+
+        prefetchAlongPath(camChunkX, camChunkZ);
+        requestGeneration();
+        popInChunkFrames += popIn;
+        FrameProfiler.getInstance().count(FrameCounter.POP_IN_CHUNKS, popIn);
+    }
+
+    /**
+     * Adds the chunks around the predicted camera position that lie outside
+     * the area scanned around the camera to the generation and meshing
+     * candidates. They rank by their distance from the camera, so they only
+     * come before chunks in range that are behind the camera or farther away.
+     */
+    private void prefetchAlongPath(int camChunkX, int camChunkZ) {
+        int leadX = streamer.getLeadX();
+        int leadZ = streamer.getLeadZ();
+        if (leadX == 0 && leadZ == 0) return;
+
+        int generateDistance = renderDistance + NEIGHBOR_RING;
+        int centerX = camChunkX + leadX;
+        int centerZ = camChunkZ + leadZ;
+        for (int x = centerX - generateDistance; x <= centerX + generateDistance; x++) {
+            for (int z = centerZ - generateDistance; z <= centerZ + generateDistance; z++) {
+                int dx = x - camChunkX;
+                int dz = z - camChunkZ;
+                if (!RenderArea.contains(x - centerX, z - centerZ, generateDistance)) continue;
+                if (RenderArea.contains(dx, dz, generateDistance)) continue;
+
+                long key = ChunkPosition.pack(x, z);
+                Chunk chunk = chunks.get(key);
+                if (chunk == null) {
+                    chunksToGenerate.add(key, null, ChunkStreamer.getPriority(dx, dz, streamer.isInFrustum(x, z)));
+                } else if (chunk.needsMesh() && !chunksToLoad.contains(chunk) && RenderArea.contains(x - centerX, z - centerZ, renderDistance)) {
+                    queueMesh(chunk, dx, dz, streamer.isInFrustum(x, z));
                 }
             }
         }
+    }
+
+    private void queueMesh(Chunk chunk, int dx, int dz, boolean inFrustum) {
+        if (isReadyToMesh(chunk)) chunksToLoad.add(chunk, ChunkStreamer.getPriority(dx, dz, inFrustum));
+    }
 
-        return visibleChunks;
+    /**
+     * Checks whether a chunk can be meshed now: it is still loaded, its
+     * mesh is missing or out of date, no job for it is pending and none of
+     * its neighbors is about to arrive.
+     */
+    private boolean isReadyToMesh(Chunk chunk) {
+        long key = chunk.getKey();
+        return chunks.get(key) == chunk && chunk.needsMesh() && !meshPipeline.isPending(key)
+            && !isAwaitingNeighbors(chunk.getChunkX(), chunk.getChunkZ());
     }
 
-    private boolean isValidChunkPosition(int x, int z) {
-        return x >= 0 && x < worldSize && z >= 0 && z < worldSize;
+    /**
+     * Requests the most urgent missing chunks until the generator holds
+     * {@link #MAX_PENDING_GENERATION} requests.
+     */
+    private void requestGeneration() {
+        chunksToGenerate.sort();
+        int free = MAX_PENDING_GENERATION - chunkGenerator.getPendingCount();
+        for (int i = 0; i < chunksToGenerate.size() && free > 0; i++) {
+            long key = chunksToGenerate.getKey(i);
+            if (chunkGenerator.isPending(key)) continue;
+            chunkGenerator.request(key, chunksToGenerate.getPriority(i));
+            free--;
+        }
+        chunksToGenerate.clear();
     }
 
+    /**
+     * Checks whether any missing neighbor of a chunk is still being generated.
+     * Meshing waits for those instead of building a mesh that is immediately stale.
+     */
+    private boolean isAwaitingNeighbors(int chunkX, int chunkZ) {
+        for (int face : HORIZONTAL_FACES) {
+            long key = ChunkPosition.pack(chunkX + NEIGHBOR_DX[face], chunkZ + NEIGHBOR_DZ[face]);
+            if (!chunks.containsKey(key) && chunkGenerator.isPending(key)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Fills the neighbor array for a chunk.
+     *
+     * @return Bit mask of the neighbors that are loaded, {@code 1 << face}
+     */
+    private int collectNeighbors(Chunk chunk) {
+        int mask = 0;
+        for (int face : HORIZONTAL_FACES) {
+            Chunk neighbor = chunks.get(ChunkPosition.pack(chunk.getChunkX() + NEIGHBOR_DX[face], chunk.getChunkZ() + NEIGHBOR_DZ[face]));
+            neighbors[face] = neighbor;
+            if (neighbor != null) mask |= 1 << face;
+        }
+        return mask;
+    }
+
+    /**
+     * Runs the mesh stage of a frame without a GL context: meshes every
+     * queued chunk that is ready on the calling thread and applies only the
+     * mesh metadata, see {@link Chunk#uploadMeshMetadata}. The mesh cache
+     * tracks the chunks as it does uploaded ones. Package-private for tests
+     * and benchmarks.
+     *
+     * @return The number of chunks meshed
+     */
+    int buildChunkMeshMetadata() {
+        ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
+        int meshed = 0;
+        Chunk chunk;
+        while ((chunk = chunksToLoad.poll()) != null) {
+            if (!isReadyToMesh(chunk)) continue;
+
+            chunk.onMeshQueued(collectNeighbors(chunk));
+            chunk.buildMeshData(sectionData, neighbors);
+            chunk.uploadMeshMetadata(sectionData, Chunk.ALL_SECTIONS);
+            ChunkMeshData.freeAll(sectionData);
+            meshCache.onUploaded(chunk);
+            meshed++;
+        }
+        Arrays.fill(neighbors, null);
+        if (meshed > 0) renderList.invalidate();
+        return meshed;
+    }
+
+    /**
+     * Takes chunks from the {@link #chunksToLoad} queue, most urgent first,
+     * and uploads finished meshes. Chunks whose evicted mesh the cache still
+     * holds are uploaded from it instead, under the same time budget; the
+     * others are meshed until the pipeline holds
+     * {@link #MAX_PENDING_MESH_JOBS} jobs. Chunks that have to wait for
+     * either go back into the queue for the next frame.
+     */
     private void buildChunkMeshes() {
-        int chunksBuilt = 0;
-        Iterator<ChunkPosition> iterator = chunksToLoad.iterator();
-
-        while (iterator.hasNext() && chunksBuilt < MAX_CHUNKS_PER_FRAME) {
-            ChunkPosition pos = iterator.next();
-            Chunk chunk = chunks.get(pos);
-
-            if (chunk != null && !chunk.hasMesh()) {
-                chunk.buildMesh();
-                chunksBuilt++;
-                iterator.remove();
-            } else if (chunk == null || chunk.hasMesh()) {
-                iterator.remove();
+        long start = System.nanoTime();
+        long budgetNanos = (long) (MESH_UPLOAD_BUDGET_MS * NANOS_PER_MILLI);
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        boolean restored = false;
+
+        while (deferredChunks.size() < MAX_DEFERRED_CHUNKS) {
+            boolean overBudget = System.nanoTime() - start >= budgetNanos;
+            boolean pipelineFull = meshPipeline.getPendingCount() >= MAX_PENDING_MESH_JOBS;
+            if (overBudget && pipelineFull) break;
+
+            int priority = chunksToLoad.peekPriority();
+            Chunk chunk = chunksToLoad.poll();
+            if (chunk == null) break;
+            if (!isReadyToMesh(chunk)) continue;
+
+            boolean retained = !chunk.hasMesh() && meshCache.isRetained(chunk.getKey());
+            if (retained ? overBudget : pipelineFull) {
+                deferredChunks.add(chunk.getKey(), chunk, priority);
+                continue;
+            }
+
+            int neighborMask = collectNeighbors(chunk);
+            if (retained && meshCache.restore(chunk, neighborMask)) {
+                profiler.count(FrameCounter.CHUNKS_MESHED, 1);
+                profiler.count(FrameCounter.VERTICES_UPLOADED, chunk.getVertexCount());
+                restored = true;
+                continue;
             }
+            meshCache.countMiss();
+            chunk.onMeshQueued(neighborMask);
+            meshPipeline.submit(chunk, neighbors);
         }
+        for (int i = 0; i < deferredChunks.size(); i++) {
+            chunksToLoad.add(deferredChunks.getChunk(i), deferredChunks.getPriority(i));
+        }
+        deferredChunks.clear();
+        Arrays.fill(neighbors, null);
+
+        meshPipeline.uploadCompleted(MESH_UPLOAD_BUDGET_MS, uploadedChunks);
+        for (int i = 0; i < uploadedChunks.size; i++) {
+            Chunk chunk = uploadedChunks.get(i);
+            meshCache.onUploaded(chunk);
+            profiler.count(FrameCounter.VERTICES_UPLOADED, chunk.getVertexCount());
+        }
+        profiler.count(FrameCounter.CHUNKS_MESHED, uploadedChunks.size);
+        if (restored || uploadedChunks.notEmpty()) {
+            renderList.invalidate();
+        }
+        uploadedChunks.clear();
     }
 
-    private void renderVisibleChunks(Set<ChunkPosition> visibleChunks, ModelBatch modelBatch, Environment environment) {
-        for (ChunkPosition pos : visibleChunks) {
-            Chunk chunk = chunks.get(pos);
-            if (chunk != null && chunk.hasMesh()) {
-                chunk.render(modelBatch, environment);
-            }
+    /**
+     * Adds an already generated chunk, replacing any chunk at the same
+     * position. Package-private for benchmarks that need a populated world
+     * without running the generator.
+     *
+     * @param chunk The chunk to add
+     */
+    void addChunk(Chunk chunk) {
+        Chunk replaced = chunks.put(chunk.getKey(), chunk);
+        if (replaced != null) chunkDataBytes -= replaced.getDataBytes();
+        chunkDataBytes += chunk.getDataBytes();
+    }
+
+    public int getRenderDistance() {
+        return renderDistance;
+    }
+
+    /**
+     * Changes the radius of full-detail chunks. Chunks leaving it are
+     * unloaded as usual, and LOD terrain takes over the area they leave.
+     * Takes effect at the next frame; the camera's far plane may need to
+     * follow {@link #getDrawDistance()}.
+     *
+     * @param renderDistance View radius in chunks
+     * @throws IllegalArgumentException If the radius is negative or, with LOD terrain, does not stay inside the first LOD ring
+     */
+    public void setRenderDistance(int renderDistance) {
+        if (renderDistance < 0) {
+            throw new IllegalArgumentException("Render distance must not be negative, got " + renderDistance);
         }
+        if (lodTerrain != null) lodTerrain.setRenderDistance(renderDistance);
+        this.renderDistance = renderDistance;
+        ranked = false;
+        renderList.invalidate();
+    }
+
+    /**
+     * Gets the number of loaded chunks found in range by the last frame.
+     *
+     * @return The visible chunk count
+     */
+    public int getVisibleChunkCount() {
+        return visibleChunks.size;
+    }
+
+    /**
+     * Gets the number of chunks whose block data is in memory, in range or not.
+     *
+     * @return The loaded chunk count
+     */
+    public int getLoadedChunkCount() {
+        return chunks.size;
+    }
+
+    /**
+     * Gets the number of chunks waiting to be generated or loaded.
+     * Package-private for benchmarks.
+     *
+     * @return The pending chunk count
+     */
+    int getPendingChunkCount() {
+        return chunkGenerator.getPendingCount();
+    }
+
+    /**
+     * Gets the number of frames chunks in range and in view went without a
+     * mesh, summed over all such chunks since the engine was initialized.
+     * Missing chunks count as well. Zero means no terrain ever popped in.
+     *
+     * @return The pop-in in chunk-frames
+     */
+    public long getPopInChunkFrames() {
+        return popInChunkFrames;
+    }
+
+    /**
+     * Gets the estimated heap size of the block data of all loaded chunks.
+     *
+     * @return The size in bytes
+     */
+    public long getChunkDataBytes() {
+        return chunkDataBytes;
+    }
+
+    public long getChunkDataBudgetBytes() {
+        return chunkDataBudgetBytes;
+    }
+
+    /**
+     * Sets the heap budget for the block data of loaded chunks. Chunks in
+     * range are never dropped, so the budget is exceeded when they alone
+     * need more. Takes effect at the next frame.
+     *
+     * @param chunkDataBudgetBytes The budget in bytes
+     */
+    public void setChunkDataBudgetBytes(long chunkDataBudgetBytes) {
+        this.chunkDataBudgetBytes = chunkDataBudgetBytes;
+    }
+
+    /**
+     * Gets how many times the block data of a chunk was dropped.
+     *
+     * @return The number of evicted chunks
+     */
+    public long getChunkDataEvictions() {
+        return chunkDataEvictions;
+    }
+
+    /**
+     * Gets the cache of chunk meshes, to configure its budgets and eviction
+     * policy or read its statistics.
+     *
+     * @return The mesh cache
+     */
+    public ChunkMeshCache getMeshCache() {
+        return meshCache;
+    }
+
+    /**
+     * Enables or disables occlusion culling of sections hidden behind
+     * terrain. Enabled by default.
+     *
+     * @param enabled Whether to cull occluded sections
+     */
+    public void setOcclusionCulling(boolean enabled) {
+        renderList.setOcclusionCulling(enabled);
+    }
+
+    /**
+     * Gets the number of chunk sections drawn by the last frame, after
+     * frustum and occlusion culling.
+     *
+     * @return The rendered section count
+     */
+    public int getRenderedSectionCount() {
+        return renderedSectionCount;
+    }
+
+    /**
+     * Gets the CPU time the last frame spent on frustum and occlusion
+     * culling. Near zero on frames that reuse the previous render list.
+     *
+     * @return The culling time in nanoseconds
+     */
+    public long getCullTimeNanos() {
+        return renderList.getCullNanos();
+    }
+
+    private void renderVisibleChunks(ModelBatch modelBatch, Environment environment, int camChunkX, int camChunkZ) {
+        PerspectiveCamera camera = Camera.getInstance().getCamera();
+        renderList.update(camera, chunks, camChunkX, camChunkZ, renderDistance);
+        renderList.renderOpaque(modelBatch, environment);
+        // LOD tiles lie behind every chunk, so they go between the chunks' opaque and translucent layers
+        if (lodTerrain != null) lodTerrain.render(modelBatch, environment, camera);
+        renderList.renderTranslucent(modelBatch, environment);
+        renderedSectionCount = renderList.getSectionCount();
+    }
+
+    /**
+     * Gets the distance from the camera's chunk to the farthest corner of
+     * the farthest terrain drawn, including LOD tiles, e.g. for the camera's
+     * far plane.
+     *
+     * @return The draw distance in blocks
+     */
+    public float getDrawDistance() {
+        int chunkRadius = lodTerrain != null ? lodTerrain.getMaxDistance() : renderDistance;
+        float horizontal = (chunkRadius + 1) * Chunk.CHUNK_SIZE * (float) Math.sqrt(2);
+        return (float) Math.sqrt(horizontal * horizontal + Chunk.CHUNK_HEIGHT * Chunk.CHUNK_HEIGHT);
+    }
+
+    /**
+     * Gets the number of LOD tiles drawn by the last frame, after frustum culling.
+     *
+     * @return The rendered tile count, 0 without LOD terrain
+     */
+    public int getRenderedLodTileCount() {
+        return lodTerrain != null ? lodTerrain.getRenderedTileCount() : 0;
     }
 
-    private void unloadDistantChunks(int camChunkX, int camChunkZ) {
-        int bufferDistance = renderDistance + UNLOAD_BUFFER;
+    /**
+     * Drops stale generation and meshing work, evicts meshes over the mesh
+     * budget and then block data over the heap budget. Package-private for
+     * benchmarks.
+     */
+    void unloadDistantChunks(int camChunkX, int camChunkZ) {
+        int bufferDistance = getKeepDistance();
 
-        for (ObjectMap.Entry<ChunkPosition, Chunk> entry : chunks) {
-            Chunk chunk = entry.value;
-            ChunkPosition pos = entry.key;
+        // Drop stale work for chunks that left the range before it finished
+        chunkGenerator.cancelOutside(camChunkX, camChunkZ, bufferDistance);
+        meshPipeline.cancelOutside(camChunkX, camChunkZ, bufferDistance);
 
-            boolean isTooFar = Math.abs(pos.x - camChunkX) > bufferDistance ||
-                               Math.abs(pos.z - camChunkZ) > bufferDistance;
+        // Meshes out of range stay until the cache is over budget, so turning back does not rebuild them
+        if (meshCache.evict(camChunkX, camChunkZ) > 0) {
+            renderList.invalidate();
+        }
+        evictChunkData(camChunkX, camChunkZ);
+    }
+
+    /**
+     * Drops the block data of chunks beyond the unload distance, farthest
+     * first, until the loaded chunks fit the heap budget. Terrain generation
+     * is deterministic, so a dropped chunk comes back with the same blocks
+     * whether it is loaded from the world storage or regenerated. Dirty
+     * chunks are saved before they are dropped; without a world storage,
+     * edited chunks are kept since their edits could not be restored.
+     *
+     * @return The number of chunks dropped
+     */
+    private int evictChunkData(int camChunkX, int camChunkZ) {
+        if (chunkDataBytes <= chunkDataBudgetBytes) return 0;
 
-            if (chunk.hasMesh() && isTooFar) {
-                chunk.disposeMesh();
+        evictionCamX = camChunkX;
+        evictionCamZ = camChunkZ;
+        int keepDistance = getKeepDistance();
+        for (Chunk chunk : chunks.values()) {
+            if (distanceToCamera(chunk) > keepDistance && canEvictData(chunk)) {
+                evictionCandidates.add(chunk);
             }
         }
+        evictionCandidates.sort(farthestFirst);
+
+        int evicted = 0;
+        for (int i = 0; i < evictionCandidates.size && chunkDataBytes > chunkDataBudgetBytes; i++) {
+            evictChunkData(evictionCandidates.get(i));
+            evicted++;
+        }
+        evictionCandidates.clear();
+        return evicted;
+    }
+
+    /**
+     * Gets the distance up to which chunks and their pending work are kept,
+     * extended by the current lead so the area prefetched ahead of a moving
+     * camera is not dropped again.
+     */
+    private int getKeepDistance() {
+        return renderDistance + UNLOAD_BUFFER + Math.max(Math.abs(streamer.getLeadX()), Math.abs(streamer.getLeadZ()));
+    }
+
+    private boolean canEvictData(Chunk chunk) {
+        if (chunk.hasDirtySections() || meshPipeline.isPending(chunk.getKey())) return false;
+        return worldStorage != null || !chunk.isEdited();
+    }
+
+    private void evictChunkData(Chunk chunk) {
+        if (worldStorage != null && chunk.isDirty()) {
+            worldStorage.saveAsync(chunk);
+            chunk.clearDirty();
+        }
+        // The mesh may be kept as retained data, which is still valid for the reloaded blocks
+        if (meshCache.evict(chunk)) renderList.invalidate();
+        chunk.dispose();
+        chunks.remove(chunk.getKey());
+        chunkDataBytes -= chunk.getDataBytes();
+        chunkDataEvictions++;
+    }
+
+    private int distanceToCamera(Chunk chunk) {
+        return Math.max(Math.abs(chunk.getChunkX() - evictionCamX), Math.abs(chunk.getChunkZ() - evictionCamZ));
     }
 
     /**
@@ -130,8 +906,24 @@ public class VoxelEngine implements Disposable {
      */
     @Override
     public void dispose() {
+        chunkGenerator.dispose();
+        meshPipeline.dispose();
+        if (lodTerrain != null) lodTerrain.dispose();
+        if (worldStorage != null) {
+            saveDirtyChunks();
+            worldStorage.dispose();
+        }
+        renderList.clear();
         for (Chunk chunk : chunks.values()) chunk.dispose();
         chunks.clear();
+        chunkDataBytes = 0;
+        meshCache.clear();
+        visibleChunks.clear();
+        chunksToGenerate.clear();
         chunksToLoad.clear();
+        ranked = false;
+        generatedChunks.clear();
+        editedChunks.clear();
+        discardEditedSections();
     }
 }
@@ -132,6 +132,17 @@ public class Camera {
         modelBatch.end();
     }
 
+    /**
+     * Moves the far clipping plane, e.g. to reach terrain drawn beyond the
+     * full-detail chunks.
+     *
+     * @param far The distance of the far plane in blocks
+     */
+    public void setFarPlane(float far) {
+        camera.far = far;
+        camera.update();
+    }
+
     /**
      * Handles window resize events by updating the camera viewport.
      *
@@ -176,7 +187,7 @@ public class Camera {
      *
      * @return The LibGDX camera
      */
-    public com.badlogic.gdx.graphics.Camera getCamera() {
+    public PerspectiveCamera getCamera() {
         return camera;
     }
 }
@@ -0,0 +1,135 @@
+package io.github.some_example_name.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file holding up to {@link #REGION_SIZE} x {@link #REGION_SIZE} encoded chunks.
+ * The file starts with an offset table of one entry per chunk (sector
+ * offset and byte length, 0 when absent), followed by chunk payloads aligned
+ * to {@link #SECTOR_BYTES}-byte sectors. The table is memory-mapped; payloads
+ * are read and written through the file channel.
+ * A payload that outgrows its sectors is appended at the end of the file and
+ * the old sectors are left unused. All methods are synchronized, and
+ * reads and writes after {@link #close()} throw {@link ClosedChannelException}.
+ */
+public class RegionFile implements Closeable {
+    public static final int REGION_SIZE = 32;
+    public static final int SECTOR_BYTES = 512;
+
+    private static final int ENTRY_BYTES = 8;
+    private static final int HEADER_BYTES = REGION_SIZE * REGION_SIZE * ENTRY_BYTES;
+    private static final int HEADER_SECTORS = HEADER_BYTES / SECTOR_BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private int sectorCount;
+
+    /**
+     * Opens a region file, creating it with an empty offset table if needed.
+     *
+     * @param path The file to open
+     * @throws IOException If the file cannot be opened or mapped
+     */
+    public RegionFile(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        sectorCount = (int) Math.max(HEADER_SECTORS, (channel.size() + SECTOR_BYTES - 1) / SECTOR_BYTES);
+    }
+
+    /**
+     * Reads the payload stored for a chunk.
+     *
+     * @param localX Chunk X coordinate inside the region, 0 to REGION_SIZE - 1
+     * @param localZ Chunk Z coordinate inside the region, 0 to REGION_SIZE - 1
+     * @return A buffer positioned at the payload, or null if the chunk is not stored
+     * @throws IOException If reading fails or the table points past the end of the file
+     */
+    public synchronized ByteBuffer read(int localX, int localZ) throws IOException {
+        int entry = entryOffset(localX, localZ);
+        ensureOpen();
+        int sector = header.getInt(entry);
+        int length = header.getInt(entry + 4);
+        if (sector == 0 || length <= 0) return null;
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        long position = (long) sector * SECTOR_BYTES;
+        while (payload.hasRemaining()) {
+            if (channel.read(payload, position + payload.position()) < 0) {
+                throw new IOException("Truncated region file: chunk " + localX + "," + localZ + " ends past end of file");
+            }
+        }
+        payload.flip();
+        return payload;
+    }
+
+    /**
+     * Stores the payload for a chunk, replacing any previous one.
+     *
+     * @param localX Chunk X coordinate inside the region, 0 to REGION_SIZE - 1
+     * @param localZ Chunk Z coordinate inside the region, 0 to REGION_SIZE - 1
+     * @param payload The bytes between the buffer's position and limit
+     * @throws IOException If writing fails
+     */
+    public synchronized void write(int localX, int localZ, ByteBuffer payload) throws IOException {
+        int entry = entryOffset(localX, localZ);
+        ensureOpen();
+        int length = payload.remaining();
+        int sectorsNeeded = sectorsFor(length);
+
+        int sector = header.getInt(entry);
+        if (sector == 0 || sectorsFor(header.getInt(entry + 4)) < sectorsNeeded) {
+            sector = sectorCount;
+            sectorCount += sectorsNeeded;
+        }
+
+        long position = (long) sector * SECTOR_BYTES;
+        while (payload.hasRemaining()) {
+            position += channel.write(payload, position);
+        }
+
+        // The table is updated only after the payload is in place
+        header.putInt(entry, sector);
+        header.putInt(entry + 4, length);
+    }
+
+    private static int entryOffset(int localX, int localZ) {
+        if (localX < 0 || localX >= REGION_SIZE || localZ < 0 || localZ >= REGION_SIZE) {
+            throw new IllegalArgumentException("Chunk " + localX + "," + localZ + " is outside the region");
+        }
+        return (localZ * REGION_SIZE + localX) * ENTRY_BYTES;
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        // The table stays mapped after closing, so reads of absent chunks would otherwise still succeed
+        if (!channel.isOpen()) throw new ClosedChannelException();
+    }
+
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    private static int sectorsFor(int length) {
+        return (length + SECTOR_BYTES - 1) / SECTOR_BYTES;
+    }
+
+    /**
+     * Flushes the offset table and closes the file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        header.force();
+        channel.close();
+    }
+}
@@ -0,0 +1,335 @@
+package io.github.some_example_name.storage;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkPosition;
+import io.github.some_example_name.chunk.ChunkSection;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists chunk block data in region files under a world directory.
+ * Loads may run on any thread; saves encode the chunk on the calling thread
+ * and write it on a single background thread, so the data written is a
+ * snapshot from the moment {@link #saveAsync} was called. Until it is
+ * written, loads of that chunk are served from the snapshot, so a chunk
+ * dropped right after saving reloads with its latest blocks. At most
+ * {@value #MAX_OPEN_REGIONS} region files are kept open; the least
+ * recently used one is closed when another has to be opened.
+ */
+public class WorldStorage implements Disposable {
+    /** Bumped whenever the chunk encoding changes; older payloads are ignored and regenerated. */
+    private static final byte FORMAT_VERSION = 2;
+    private static final int CHUNK_HEADER_BYTES = 1 + 3 * Short.BYTES;
+    private static final byte SECTION_EMPTY = 0;
+    private static final byte SECTION_PRESENT = 1;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    /** Enough for the regions around the loaded area even when it straddles region corners. */
+    static final int MAX_OPEN_REGIONS = 16;
+
+    private final Path directory;
+    /** Open regions by slot; a slot is free while its file is null. Guarded by itself. */
+    private final RegionFile[] regions = new RegionFile[MAX_OPEN_REGIONS];
+    private final long[] regionKeys = new long[MAX_OPEN_REGIONS];
+    private final long[] regionLastUse = new long[MAX_OPEN_REGIONS];
+    private long regionUses;
+    /** Encoded chunks queued for the saver thread, by packed chunk position. Guarded by itself. */
+    private final LongMap<ByteBuffer> pending = new LongMap<>();
+    private final ExecutorService saver;
+
+    /**
+     * Opens a world directory, creating it if needed.
+     *
+     * @param directory The directory holding the region files
+     */
+    public WorldStorage(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create world directory " + directory, e);
+        }
+        this.saver = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chunk-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the stored block data of a chunk into it.
+     *
+     * @param chunk A freshly created chunk to fill
+     * @return True if stored data was found and loaded, false if the chunk has to be generated
+     */
+    public boolean load(Chunk chunk) {
+        int localX = localCoordinate(chunk.getChunkX());
+        int localZ = localCoordinate(chunk.getChunkZ());
+        try {
+            ByteBuffer payload;
+            synchronized (pending) {
+                payload = pending.get(chunk.getKey());
+            }
+            if (payload != null) {
+                payload = payload.duplicate();
+            } else {
+                payload = withRegion(chunk.getChunkX(), chunk.getChunkZ(), region -> region.read(localX, localZ));
+            }
+            return payload != null && decode(payload, chunk);
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("WorldStorage", "Cannot load chunk " + chunk.getChunkX() + "," + chunk.getChunkZ(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Saves a chunk and waits until it is written. The write goes through
+     * the saver thread behind any queued saves, so an older snapshot can
+     * never overwrite it.
+     *
+     * @param chunk The chunk to save
+     * @throws IOException If writing fails or the wait is interrupted
+     */
+    public void save(Chunk chunk) throws IOException {
+        int chunkX = chunk.getChunkX();
+        int chunkZ = chunk.getChunkZ();
+        ByteBuffer payload = encodePending(chunk);
+        Future<?> write = saver.submit(() -> {
+            writePending(chunkX, chunkZ, payload);
+            return null;
+        });
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted saving chunk " + chunkX + "," + chunkZ);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) throw cause;
+            throw new IOException("Cannot save chunk " + chunkX + "," + chunkZ, e.getCause());
+        }
+    }
+
+    /**
+     * Encodes a chunk now and writes it on the background saver thread.
+     *
+     * @param chunk The chunk to save
+     */
+    public void saveAsync(Chunk chunk) {
+        int chunkX = chunk.getChunkX();
+        int chunkZ = chunk.getChunkZ();
+        ByteBuffer payload = encodePending(chunk);
+        saver.execute(() -> {
+            try {
+                writePending(chunkX, chunkZ, payload);
+            } catch (IOException e) {
+                Gdx.app.error("WorldStorage", "Cannot save chunk " + chunkX + "," + chunkZ, e);
+            }
+        });
+    }
+
+    /**
+     * Encodes a chunk and serves it to {@link #load} until it is written.
+     */
+    private ByteBuffer encodePending(Chunk chunk) {
+        ByteBuffer payload = encode(chunk);
+        synchronized (pending) {
+            pending.put(chunk.getKey(), payload);
+        }
+        return payload;
+    }
+
+    /**
+     * Writes a snapshot from {@link #encodePending}. Once it is written, or
+     * writing failed, loads read the region file again, unless a newer
+     * snapshot of the chunk was queued in the meantime.
+     */
+    private void writePending(int chunkX, int chunkZ, ByteBuffer payload) throws IOException {
+        long key = ChunkPosition.pack(chunkX, chunkZ);
+        try {
+            write(chunkX, chunkZ, payload);
+        } finally {
+            synchronized (pending) {
+                if (pending.get(key) == payload) pending.remove(key);
+            }
+        }
+    }
+
+    private void write(int chunkX, int chunkZ, ByteBuffer payload) throws IOException {
+        withRegion(chunkX, chunkZ, region -> {
+            region.write(localCoordinate(chunkX), localCoordinate(chunkZ), payload.duplicate());
+            return null;
+        });
+    }
+
+    /**
+     * Encodes the header followed by one presence byte per section, each
+     * present section followed by its block data. Empty sections take one byte.
+     */
+    private static ByteBuffer encode(Chunk chunk) {
+        int size = CHUNK_HEADER_BYTES + Chunk.SECTION_COUNT;
+        for (int i = 0; i < Chunk.SECTION_COUNT; i++) {
+            ChunkSection section = chunk.getSection(i);
+            if (section != null && !section.isEmpty()) size += section.getBlocks().getEncodedSize();
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(size);
+        payload.put(FORMAT_VERSION);
+        payload.putShort((short) Chunk.CHUNK_SIZE);
+        payload.putShort((short) Chunk.CHUNK_HEIGHT);
+        payload.putShort((short) Chunk.CHUNK_SIZE);
+        for (int i = 0; i < Chunk.SECTION_COUNT; i++) {
+            ChunkSection section = chunk.getSection(i);
+            if (section == null || section.isEmpty()) {
+                payload.put(SECTION_EMPTY);
+            } else {
+                payload.put(SECTION_PRESENT);
+                section.getBlocks().writeTo(payload);
+            }
+        }
+        payload.flip();
+        return payload;
+    }
+
+    private static boolean decode(ByteBuffer payload, Chunk chunk) {
+        if (payload.get() != FORMAT_VERSION) return false;
+        // Chunks saved with other dimensions are regenerated rather than cropped
+        if (payload.getShort() != Chunk.CHUNK_SIZE || payload.getShort() != Chunk.CHUNK_HEIGHT
+            || payload.getShort() != Chunk.CHUNK_SIZE) {
+            return false;
+        }
+        for (int i = 0; i < Chunk.SECTION_COUNT; i++) {
+            if (payload.get() == SECTION_EMPTY) {
+                chunk.clearSection(i);
+            } else {
+                chunk.getOrCreateSection(i).readFrom(payload);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs an operation on the region holding a chunk. If another thread
+     * closed the region to make room for a different one in the meantime,
+     * the region is opened again and the operation repeated.
+     */
+    private <T> T withRegion(int chunkX, int chunkZ, RegionOperation<T> operation) throws IOException {
+        while (true) {
+            RegionFile region = region(chunkX, chunkZ);
+            try {
+                return operation.run(region);
+            } catch (ClosedChannelException e) {
+                if (region.isOpen() || e instanceof ClosedByInterruptException) throw e;
+            }
+        }
+    }
+
+    private RegionFile region(int chunkX, int chunkZ) throws IOException {
+        int regionX = Math.floorDiv(chunkX, RegionFile.REGION_SIZE);
+        int regionZ = Math.floorDiv(chunkZ, RegionFile.REGION_SIZE);
+        long key = ChunkPosition.pack(regionX, regionZ);
+
+        synchronized (regions) {
+            int slot = -1;
+            for (int i = 0; i < MAX_OPEN_REGIONS; i++) {
+                if (regions[i] != null && regionKeys[i] == key) {
+                    slot = i;
+                    break;
+                }
+            }
+            // A channel closed by an interrupted thread is reopened like an evicted region
+            if (slot >= 0 && !regions[slot].isOpen()) {
+                closeRegion(slot);
+            }
+            if (slot < 0 || regions[slot] == null) {
+                if (slot < 0) slot = evictLeastRecentlyUsed();
+                regions[slot] = new RegionFile(directory.resolve("r." + regionX + "." + regionZ + ".region"));
+                regionKeys[slot] = key;
+            }
+            regionLastUse[slot] = ++regionUses;
+            return regions[slot];
+        }
+    }
+
+    /**
+     * Frees a slot, closing the region that was used longest ago if every
+     * slot is taken. Must hold the lock on {@link #regions}.
+     *
+     * @return The free slot
+     */
+    private int evictLeastRecentlyUsed() {
+        int oldest = 0;
+        for (int i = 0; i < MAX_OPEN_REGIONS; i++) {
+            if (regions[i] == null) return i;
+            if (regionLastUse[i] < regionLastUse[oldest]) oldest = i;
+        }
+        closeRegion(oldest);
+        return oldest;
+    }
+
+    private void closeRegion(int slot) {
+        try {
+            regions[slot].close();
+        } catch (IOException e) {
+            Gdx.app.error("WorldStorage", "Cannot close region file", e);
+        }
+        regions[slot] = null;
+    }
+
+    /**
+     * Gets the number of region files currently open.
+     *
+     * @return At most {@value #MAX_OPEN_REGIONS}
+     */
+    int getOpenRegionCount() {
+        synchronized (regions) {
+            int count = 0;
+            for (RegionFile region : regions) {
+                if (region != null) count++;
+            }
+            return count;
+        }
+    }
+
+    private static int localCoordinate(int chunkCoordinate) {
+        return Math.floorMod(chunkCoordinate, RegionFile.REGION_SIZE);
+    }
+
+    /**
+     * Waits for queued saves to finish and closes all region files.
+     */
+    @Override
+    public void dispose() {
+        saver.shutdown();
+        try {
+            if (!saver.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                Gdx.app.error("WorldStorage", "Timed out waiting for chunk saves to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (regions) {
+            for (int i = 0; i < MAX_OPEN_REGIONS; i++) {
+                if (regions[i] != null) closeRegion(i);
+            }
+        }
+    }
+
+    private interface RegionOperation<T> {
+        T run(RegionFile region) throws IOException;
+    }
+}
@@ -1,12 +1,24 @@
 package io.github.some_example_name.terrain;
 
 import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkPosition;
+import io.github.some_example_name.chunk.ChunkSection;
 import java.util.Random;
 
 /**
  * Handles procedural terrain generation using Perlin noise.
  * This class creates height maps and fills chunks with appropriate block types
  * based on terrain features like mountains, plains, and lakes.
+ * <p>
+ * The terrain of a chunk depends only on the seed and the chunk position.
+ * All working buffers are per thread and the noise tables are read-only, so
+ * one instance can generate any number of chunks concurrently, and the
+ * result does not depend on which thread generates which chunk or in what order.
+ * <p>
+ * The biome and lake fields vary over hundreds of blocks or more, so by
+ * default they are sampled only on a coarse grid per region and
+ * interpolated in between, see {@link NoiseResolution}.
  */
 public class Generation {
     private static final int SEED = 42;
@@ -24,80 +36,378 @@ public class Generation {
     private static final float PLAINS_AMPLITUDE_MULTIPLIER = 0.7f;
     private static final float NOISE_NORMALIZATION = 0.57f;
     private static final int NEIGHBORHOOD_SIZE = 9; // 3x3 grid
+    private static final int SMOOTHING_ITERATIONS = 1;
+    /** Columns of neighboring chunks around a chunk's heights; each smoothing pass consumes one. */
+    private static final int HALO = SMOOTHING_ITERATIONS;
+    /** Unsmoothed height tiles kept for halos, about 1 KB each. */
+    private static final int HEIGHTFIELD_CACHE_TILES = 4096;
+    /** Edge length in blocks of a region of coarse low-frequency samples; a multiple of the chunk size. */
+    private static final int REGION_SIZE = 64;
+    /** Distance in blocks between coarse samples. */
+    private static final int COARSE_SPACING = 8;
+    /** Coarse samples along each side of a region, including the row shared with the next region. */
+    private static final int COARSE_SAMPLES = REGION_SIZE / COARSE_SPACING + 1;
+    /** Regions of coarse samples kept, about 0.7 KB each. */
+    private static final int COARSE_CACHE_REGIONS = 1024;
 
     private final PerlinNoise perlinNoise;
+    private final ThreadLocal<NoiseScratch> noiseScratch;
+    private final NoiseResolution resolution;
+    private final TileCache<int[]> heightfieldCache = new TileCache<>(HEIGHTFIELD_CACHE_TILES);
+    /** Biome samples followed by lake samples of a region, {@code x * COARSE_SAMPLES + z} each. */
+    private final TileCache<float[]> coarseCache = new TileCache<>(COARSE_CACHE_REGIONS);
+
+    /**
+     * Per-thread noise kernel, sample and height buffers reused across heightmaps.
+     */
+    private static class NoiseScratch {
+        private final NoiseKernel2D kernel;
+        private float[] base = new float[0];
+        private float[] detail = new float[0];
+        private float[] micro = new float[0];
+        private float[] biome = new float[0];
+        private float[] lake = new float[0];
+        /** Heights of a chunk and its halo, then the chunk's heights alone. */
+        private int[] heights = new int[0];
+        private int[] smoothed = new int[0];
+
+        private NoiseScratch(NoiseKernel2D kernel) {
+            this.kernel = kernel;
+        }
+
+        private void ensureCapacity(int samples) {
+            if (base.length >= samples) return;
+            base = new float[samples];
+            detail = new float[samples];
+            micro = new float[samples];
+            biome = new float[samples];
+            lake = new float[samples];
+            heights = new int[samples];
+            smoothed = new int[samples];
+        }
+    }
 
     public Generation() {
         this(SEED);
     }
 
     public Generation(int seed) {
+        this(seed, NoiseResolution.COARSE);
+    }
+
+    /**
+     * @param seed The world seed
+     * @param resolution How the biome and lake noise is evaluated
+     */
+    public Generation(int seed, NoiseResolution resolution) {
+        this.resolution = resolution;
         this.perlinNoise = new PerlinNoise(seed);
+        this.noiseScratch = ThreadLocal.withInitial(() -> new NoiseScratch(perlinNoise.createKernel()));
     }
 
-    public void fillChunkWithTerrain(BlockType[][][] blocks, int[][] heightMap, int chunkHeight) {
-        int chunkSize = heightMap.length;
-        boolean[][] isLake = identifyLakes(heightMap, chunkSize);
-        fillBlocks(blocks, heightMap, isLake, chunkSize, chunkHeight);
+    /**
+     * Gets the highest Y coordinate filled with water above lake beds.
+     * Columns whose height is below it are lakes.
+     *
+     * @return The water surface block Y
+     */
+    public static int getWaterSurfaceY() {
+        return (int) WATER_LEVEL;
     }
 
-    private boolean[][] identifyLakes(int[][] heightMap, int chunkSize) {
-        boolean[][] isLake = new boolean[chunkSize][chunkSize];
+    /**
+     * Generates the terrain of a chunk into its sections, using only
+     * per-thread buffers. Safe to call from several threads at once.
+     *
+     * @param chunk The chunk to fill
+     */
+    public void generateTerrain(Chunk chunk) {
+        NoiseScratch scratch = noiseScratch.get();
+        int[] heights = computeHeights(chunk.getChunkX(), chunk.getChunkZ(), Chunk.CHUNK_SIZE, scratch);
+        fillSections(chunk, heights, Chunk.CHUNK_SIZE, Chunk.CHUNK_HEIGHT);
+    }
 
+    public void fillChunkWithTerrain(Chunk chunk, int[][] heightMap) {
+        int chunkSize = heightMap.length;
+        NoiseScratch scratch = noiseScratch.get();
+        scratch.ensureCapacity(chunkSize * chunkSize);
         for (int x = 0; x < chunkSize; x++) {
-            for (int z = 0; z < chunkSize; z++) {
-                if (heightMap[x][z] < WATER_LEVEL) {
-                    isLake[x][z] = true;
-                }
-            }
+            System.arraycopy(heightMap[x], 0, scratch.heights, x * chunkSize, chunkSize);
         }
-
-        return isLake;
+        fillSections(chunk, scratch.heights, chunkSize, Chunk.CHUNK_HEIGHT);
     }
 
-    private void fillBlocks(BlockType[][][] blocks, int[][] heightMap, boolean[][] isLake, int chunkSize, int chunkHeight) {
-        for (int x = 0; x < chunkSize; x++) {
-            for (int z = 0; z < chunkSize; z++) {
-                int height = Math.min(heightMap[x][z], chunkHeight - 1);
+    /**
+     * Fills the sections of a chunk from its column heights. Columns below
+     * the water level are lakes and get water up to it.
+     *
+     * @param heights Column heights, {@code x * chunkSize + z}
+     */
+    private void fillSections(Chunk chunk, int[] heights, int chunkSize, int chunkHeight) {
+        int columns = chunkSize * chunkSize;
+        // Nothing but AIR above the highest surface or lake, so those sections stay unallocated
+        int topY = (int) WATER_LEVEL;
+        for (int i = 0; i < columns; i++) {
+            topY = Math.max(topY, Math.min(heights[i], chunkHeight - 1));
+        }
+
+        for (int index = 0; index < Chunk.SECTION_COUNT; index++) {
+            int baseY = index * ChunkSection.SIZE;
+            if (baseY > topY) {
+                chunk.clearSection(index);
+                continue;
+            }
+
+            // Start from solid dirt so only the cells above the surface need writing
+            ChunkSection section = chunk.getOrCreateSection(index);
+            section.fill(BlockType.DIRT);
 
-                for (int y = 0; y < chunkHeight; y++) {
-                    if (y > height) {
+            for (int x = 0; x < chunkSize; x++) {
+                for (int z = 0; z < chunkSize; z++) {
+                    int columnHeight = heights[x * chunkSize + z];
+                    boolean isLake = columnHeight < WATER_LEVEL;
+                    int height = Math.min(columnHeight, chunkHeight - 1);
+
+                    for (int y = Math.max(height + 1, baseY); y < baseY + ChunkSection.SIZE; y++) {
                         // Above terrain surface
-                        blocks[x][y][z] = (y <= WATER_LEVEL && isLake[x][z]) ? BlockType.WATER : BlockType.AIR;
-                    } else {
-                        // Below or at terrain surface
-                        blocks[x][y][z] = BlockType.DIRT;
+                        section.set(x, y - baseY, z, (y <= WATER_LEVEL && isLake) ? BlockType.WATER : BlockType.AIR);
                     }
                 }
             }
         }
     }
 
+    /**
+     * Generates the smoothed terrain heights of a chunk. Border columns are
+     * smoothed with the heights of the neighboring chunks, so the heightmaps
+     * of adjacent chunks join without a seam.
+     */
     public int[][] generateHeightMap(int chunkX, int chunkZ, int chunkSize) {
-        int[][] heightMap = new int[chunkSize][chunkSize];
+        int[] heights = computeHeights(chunkX, chunkZ, chunkSize, noiseScratch.get());
+        return toHeightMap(heights, chunkSize);
+    }
 
-        for (int x = 0; x < chunkSize; x++) {
-            for (int z = 0; z < chunkSize; z++) {
-                float worldX = (chunkX * chunkSize) + x;
-                float worldZ = (chunkZ * chunkSize) + z;
+    /**
+     * Generates the smoothed terrain heights of a chunk into a flat array,
+     * without allocating.
+     *
+     * @param heights Receives {@code chunkSize * chunkSize} heights, {@code x * chunkSize + z}
+     */
+    public void generateHeights(int chunkX, int chunkZ, int chunkSize, int[] heights) {
+        int[] result = computeHeights(chunkX, chunkZ, chunkSize, noiseScratch.get());
+        System.arraycopy(result, 0, heights, 0, chunkSize * chunkSize);
+    }
+
+    /**
+     * Samples unsmoothed terrain heights on a grid of columns
+     * {@code spacing} blocks apart, for level-of-detail surfaces. The biome
+     * and lake fields follow this generator's {@link NoiseResolution}, so
+     * the columns match those of chunks generated here. Bypasses the shared
+     * caches, so sampling a large area does not evict the tiles chunk
+     * generation needs; with {@link NoiseResolution#COARSE} the coarse
+     * samples around the grid are evaluated again instead. Uses only
+     * per-thread buffers.
+     *
+     * @param originX World X of the first column; a multiple of {@code spacing}
+     * @param originZ World Z of the first column; a multiple of {@code spacing}
+     * @param spacing Distance in blocks between samples
+     * @param count Number of samples along each axis
+     * @param heights Receives {@code count * count} heights, {@code x * count + z}
+     * @throws IllegalArgumentException If the origin does not lie on the grid
+     */
+    public void sampleHeights(int originX, int originZ, int spacing, int count, int[] heights) {
+        if (spacing <= 0 || originX % spacing != 0 || originZ % spacing != 0) {
+            throw new IllegalArgumentException("Origin " + originX + "," + originZ + " does not lie on a grid of spacing " + spacing);
+        }
+        NoiseScratch scratch = noiseScratch.get();
+        // Coarse samples from the one at or before the first column to the one after the last
+        int firstCoarseX = Math.floorDiv(originX, COARSE_SPACING);
+        int firstCoarseZ = Math.floorDiv(originZ, COARSE_SPACING);
+        int coarseCount = Math.floorDiv(originX + (count - 1) * spacing, COARSE_SPACING) - firstCoarseX + 2;
+        scratch.ensureCapacity(Math.max(count * count, coarseCount * coarseCount));
+
+        // Sample every spacing blocks by scaling the frequency instead of the coordinates
+        int gridX = originX / spacing;
+        int gridZ = originZ / spacing;
+        NoiseKernel2D kernel = scratch.kernel;
+        if (resolution == NoiseResolution.COARSE) {
+            // The same coarse samples as getCoarseSamples, staged in the base buffer before it is filled
+            int localX = originX - firstCoarseX * COARSE_SPACING;
+            int localZ = originZ - firstCoarseZ * COARSE_SPACING;
+            kernel.fill(firstCoarseX, firstCoarseZ, coarseCount, coarseCount, TERRAIN_SCALE * COARSE_SPACING, 0.5f, scratch.base);
+            interpolate(scratch.base, 0, coarseCount, localX, localZ, spacing, count, scratch.biome);
+            kernel.fill(firstCoarseX, firstCoarseZ, coarseCount, coarseCount, LAKE_FREQUENCY * COARSE_SPACING, 1f, scratch.base);
+            interpolate(scratch.base, 0, coarseCount, localX, localZ, spacing, count, scratch.lake);
+        } else {
+            kernel.fill(gridX, gridZ, count, count, TERRAIN_SCALE * spacing, 0.5f, scratch.biome);
+            kernel.fill(gridX, gridZ, count, count, LAKE_FREQUENCY * spacing, 1f, scratch.lake);
+        }
+        kernel.fill(gridX, gridZ, count, count, TERRAIN_SCALE * spacing, 1f, scratch.base);
+        kernel.fill(gridX, gridZ, count, count, TERRAIN_SCALE * spacing, 2f, scratch.detail);
+        kernel.fill(gridX, gridZ, count, count, TERRAIN_SCALE * spacing, 4f, scratch.micro);
 
-                float noiseValue = calculateNoiseValue(worldX, worldZ);
-                float biomeNoise = (float) perlinNoise.noise(worldX * TERRAIN_SCALE * 0.5f, worldZ * TERRAIN_SCALE * 0.5f);
-                float lakeNoise = (float) perlinNoise.noise(worldX * LAKE_FREQUENCY, worldZ * LAKE_FREQUENCY);
+        for (int i = 0; i < count * count; i++) {
+            float noiseValue = (scratch.base[i] + scratch.detail[i] * 0.5f + scratch.micro[i] * 0.25f) * NOISE_NORMALIZATION;
+            heights[i] = getHeight(scratch.biome[i], noiseValue, scratch.lake[i]);
+        }
+    }
 
-                heightMap[x][z] = getHeight(biomeNoise, noiseValue, lakeNoise);
+    /**
+     * Gathers the unsmoothed heights of a chunk plus a {@link #HALO} of
+     * columns from its neighbors, smooths them, and crops the halo again, so
+     * border columns are smoothed with real neighbor heights and adjacent
+     * chunks agree along their shared edge.
+     *
+     * @return The scratch buffer holding the heights, {@code x * chunkSize + z}
+     */
+    private int[] computeHeights(int chunkX, int chunkZ, int chunkSize, NoiseScratch scratch) {
+        int haloSize = chunkSize + 2 * HALO;
+        scratch.ensureCapacity(haloSize * haloSize);
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                int[] tile = getRawHeights(chunkX + dx, chunkZ + dz, chunkSize, scratch);
+                copyIntoHalo(tile, dx, dz, chunkSize, scratch.heights);
             }
         }
 
-        return smoothTerrain(heightMap, 1);
+        int[] smoothed = smooth(scratch.heights, scratch.smoothed, haloSize, SMOOTHING_ITERATIONS);
+        int[] result = smoothed == scratch.heights ? scratch.smoothed : scratch.heights;
+        for (int x = 0; x < chunkSize; x++) {
+            System.arraycopy(smoothed, (x + HALO) * haloSize + HALO, result, x * chunkSize, chunkSize);
+        }
+        return result;
+    }
+
+    /**
+     * Copies the part of a neighbor's (or the chunk's own) tile that falls
+     * inside the halo grid.
+     *
+     * @param dx X offset of the tile's chunk from the center chunk, -1 to 1
+     * @param dz Z offset of the tile's chunk from the center chunk, -1 to 1
+     */
+    private static void copyIntoHalo(int[] tile, int dx, int dz, int chunkSize, int[] halo) {
+        int haloSize = chunkSize + 2 * HALO;
+        // Tile columns within HALO of the center chunk, in tile coordinates
+        int fromX = dx < 0 ? chunkSize - HALO : 0;
+        int toX = dx > 0 ? HALO : chunkSize;
+        int fromZ = dz < 0 ? chunkSize - HALO : 0;
+        int toZ = dz > 0 ? HALO : chunkSize;
+
+        for (int x = fromX; x < toX; x++) {
+            int haloX = x + dx * chunkSize + HALO;
+            int haloZ = fromZ + dz * chunkSize + HALO;
+            System.arraycopy(tile, x * chunkSize + fromZ, halo, haloX * haloSize + haloZ, toZ - fromZ);
+        }
+    }
+
+    /**
+     * Gets the unsmoothed heights of one chunk, from the shared cache when
+     * another chunk already needed them.
+     *
+     * @return The heights, {@code x * chunkSize + z}; must not be modified
+     */
+    private int[] getRawHeights(int chunkX, int chunkZ, int chunkSize, NoiseScratch scratch) {
+        // The cache only holds tiles of the regular chunk size
+        boolean cacheable = chunkSize == Chunk.CHUNK_SIZE;
+        long key = ChunkPosition.pack(chunkX, chunkZ);
+        int[] tile = cacheable ? heightfieldCache.get(key) : null;
+        if (tile != null) return tile;
+
+        tile = new int[chunkSize * chunkSize];
+        sampleRawHeights(chunkX * chunkSize, chunkZ * chunkSize, chunkSize, scratch, tile);
+        if (cacheable) heightfieldCache.put(key, tile);
+        return tile;
     }
 
-    private float calculateNoiseValue(float worldX, float worldZ) {
-        float baseNoise = (float) perlinNoise.noise(worldX * TERRAIN_SCALE, worldZ * TERRAIN_SCALE);
-        float detailNoise = (float) perlinNoise.noise(worldX * TERRAIN_SCALE * 2, worldZ * TERRAIN_SCALE * 2) * 0.5f;
-        float microDetail = (float) perlinNoise.noise(worldX * TERRAIN_SCALE * 4, worldZ * TERRAIN_SCALE * 4) * 0.25f;
+    /**
+     * Samples the noise layers for a square of columns. Each layer is
+     * sampled for the whole square in one batch; with
+     * {@link NoiseResolution#COARSE} the low-frequency layers are
+     * interpolated from their region's coarse samples instead, as long as the
+     * square lies within one region.
+     */
+    private void sampleRawHeights(int originX, int originZ, int size, NoiseScratch scratch, int[] out) {
+        NoiseKernel2D kernel = scratch.kernel;
+        kernel.fill(originX, originZ, size, size, TERRAIN_SCALE, 1f, scratch.base);
+        kernel.fill(originX, originZ, size, size, TERRAIN_SCALE, 2f, scratch.detail);
+        kernel.fill(originX, originZ, size, size, TERRAIN_SCALE, 4f, scratch.micro);
+
+        int regionX = Math.floorDiv(originX, REGION_SIZE);
+        int regionZ = Math.floorDiv(originZ, REGION_SIZE);
+        boolean withinRegion = regionX == Math.floorDiv(originX + size - 1, REGION_SIZE)
+            && regionZ == Math.floorDiv(originZ + size - 1, REGION_SIZE);
+        if (resolution == NoiseResolution.COARSE && withinRegion) {
+            float[] coarse = getCoarseSamples(regionX, regionZ, scratch);
+            int localX = originX - regionX * REGION_SIZE;
+            int localZ = originZ - regionZ * REGION_SIZE;
+            interpolate(coarse, 0, COARSE_SAMPLES, localX, localZ, 1, size, scratch.biome);
+            interpolate(coarse, COARSE_SAMPLES * COARSE_SAMPLES, COARSE_SAMPLES, localX, localZ, 1, size, scratch.lake);
+        } else {
+            kernel.fill(originX, originZ, size, size, TERRAIN_SCALE, 0.5f, scratch.biome);
+            kernel.fill(originX, originZ, size, size, LAKE_FREQUENCY, 1f, scratch.lake);
+        }
+
+        for (int i = 0; i < size * size; i++) {
+            float noiseValue = (scratch.base[i] + scratch.detail[i] * 0.5f + scratch.micro[i] * 0.25f) * NOISE_NORMALIZATION;
+            out[i] = getHeight(scratch.biome[i], noiseValue, scratch.lake[i]);
+        }
+    }
+
+    /**
+     * Gets the coarse biome and lake samples of a region, from the shared
+     * cache when another chunk in the region already needed them.
+     */
+    private float[] getCoarseSamples(int regionX, int regionZ, NoiseScratch scratch) {
+        long key = ChunkPosition.pack(regionX, regionZ);
+        float[] samples = coarseCache.get(key);
+        if (samples != null) return samples;
+
+        // Sample every COARSE_SPACING blocks by scaling the frequency instead of the coordinates
+        int gridX = regionX * (REGION_SIZE / COARSE_SPACING);
+        int gridZ = regionZ * (REGION_SIZE / COARSE_SPACING);
+        int count = COARSE_SAMPLES * COARSE_SAMPLES;
+        samples = new float[2 * count];
+        NoiseKernel2D kernel = scratch.kernel;
+        kernel.fill(gridX, gridZ, COARSE_SAMPLES, COARSE_SAMPLES, TERRAIN_SCALE * COARSE_SPACING, 0.5f, scratch.biome);
+        System.arraycopy(scratch.biome, 0, samples, 0, count);
+        kernel.fill(gridX, gridZ, COARSE_SAMPLES, COARSE_SAMPLES, LAKE_FREQUENCY * COARSE_SPACING, 1f, scratch.lake);
+        System.arraycopy(scratch.lake, 0, samples, count, count);
+
+        coarseCache.put(key, samples);
+        return samples;
+    }
 
-        return (baseNoise + detailNoise + microDetail) * NOISE_NORMALIZATION;
+    /**
+     * Bilinearly interpolates one coarse field for a square grid of columns.
+     *
+     * @param coarse A square of coarse samples, {@code x * samples + z}
+     * @param offset Index of the field's first sample in {@code coarse}
+     * @param samples Coarse samples along each side of the square
+     * @param localX X of the first column relative to the first coarse sample
+     * @param localZ Z of the first column relative to the first coarse sample
+     * @param spacing Distance in blocks between columns
+     * @param size Columns along each axis
+     * @param out Receives {@code size * size} values, {@code x * size + z}
+     */
+    private static void interpolate(float[] coarse, int offset, int samples, int localX, int localZ, int spacing,
+                                    int size, float[] out) {
+        for (int x = 0; x < size; x++) {
+            int columnX = localX + x * spacing;
+            int cellX = columnX / COARSE_SPACING;
+            float tx = (float) (columnX % COARSE_SPACING) / COARSE_SPACING;
+            int row0 = offset + cellX * samples;
+            int row1 = row0 + samples;
+
+            for (int z = 0; z < size; z++) {
+                int columnZ = localZ + z * spacing;
+                int cellZ = columnZ / COARSE_SPACING;
+                float tz = (float) (columnZ % COARSE_SPACING) / COARSE_SPACING;
+                float near = coarse[row0 + cellZ] + tx * (coarse[row1 + cellZ] - coarse[row0 + cellZ]);
+                float far = coarse[row0 + cellZ + 1] + tx * (coarse[row1 + cellZ + 1] - coarse[row0 + cellZ + 1]);
+                out[x * size + z] = near + tz * (far - near);
+            }
+        }
     }
 
     private static int getHeight(float biomeNoise, float noiseValue, float lakeNoise) {
@@ -123,60 +433,68 @@ public class Generation {
 
     public int[][] smoothTerrain(int[][] heightMap, int iterations) {
         int size = heightMap.length;
-        int[][] result = copyHeightMap(heightMap, size);
-
-        for (int iter = 0; iter < iterations; iter++) {
-            result = performSmoothingIteration(result, size);
+        NoiseScratch scratch = noiseScratch.get();
+        scratch.ensureCapacity(size * size);
+        for (int x = 0; x < size; x++) {
+            System.arraycopy(heightMap[x], 0, scratch.heights, x * size, size);
         }
-
-        return result;
+        return toHeightMap(smooth(scratch.heights, scratch.smoothed, size, iterations), size);
     }
 
-    private int[][] copyHeightMap(int[][] heightMap, int size) {
-        int[][] result = new int[size][size];
+    private static int[][] toHeightMap(int[] heights, int size) {
+        int[][] heightMap = new int[size][size];
         for (int x = 0; x < size; x++) {
-            System.arraycopy(heightMap[x], 0, result[x], 0, size);
+            System.arraycopy(heights, x * size, heightMap[x], 0, size);
         }
-        return result;
+        return heightMap;
     }
 
-    private int[][] performSmoothingIteration(int[][] heightMap, int size) {
-        int[][] temp = new int[size][size];
-
-        // Preserve the edges
-        preserveEdges(heightMap, temp, size);
-
-        // Smooth the interior
-        smoothInterior(heightMap, temp, size);
-
-        return temp;
-    }
-
-    private void preserveEdges(int[][] source, int[][] target, int size) {
-        for (int i = 0; i < size; i++) {
-            target[0][i] = source[0][i];
-            target[size-1][i] = source[size-1][i];
-            target[i][0] = source[i][0];
-            target[i][size-1] = source[i][size-1];
-        }
-    }
+    /**
+     * Applies a 3x3 box filter to the interior columns, alternating between
+     * the two buffers on each iteration.
+     *
+     * @param heights The heights to smooth, {@code x * size + z}; overwritten by even iterations
+     * @param temp A buffer of the same size; overwritten by odd iterations
+     * @return Whichever of the two buffers holds the result
+     */
+    private static int[] smooth(int[] heights, int[] temp, int size, int iterations) {
+        int[] source = heights;
+        int[] target = temp;
+        for (int iter = 0; iter < iterations; iter++) {
+            // Preserve the edges
+            for (int i = 0; i < size; i++) {
+                target[i] = source[i];
+                target[(size - 1) * size + i] = source[(size - 1) * size + i];
+                target[i * size] = source[i * size];
+                target[i * size + size - 1] = source[i * size + size - 1];
+            }
 
-    private void smoothInterior(int[][] source, int[][] target, int size) {
-        for (int x = 1; x < size-1; x++) {
-            for (int z = 1; z < size-1; z++) {
-                int sum = source[x-1][z-1] + source[x-1][z] + source[x-1][z+1] +
-                          source[x][z-1]   + source[x][z]   + source[x][z+1] +
-                          source[x+1][z-1] + source[x+1][z] + source[x+1][z+1];
-                target[x][z] = sum / NEIGHBORHOOD_SIZE;
+            // Smooth the interior
+            for (int x = 1; x < size - 1; x++) {
+                for (int z = 1; z < size - 1; z++) {
+                    int i = x * size + z;
+                    int sum = source[i - size - 1] + source[i - size] + source[i - size + 1] +
+                              source[i - 1]        + source[i]        + source[i + 1] +
+                              source[i + size - 1] + source[i + size] + source[i + size + 1];
+                    target[i] = sum / NEIGHBORHOOD_SIZE;
+                }
             }
+
+            int[] swap = source;
+            source = target;
+            target = swap;
         }
+        return source;
     }
 
     /**
      * Implementation of Perlin noise algorithm for terrain generation.
      * Based on Ken Perlin's improved noise reference implementation.
+     * Generation samples through {@link NoiseKernel2D}; the per-point
+     * {@link #noise(double, double, double)} is kept as the reference the
+     * kernel is tested against. Package-private for tests.
      */
-    private static class PerlinNoise {
+    static class PerlinNoise {
         /** Permutation table for noise calculation */
         private final int[] permutation;
 
@@ -185,7 +503,7 @@ public class Generation {
          *
          * @param seed The seed value for random permutation generation
          */
-        public PerlinNoise(int seed) {
+        PerlinNoise(int seed) {
             Random random = new Random(seed);
             permutation = new int[512];
 
@@ -201,6 +519,15 @@ public class Generation {
             for (int i = 0; i < 256; i++) permutation[i + 256] = permutation[i];
         }
 
+        /**
+         * Creates a batched 2D kernel sharing this generator's permutation table.
+         *
+         * @return A new kernel for use by a single thread
+         */
+        NoiseKernel2D createKernel() {
+            return new NoiseKernel2D(permutation);
+        }
+
         /**
          * Fade function for Perlin noise to smooth interpolation.
          *
@@ -240,25 +567,16 @@ public class Generation {
         }
 
         /**
-         * Generates 2D Perlin noise at the specified coordinates.
-         *
-         * @param x X coordinate
-         * @param y Y coordinate
-         * @return Noise value in the range [-1,1]
-         */
-        public double noise(double x, double y) {
-            return noise(x, y, 0);
-        }
-
-        /**
-         * Generates 3D Perlin noise at the specified coordinates.
+         * Generates 3D Perlin noise at the specified coordinates, one point
+         * at a time. Reference for {@link NoiseKernel2D}, which must match it
+         * at z = 0.
          *
          * @param x X coordinate
          * @param y Y coordinate
          * @param z Z coordinate
          * @return Noise value in the range [-1,1]
          */
-        public double noise(double x, double y, double z) {
+        double noise(double x, double y, double z) {
             int X = (int) Math.floor(x) & 255;
             int Y = (int) Math.floor(y) & 255;
             int Z = (int) Math.floor(z) & 255;
@@ -0,0 +1,107 @@
+package io.github.some_example_name.terrain;
+
+/**
+ * Evaluates 2D Perlin noise over a whole grid of samples per call.
+ * The cell index, fractional offset and fade curve depend on only one axis,
+ * so they are computed once per column and once per row instead of once per
+ * sample; only the corner hashes, gradients and interpolation run per sample.
+ * Results are identical to {@link Generation}'s 3D noise evaluated at z = 0.
+ * Holds per-axis scratch buffers, so each thread needs its own instance.
+ */
+public class NoiseKernel2D {
+    private final int[] permutation;
+
+    private int[] cellX = new int[0];
+    private int[] cellZ = new int[0];
+    private double[] fracX = new double[0];
+    private double[] fracZ = new double[0];
+    private double[] fadeX = new double[0];
+    private double[] fadeZ = new double[0];
+
+    /**
+     * @param permutation The doubled 512-entry permutation table of the noise generator; not copied
+     */
+    NoiseKernel2D(int[] permutation) {
+        this.permutation = permutation;
+    }
+
+    /**
+     * Samples noise for every column of a grid of world positions. Sample
+     * coordinates are computed as {@code worldX * scale * multiplier} in float
+     * arithmetic, the same way the per-column generator did, so the values match bit for bit.
+     *
+     * @param originX World X of the first column
+     * @param originZ World Z of the first row
+     * @param width Number of samples along X
+     * @param depth Number of samples along Z
+     * @param scale Base frequency
+     * @param multiplier Octave multiplier applied after the base frequency
+     * @param out Receives {@code width * depth} samples, indexed {@code x * depth + z}
+     */
+    public void fill(int originX, int originZ, int width, int depth, float scale, float multiplier, float[] out) {
+        ensureCapacity(Math.max(width, depth));
+        prepareAxis(originX, width, scale, multiplier, cellX, fracX, fadeX);
+        prepareAxis(originZ, depth, scale, multiplier, cellZ, fracZ, fadeZ);
+
+        int[] p = permutation;
+        for (int x = 0; x < width; x++) {
+            int X = cellX[x];
+            double fx = fracX[x];
+            double u = fadeX[x];
+            int pX = p[X];
+            int pX1 = p[X + 1];
+            int row = x * depth;
+
+            for (int z = 0; z < depth; z++) {
+                int Y = cellZ[z];
+                double fz = fracZ[z];
+
+                int A = pX + Y;
+                int B = pX1 + Y;
+                double bottom = lerp(u, grad(p[p[A]], fx, fz), grad(p[p[B]], fx - 1, fz));
+                double top = lerp(u, grad(p[p[A + 1]], fx, fz - 1), grad(p[p[B + 1]], fx - 1, fz - 1));
+                out[row + z] = (float) lerp(fadeZ[z], bottom, top);
+            }
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (cellX.length >= size) return;
+        cellX = new int[size];
+        cellZ = new int[size];
+        fracX = new double[size];
+        fracZ = new double[size];
+        fadeX = new double[size];
+        fadeZ = new double[size];
+    }
+
+    private static void prepareAxis(int origin, int count, float scale, float multiplier,
+                                    int[] cells, double[] fractions, double[] fades) {
+        for (int i = 0; i < count; i++) {
+            float world = origin + i;
+            double coordinate = world * scale * multiplier;
+            double floor = Math.floor(coordinate);
+            cells[i] = (int) floor & 255;
+            fractions[i] = coordinate - floor;
+            fades[i] = fade(fractions[i]);
+        }
+    }
+
+    private static double fade(double t) {
+        return t * t * t * (t * (t * 6 - 15) + 10);
+    }
+
+    private static double lerp(double t, double a, double b) {
+        return a + t * (b - a);
+    }
+
+    /**
+     * Gradient function of the reference implementation with z fixed at 0.
+     */
+    private static double grad(int hash, double x, double y) {
+        int h = hash & 15;
+        double u = h < 8 ? x : y;
+        double v = h < 4 ? y : h == 12 || h == 14 ? x : 0;
+        return ((h & 1) == 0 ? u : -u) + ((h & 2) == 0 ? v : -v);
+    }
+}
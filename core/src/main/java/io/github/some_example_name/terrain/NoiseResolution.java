@@ -0,0 +1,16 @@
+package io.github.some_example_name.terrain;
+
+/**
+ * Selects how {@link Generation} evaluates its low-frequency noise layers,
+ * the biome and lake fields.
+ */
+public enum NoiseResolution {
+    /** Evaluated for every column. */
+    EXACT,
+    /**
+     * Evaluated on a coarse grid per region, cached across chunks and
+     * bilinearly interpolated per column. Heights can differ from
+     * {@link #EXACT} only where a field crosses its threshold.
+     */
+    COARSE
+}
@@ -0,0 +1,163 @@
+package io.github.some_example_name.terrain;
+
+/**
+ * Bounded cache of immutable per-area data, keyed by a packed tile position
+ * and shared by every thread generating with the same {@link Generation}.
+ * The least recently used tiles are dropped first. Tiles are never modified
+ * once cached, so callers may read them without holding a lock. Two
+ * threads missing the same tile both compute it; the results are identical.
+ * <p>
+ * Entries live in fixed slots linked into a recency list by index, and an
+ * open-addressing table maps keys to slots, so lookups neither box keys
+ * nor allocate.
+ *
+ * @param <T> The tile data, e.g. an array of samples
+ */
+class TileCache<T> {
+    private static final int NONE = -1;
+    /** Fibonacci hashing multiplier, 2^64 divided by the golden ratio. */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final int capacity;
+    private final long[] keys;
+    private final Object[] tiles;
+    /** Neighbor towards the most recently used entry, or {@link #NONE}. */
+    private final int[] newer;
+    /** Neighbor towards the least recently used entry, or {@link #NONE}. */
+    private final int[] older;
+    /** Slot plus one per table position, 0 where empty. Linear probing, at most half full. */
+    private final int[] table;
+    private final int tableShift;
+    private final int tableMask;
+    private int size;
+    private int newest = NONE;
+    private int oldest = NONE;
+
+    /**
+     * @param capacity Maximum number of tiles kept
+     * @throws IllegalArgumentException If the capacity is not positive
+     */
+    TileCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Tile cache capacity must be positive, got " + capacity);
+        }
+        this.capacity = capacity;
+        this.keys = new long[capacity];
+        this.tiles = new Object[capacity];
+        this.newer = new int[capacity];
+        this.older = new int[capacity];
+
+        int tableBits = 64 - Long.numberOfLeadingZeros(2L * capacity - 1);
+        this.table = new int[1 << tableBits];
+        this.tableShift = 64 - tableBits;
+        this.tableMask = table.length - 1;
+    }
+
+    /**
+     * Looks up a tile.
+     *
+     * @param key The packed tile position
+     * @return The cached data, or null if the tile has to be computed
+     */
+    @SuppressWarnings("unchecked")
+    synchronized T get(long key) {
+        int slot = find(key);
+        if (slot == NONE) return null;
+
+        moveToNewest(slot);
+        return (T) tiles[slot];
+    }
+
+    /**
+     * Caches a computed tile, evicting the least recently used one when full.
+     *
+     * @param key The packed tile position
+     * @param tile The data; must not be modified afterwards
+     */
+    synchronized void put(long key, T tile) {
+        int slot = find(key);
+        if (slot != NONE) {
+            tiles[slot] = tile;
+            moveToNewest(slot);
+            return;
+        }
+
+        if (size < capacity) {
+            slot = size++;
+        } else {
+            slot = oldest;
+            unlink(slot);
+            removeFromTable(keys[slot]);
+        }
+        keys[slot] = key;
+        tiles[slot] = tile;
+        insertIntoTable(key, slot);
+        linkAsNewest(slot);
+    }
+
+    private int home(long key) {
+        return (int) ((key * HASH_MULTIPLIER) >>> tableShift);
+    }
+
+    private int find(long key) {
+        for (int i = home(key); table[i] != 0; i = (i + 1) & tableMask) {
+            int slot = table[i] - 1;
+            if (keys[slot] == key) return slot;
+        }
+        return NONE;
+    }
+
+    private void insertIntoTable(long key, int slot) {
+        int i = home(key);
+        while (table[i] != 0) i = (i + 1) & tableMask;
+        table[i] = slot + 1;
+    }
+
+    /**
+     * Removes a key and moves later entries of its probe run back, so
+     * lookups never stop at the hole it leaves.
+     */
+    private void removeFromTable(long key) {
+        int hole = home(key);
+        while (keys[table[hole] - 1] != key) hole = (hole + 1) & tableMask;
+        table[hole] = 0;
+
+        for (int i = (hole + 1) & tableMask; table[i] != 0; i = (i + 1) & tableMask) {
+            int home = home(keys[table[i] - 1]);
+            // The entry may fill the hole unless its home lies cyclically in (hole, i]
+            boolean homeAfterHole = hole <= i ? home > hole && home <= i : home > hole || home <= i;
+            if (!homeAfterHole) {
+                table[hole] = table[i];
+                table[i] = 0;
+                hole = i;
+            }
+        }
+    }
+
+    private void moveToNewest(int slot) {
+        if (slot == newest) return;
+        unlink(slot);
+        linkAsNewest(slot);
+    }
+
+    private void linkAsNewest(int slot) {
+        newer[slot] = NONE;
+        older[slot] = newest;
+        if (newest != NONE) newer[newest] = slot;
+        newest = slot;
+        if (oldest == NONE) oldest = slot;
+    }
+
+    private void unlink(int slot) {
+        if (newer[slot] != NONE) {
+            older[newer[slot]] = older[slot];
+        } else {
+            newest = older[slot];
+        }
+        if (older[slot] != NONE) {
+            newer[older[slot]] = newer[slot];
+        } else {
+            oldest = newer[slot];
+        }
+    }
+}
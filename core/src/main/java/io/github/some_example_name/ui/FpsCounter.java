@@ -5,9 +5,14 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import io.github.some_example_name.debug.FrameCounter;
+import io.github.some_example_name.debug.FrameProfiler;
+import io.github.some_example_name.debug.FrameTimer;
+import io.github.some_example_name.debug.SampleRing;
 
 /**
  * Manages the Heads-Up Display (HUD) for the game.
@@ -16,6 +21,10 @@ public class FpsCounter implements Disposable {
     private static final FpsCounter INSTANCE = new FpsCounter();
     private static final float FPS_UPDATE_INTERVAL = 1.0f;
     private static final int FPS_X_POSITION = 10;
+    private static final int LINE_HEIGHT = 20;
+    private static final long BYTES_PER_MB = 1024 * 1024;
+    private static final float NANOS_PER_MS = 1_000_000f;
+    private static final FrameTimer[] TIMERS = FrameTimer.values();
     private static final Color FONT_COLOR = Color.WHITE;
 
     private final OrthographicCamera camera;
@@ -23,9 +32,23 @@ public class FpsCounter implements Disposable {
     private final SpriteBatch batch;
 
     private BitmapFont font;
+    private GLProfiler profiler;
     private int frameCounter;
     private float timeCounter;
     private int lastFps;
+    private int renderedSections;
+    private long cullNanos;
+    private long meshBytes;
+    private long meshBudgetBytes;
+    private long meshHits;
+    private long meshMisses;
+    private int loadedChunks;
+    private long chunkDataBytes;
+    private long chunkDataBudgetBytes;
+    private long chunkDataEvictions;
+    /** Frame time percentiles, refreshed with the FPS rather than every frame. */
+    private final String[] timingLines = new String[TIMERS.length];
+    private String counterLine = "";
     private boolean initialized = false;
 
     private FpsCounter() {
@@ -43,9 +66,52 @@ public class FpsCounter implements Disposable {
 
         font = new BitmapFont();
         font.setColor(FONT_COLOR);
+        profiler = new GLProfiler(Gdx.graphics);
+        profiler.enable();
         initialized = true;
     }
 
+    /**
+     * Sets the world statistics shown for the current frame.
+     *
+     * @param renderedSections Chunk sections drawn
+     * @param cullNanos CPU time spent on frustum culling
+     */
+    public void setWorldStats(int renderedSections, long cullNanos) {
+        this.renderedSections = renderedSections;
+        this.cullNanos = cullNanos;
+    }
+
+    /**
+     * Sets the mesh cache statistics shown for the current frame.
+     *
+     * @param meshBytes Bytes of chunk meshes on the GPU
+     * @param meshBudgetBytes The budget for those bytes
+     * @param meshHits Chunks that came back into range without being remeshed
+     * @param meshMisses Chunks that had to be meshed
+     */
+    public void setMeshStats(long meshBytes, long meshBudgetBytes, long meshHits, long meshMisses) {
+        this.meshBytes = meshBytes;
+        this.meshBudgetBytes = meshBudgetBytes;
+        this.meshHits = meshHits;
+        this.meshMisses = meshMisses;
+    }
+
+    /**
+     * Sets the chunk data statistics shown for the current frame.
+     *
+     * @param loadedChunks Chunks whose block data is in memory
+     * @param chunkDataBytes Estimated heap size of that block data
+     * @param chunkDataBudgetBytes The budget for those bytes
+     * @param chunkDataEvictions Chunks whose block data was dropped so far
+     */
+    public void setChunkStats(int loadedChunks, long chunkDataBytes, long chunkDataBudgetBytes, long chunkDataEvictions) {
+        this.loadedChunks = loadedChunks;
+        this.chunkDataBytes = chunkDataBytes;
+        this.chunkDataBudgetBytes = chunkDataBudgetBytes;
+        this.chunkDataEvictions = chunkDataEvictions;
+    }
+
     public void render(float delta) {
         if (!initialized) return;
 
@@ -61,16 +127,60 @@ public class FpsCounter implements Disposable {
             lastFps = frameCounter;
             frameCounter = 0;
             timeCounter = 0;
+            updateProfileLines();
+        }
+    }
+
+    private void updateProfileLines() {
+        FrameProfiler frameProfiler = FrameProfiler.getInstance();
+        for (int i = 0; i < TIMERS.length; i++) {
+            SampleRing times = frameProfiler.getTimes(TIMERS[i]);
+            timingLines[i] = String.format("%-8s p50 %6.2f  p95 %6.2f  p99 %6.2f  max %6.2f ms", TIMERS[i].getLabel(),
+                times.getPercentile(50) / NANOS_PER_MS, times.getPercentile(95) / NANOS_PER_MS,
+                times.getPercentile(99) / NANOS_PER_MS, times.getMax() / NANOS_PER_MS);
         }
+        counterLine = "Per frame p95/max  Meshed: " + formatCounts(frameProfiler, FrameCounter.CHUNKS_MESHED)
+            + "  Vertices: " + formatCounts(frameProfiler, FrameCounter.VERTICES_UPLOADED)
+            + "  Draw calls: " + formatCounts(frameProfiler, FrameCounter.DRAW_CALLS)
+            + "  Pop-in: " + formatCounts(frameProfiler, FrameCounter.POP_IN_CHUNKS);
+    }
+
+    private static String formatCounts(FrameProfiler frameProfiler, FrameCounter counter) {
+        SampleRing counts = frameProfiler.getCounts(counter);
+        return counts.getPercentile(95) + "/" + counts.getMax();
     }
 
     private void renderHudElements() {
+        // Read before drawing the HUD so the counts cover only the world
+        int drawCalls = profiler.getDrawCalls();
+        int textureBindings = profiler.getTextureBindings();
+        int shaderSwitches = profiler.getShaderSwitches();
+        FrameProfiler.getInstance().count(FrameCounter.DRAW_CALLS, drawCalls);
+
         camera.update();
         batch.setProjectionMatrix(camera.combined);
 
+        int top = Gdx.graphics.getHeight() - FPS_X_POSITION;
         batch.begin();
-        font.draw(batch, "FPS: " + lastFps, FPS_X_POSITION, Gdx.graphics.getHeight() - FPS_X_POSITION);
+        font.draw(batch, "FPS: " + lastFps, FPS_X_POSITION, top);
+        font.draw(batch, "Draw calls: " + drawCalls + "  Texture binds: " + textureBindings
+            + "  Shader switches: " + shaderSwitches, FPS_X_POSITION, top - LINE_HEIGHT);
+        font.draw(batch, "Sections: " + renderedSections + "  Cull: " + String.format("%.3f ms", cullNanos / 1_000_000f),
+            FPS_X_POSITION, top - 2 * LINE_HEIGHT);
+        font.draw(batch, "Meshes: " + meshBytes / BYTES_PER_MB + " / " + meshBudgetBytes / BYTES_PER_MB + " MB  Hits: "
+            + meshHits + "  Misses: " + meshMisses, FPS_X_POSITION, top - 3 * LINE_HEIGHT);
+        font.draw(batch, "Chunks: " + loadedChunks + "  Data: " + chunkDataBytes / BYTES_PER_MB + " / "
+            + chunkDataBudgetBytes / BYTES_PER_MB + " MB  Evicted: " + chunkDataEvictions, FPS_X_POSITION, top - 4 * LINE_HEIGHT);
+        if (FrameProfiler.getInstance().isEnabled()) {
+            int line = 5;
+            for (String timingLine : timingLines) {
+                if (timingLine != null) font.draw(batch, timingLine, FPS_X_POSITION, top - line++ * LINE_HEIGHT);
+            }
+            font.draw(batch, counterLine, FPS_X_POSITION, top - line * LINE_HEIGHT);
+        }
         batch.end();
+
+        profiler.reset();
     }
 
     public void resize(int width, int height) {
@@ -82,6 +192,7 @@ public class FpsCounter implements Disposable {
     public void dispose() {
         if (!initialized) return;
 
+        profiler.disable();
         batch.dispose();
         font.dispose();
         initialized = false;
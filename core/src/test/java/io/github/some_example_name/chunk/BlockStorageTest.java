@@ -0,0 +1,88 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.terrain.Generation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Heap footprint of palette-compressed block data against the
+ * {@code BlockType[x][y][z]} arrays it replaced. The sizes come from
+ * {@link BlockStorage#getSizeInBytes()} and a layout model of the nested
+ * arrays, so the check is deterministic; {@code BlockStorageBenchmark}
+ * measures the same comparison on the real heap.
+ */
+class BlockStorageTest {
+    /** Array header with compressed class pointers: mark word, class pointer and length. */
+    private static final int ARRAY_HEADER_BYTES = 16;
+    /** Size of a reference with compressed oops. */
+    private static final int REFERENCE_BYTES = 4;
+    private static final int CHUNK_ROW = 8;
+
+    @Test
+    void generatedChunksAreFarSmallerThanNestedArrays() {
+        Generation generation = new Generation();
+        long dataBytes = 0;
+        for (int i = 0; i < CHUNK_ROW * CHUNK_ROW; i++) {
+            Chunk chunk = new Chunk(i % CHUNK_ROW, i / CHUNK_ROW);
+            generation.generateTerrain(chunk);
+            dataBytes += chunk.getDataBytes();
+        }
+
+        long perChunk = dataBytes / (CHUNK_ROW * CHUNK_ROW);
+        long nested = nestedArrayBytes(Chunk.CHUNK_SIZE, Chunk.CHUNK_HEIGHT, Chunk.CHUNK_SIZE);
+        assertTrue(perChunk * 20 < nested, "Chunk data takes " + perChunk + " bytes, nested arrays " + nested);
+    }
+
+    @Test
+    void legacyChunkArraysMatchLayoutModel() {
+        // The BlockType[16][50][16] of the original chunks: ~66 KB, nearly all of it in the innermost arrays
+        assertEquals(67_536, nestedArrayBytes(16, 50, 16));
+    }
+
+    @Test
+    void uniformStorageKeepsNoIndexData() {
+        BlockStorage storage = new BlockStorage(ChunkSection.SIZE, ChunkSection.SIZE, ChunkSection.SIZE);
+        storage.fill(BlockType.STONE);
+
+        assertTrue(storage.isUniform());
+        assertTrue(storage.getSizeInBytes() < 128, "Uniform storage takes " + storage.getSizeInBytes() + " bytes");
+    }
+
+    @Test
+    void indexDataGrowsWithPalette() {
+        BlockStorage storage = new BlockStorage(ChunkSection.SIZE, ChunkSection.SIZE, ChunkSection.SIZE);
+        storage.set(0, 0, 0, BlockType.STONE);
+        assertEquals(1, storage.getBitsPerEntry());
+        long twoTypes = storage.getSizeInBytes();
+
+        storage.set(1, 0, 0, BlockType.DIRT);
+        storage.set(2, 0, 0, BlockType.GRASS);
+        assertEquals(2, storage.getBitsPerEntry());
+        assertEquals(twoTypes + ChunkSection.VOLUME / 8, storage.getSizeInBytes());
+
+        assertEquals(BlockType.AIR, storage.get(3, 0, 0));
+        assertEquals(BlockType.STONE, storage.get(0, 0, 0));
+        assertEquals(BlockType.DIRT, storage.get(1, 0, 0));
+        assertEquals(BlockType.GRASS, storage.get(2, 0, 0));
+    }
+
+    /**
+     * Heap taken by {@code new BlockType[width][height][depth]}: one outer
+     * array, {@code width} middle arrays and {@code width * height} inner
+     * arrays of references, each padded to 8 bytes. The enum constants are
+     * shared and not counted.
+     */
+    private static long nestedArrayBytes(int width, int height, int depth) {
+        long outer = align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * width);
+        long middle = align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * height);
+        long inner = align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * depth);
+        return outer + width * middle + (long) width * height * inner;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
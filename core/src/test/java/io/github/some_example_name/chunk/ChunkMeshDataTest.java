@@ -0,0 +1,182 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Round trip of packed vertices: what {@link ChunkMeshData#quad} writes has
+ * to come back as the same position, face and atlas tile, both through
+ * {@link ChunkMeshData#unpack} and as the unsigned shorts the GPU reads
+ * from the little-endian vertex buffer. Normals and texture coordinates are
+ * derived from those the way {@code Chunk.vert} does.
+ */
+class ChunkMeshDataTest {
+    private static final int[][] NORMALS = {
+        {1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}
+    };
+
+    @Test
+    void blockFacesAtSectionCornersRoundTrip() {
+        int max = ChunkSection.SIZE - 1;
+        int[][] corners = {{0, 0, 0}, {max, max, max}, {0, max, max}, {max, 0, 0}};
+        for (BlockType type : new BlockType[]{BlockType.STONE, BlockType.WATER}) {
+            for (int[] block : corners) {
+                for (int face = Block.RIGHT; face <= Block.BACK; face++) {
+                    int[][] quad = blockFace(face, block[0], block[1], block[2]);
+                    assertRoundTrip(type, face, quad, 1, 1);
+                }
+            }
+        }
+    }
+
+    @Test
+    void quadsSpanningWholeSectionRoundTrip() {
+        int size = ChunkSection.SIZE;
+        // One quad per face covering the full 16x16 side of the section, coordinates 0 and 16 on every axis
+        assertRoundTrip(BlockType.GRASS, Block.RIGHT, new int[][]{{size, size, 0}, {size, size, size}, {size, 0, size}, {size, 0, 0}}, size, size);
+        assertRoundTrip(BlockType.GRASS, Block.LEFT, new int[][]{{0, size, size}, {0, size, 0}, {0, 0, 0}, {0, 0, size}}, size, size);
+        assertRoundTrip(BlockType.GRASS, Block.TOP, new int[][]{{size, size, size}, {size, size, 0}, {0, size, 0}, {0, size, size}}, size, size);
+        assertRoundTrip(BlockType.GRASS, Block.BOTTOM, new int[][]{{size, 0, 0}, {size, 0, size}, {0, 0, size}, {0, 0, 0}}, size, size);
+        assertRoundTrip(BlockType.GRASS, Block.FRONT, new int[][]{{0, 0, size}, {size, 0, size}, {size, size, size}, {0, size, size}}, size, size);
+        assertRoundTrip(BlockType.GRASS, Block.BACK, new int[][]{{size, 0, 0}, {0, 0, 0}, {0, size, 0}, {size, size, 0}}, size, size);
+    }
+
+    @Test
+    void lodTileCoordinatesRoundTrip() {
+        // LOD tiles span up to the full chunk height in one mesh
+        int top = Chunk.CHUNK_HEIGHT;
+        assertRoundTrip(BlockType.SAND, Block.TOP, new int[][]{{top, top, top}, {top, top, 0}, {0, top, 0}, {0, top, top}}, top, top);
+    }
+
+    @Test
+    void topSectionMeshesWithinSectionCoordinates() {
+        Chunk chunk = new Chunk(0, 0);
+        chunk.setBlock(0, Chunk.CHUNK_HEIGHT - 1, 0, BlockType.COBBLESTONE);
+        chunk.setBlock(Chunk.CHUNK_SIZE - 1, Chunk.CHUNK_HEIGHT - 1, Chunk.CHUNK_SIZE - 1, BlockType.COBBLESTONE);
+        ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
+        chunk.buildMeshData(sectionData, null);
+
+        ChunkMeshData top = sectionData[Chunk.SECTION_COUNT - 1];
+        assertNotNull(top);
+        assertEquals(12, top.getQuadCount());
+        ChunkMeshData.Part part = top.getParts(ChunkMeshData.OPAQUE).first();
+        int[] min = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        int[] max = {Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+        for (int vertex = 0; vertex < part.getVertexCount(); vertex++) {
+            for (int axis = 0; axis < 3; axis++) {
+                int value = ChunkMeshData.unpack(part.vertices.items, vertex, axis);
+                min[axis] = Math.min(min[axis], value);
+                max[axis] = Math.max(max[axis], value);
+            }
+            assertEquals(BlockType.COBBLESTONE.getAtlasTile(), ChunkMeshData.unpack(part.vertices.items, vertex, 3) >> ChunkMeshData.FACE_BITS);
+        }
+        assertArrayEquals(new int[]{0, ChunkSection.SIZE - 1, 0}, min);
+        assertArrayEquals(new int[]{ChunkSection.SIZE, ChunkSection.SIZE, ChunkSection.SIZE}, max);
+        ChunkMeshData.freeAll(sectionData);
+    }
+
+    /**
+     * Writes one quad and checks every way it is read back.
+     *
+     * @param quad The four corners in {@link ChunkMeshData#quad} order
+     * @param width Expected texture span along the first texture axis, in blocks
+     * @param height Expected texture span along the second texture axis, in blocks
+     */
+    private static void assertRoundTrip(BlockType type, int face, int[][] quad, int width, int height) {
+        ChunkMeshData meshData = ChunkMeshData.obtain();
+        meshData.quad(type, face,
+            quad[0][0], quad[0][1], quad[0][2], quad[1][0], quad[1][1], quad[1][2],
+            quad[2][0], quad[2][1], quad[2][2], quad[3][0], quad[3][1], quad[3][2]);
+        ChunkMeshData.Part part = meshData.getParts(type.isTranslucent() ? ChunkMeshData.TRANSLUCENT : ChunkMeshData.OPAQUE).first();
+        float[] vertices = part.vertices.items;
+        int[] gpu = toUnsignedShorts(vertices, part.vertices.size);
+        String where = type + " face " + face + " at " + quad[0][0] + "," + quad[0][1] + "," + quad[0][2];
+
+        float[][] texCoords = new float[4][];
+        for (int vertex = 0; vertex < 4; vertex++) {
+            for (int axis = 0; axis < 3; axis++) {
+                assertEquals(quad[vertex][axis], ChunkMeshData.unpack(vertices, vertex, axis), where);
+                assertEquals(quad[vertex][axis], gpu[vertex * 4 + axis], where);
+            }
+            int faceAndTile = gpu[vertex * 4 + 3];
+            assertEquals(faceAndTile, ChunkMeshData.unpack(vertices, vertex, 3), where);
+            assertEquals(face, faceAndTile % 8, where);
+            assertEquals(type.getAtlasTile(), faceAndTile / 8, where);
+            texCoords[vertex] = texCoord(faceAndTile % 8, quad[vertex]);
+        }
+
+        // Counter-clockwise seen from outside: the triangle's normal points along the face normal
+        assertArrayEquals(NORMALS[face], windingNormal(quad[0], quad[1], quad[2]), where);
+        assertEquals(width, span(texCoords, 0), where);
+        assertEquals(height, span(texCoords, 1), where);
+        ChunkMeshData.free(meshData);
+    }
+
+    /**
+     * The corners {@code Chunk} passes for one block face.
+     */
+    private static int[][] blockFace(int face, int x, int y, int z) {
+        return switch (face) {
+            case Block.RIGHT -> new int[][]{{x + 1, y + 1, z}, {x + 1, y + 1, z + 1}, {x + 1, y, z + 1}, {x + 1, y, z}};
+            case Block.LEFT -> new int[][]{{x, y + 1, z + 1}, {x, y + 1, z}, {x, y, z}, {x, y, z + 1}};
+            case Block.TOP -> new int[][]{{x + 1, y + 1, z + 1}, {x + 1, y + 1, z}, {x, y + 1, z}, {x, y + 1, z + 1}};
+            case Block.BOTTOM -> new int[][]{{x + 1, y, z}, {x + 1, y, z + 1}, {x, y, z + 1}, {x, y, z}};
+            case Block.FRONT -> new int[][]{{x, y, z + 1}, {x + 1, y, z + 1}, {x + 1, y + 1, z + 1}, {x, y + 1, z + 1}};
+            default -> new int[][]{{x + 1, y, z}, {x, y, z}, {x, y + 1, z}, {x + 1, y + 1, z}};
+        };
+    }
+
+    /**
+     * Reads vertex data the way the GPU does: as a native-order buffer of
+     * unsigned shorts, four per vertex.
+     */
+    private static int[] toUnsignedShorts(float[] vertices, int count) {
+        ByteBuffer bytes = ByteBuffer.allocate(count * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) bytes.putFloat(vertices[i]);
+        bytes.flip();
+
+        int[] shorts = new int[count * 2];
+        for (int i = 0; i < shorts.length; i++) shorts[i] = bytes.getShort() & 0xFFFF;
+        return shorts;
+    }
+
+    /** Texture coordinates as computed by {@code Chunk.vert}. */
+    private static float[] texCoord(int face, int[] position) {
+        float x = position[0], y = position[1], z = position[2];
+        return switch (face) {
+            case Block.RIGHT -> new float[]{z, y};
+            case Block.LEFT -> new float[]{-z, y};
+            case Block.TOP -> new float[]{-z, x};
+            case Block.BOTTOM -> new float[]{z, x};
+            case Block.FRONT -> new float[]{x, -y};
+            default -> new float[]{-x, -y};
+        };
+    }
+
+    private static int span(float[][] texCoords, int component) {
+        float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+        for (float[] texCoord : texCoords) {
+            min = Math.min(min, texCoord[component]);
+            max = Math.max(max, texCoord[component]);
+        }
+        return Math.round(max - min);
+    }
+
+    private static int[] windingNormal(int[] a, int[] b, int[] c) {
+        int ux = b[0] - a[0], uy = b[1] - a[1], uz = b[2] - a[2];
+        int vx = c[0] - a[0], vy = c[1] - a[1], vz = c[2] - a[2];
+        return new int[]{
+            Integer.signum(uy * vz - uz * vy),
+            Integer.signum(uz * vx - ux * vz),
+            Integer.signum(ux * vy - uy * vx)
+        };
+    }
+}
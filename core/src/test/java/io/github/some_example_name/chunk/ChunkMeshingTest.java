@@ -0,0 +1,179 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.terrain.Generation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the CPU meshing stage against the mesher it replaced, which drew
+ * every face of a block whose neighbor in the chunk is AIR and treated
+ * everything outside the chunk as AIR. Both meshing modes must cover
+ * exactly the faces it drew, with the same block types. The old mesher
+ * predates translucent blocks, so the fixed chunks contain no WATER.
+ */
+class ChunkMeshingTest {
+    @Test
+    void perFaceMeshMatchesOldMesher() {
+        for (Chunk chunk : fixedChunks()) {
+            List<Long> expected = oldMesherFaces(chunk);
+            List<Long> faces = meshedFaces(chunk, MeshingMode.PER_FACE);
+            assertEquals(expected, faces, "Chunk " + chunk.getChunkX() + "," + chunk.getChunkZ());
+        }
+    }
+
+    @Test
+    void greedyMeshCoversOldMesherFaces() {
+        for (Chunk chunk : fixedChunks()) {
+            List<Long> expected = oldMesherFaces(chunk);
+            List<Long> faces = meshedFaces(chunk, MeshingMode.GREEDY);
+            assertEquals(expected, faces, "Chunk " + chunk.getChunkX() + "," + chunk.getChunkZ());
+        }
+    }
+
+    private static List<Chunk> fixedChunks() {
+        List<Chunk> chunks = new ArrayList<>();
+
+        Generation generation = new Generation();
+        for (int i = 0; i < 4; i++) {
+            Chunk chunk = new Chunk(i * 7 - 10, 3 - i * 5);
+            generation.generateTerrain(chunk);
+            replace(chunk, BlockType.WATER, BlockType.AIR);
+            chunks.add(chunk);
+        }
+
+        // Alternating block types defeat greedy merging; holes expose faces inside the chunk
+        Chunk checkerboard = new Chunk(100, 100);
+        BlockType[] types = {BlockType.STONE, BlockType.DIRT, BlockType.AIR, BlockType.SAND};
+        for (int y = 0; y < 40; y++) {
+            for (int z = 0; z < Chunk.CHUNK_SIZE; z++) {
+                for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+                    checkerboard.setBlock(x, y, z, types[(x + y * 3 + z * 2) % types.length]);
+                }
+            }
+        }
+        chunks.add(checkerboard);
+
+        // Full sections stacked on each other, with a stair of single blocks on top
+        Chunk solid = new Chunk(-100, 100);
+        for (int index = 0; index < 3; index++) solid.getOrCreateSection(index).fill(BlockType.STONE);
+        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+            for (int y = 0; y <= x; y++) solid.setBlock(x, 3 * ChunkSection.SIZE + y, 5, BlockType.COBBLESTONE);
+        }
+        chunks.add(solid);
+        return chunks;
+    }
+
+    private static void replace(Chunk chunk, BlockType from, BlockType to) {
+        for (int y = 0; y < Chunk.CHUNK_HEIGHT; y++) {
+            for (int z = 0; z < Chunk.CHUNK_SIZE; z++) {
+                for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+                    if (chunk.getBlock(x, y, z) == from) chunk.setBlock(x, y, z, to);
+                }
+            }
+        }
+    }
+
+    /**
+     * The faces the old mesher drew, in the encoding of {@link #face}.
+     */
+    private static List<Long> oldMesherFaces(Chunk chunk) {
+        List<Long> faces = new ArrayList<>();
+        for (int y = 0; y < Chunk.CHUNK_HEIGHT; y++) {
+            for (int z = 0; z < Chunk.CHUNK_SIZE; z++) {
+                for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+                    BlockType type = chunk.getBlock(x, y, z);
+                    if (type == BlockType.AIR) continue;
+
+                    if (!isBlockSolid(chunk, x + 1, y, z)) faces.add(face(type, Block.RIGHT, x, y, z));
+                    if (!isBlockSolid(chunk, x - 1, y, z)) faces.add(face(type, Block.LEFT, x, y, z));
+                    if (!isBlockSolid(chunk, x, y + 1, z)) faces.add(face(type, Block.TOP, x, y, z));
+                    if (!isBlockSolid(chunk, x, y - 1, z)) faces.add(face(type, Block.BOTTOM, x, y, z));
+                    if (!isBlockSolid(chunk, x, y, z + 1)) faces.add(face(type, Block.FRONT, x, y, z));
+                    if (!isBlockSolid(chunk, x, y, z - 1)) faces.add(face(type, Block.BACK, x, y, z));
+                }
+            }
+        }
+        Collections.sort(faces);
+        return faces;
+    }
+
+    private static boolean isBlockSolid(Chunk chunk, int x, int y, int z) {
+        if (x < 0 || x >= Chunk.CHUNK_SIZE || y < 0 || y >= Chunk.CHUNK_HEIGHT || z < 0 || z >= Chunk.CHUNK_SIZE) {
+            return false;
+        }
+        return chunk.getBlock(x, y, z) != BlockType.AIR;
+    }
+
+    /**
+     * Meshes a chunk without neighbors and splits every quad into the unit
+     * faces it covers, in the encoding of {@link #face}.
+     */
+    private static List<Long> meshedFaces(Chunk chunk, MeshingMode mode) {
+        ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
+        chunk.buildMeshData(sectionData, null, Chunk.ALL_SECTIONS, mode);
+
+        List<Long> faces = new ArrayList<>();
+        BlockType[] types = BlockType.values();
+        for (int index = 0; index < Chunk.SECTION_COUNT; index++) {
+            ChunkMeshData meshData = sectionData[index];
+            if (meshData == null) continue;
+
+            for (int layer = 0; layer < ChunkMeshData.LAYER_COUNT; layer++) {
+                for (ChunkMeshData.Part part : meshData.getParts(layer)) {
+                    for (int quad = 0; quad < part.getVertexCount() / 4; quad++) {
+                        addQuadFaces(faces, part.vertices.items, quad * 4, index * ChunkSection.SIZE, types);
+                    }
+                }
+            }
+        }
+        ChunkMeshData.freeAll(sectionData);
+        Collections.sort(faces);
+        return faces;
+    }
+
+    private static void addQuadFaces(List<Long> faces, float[] vertices, int first, int sectionY, BlockType[] types) {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (int vertex = first; vertex < first + 4; vertex++) {
+            minX = Math.min(minX, ChunkMeshData.unpack(vertices, vertex, 0));
+            minY = Math.min(minY, ChunkMeshData.unpack(vertices, vertex, 1));
+            minZ = Math.min(minZ, ChunkMeshData.unpack(vertices, vertex, 2));
+            maxX = Math.max(maxX, ChunkMeshData.unpack(vertices, vertex, 0));
+            maxY = Math.max(maxY, ChunkMeshData.unpack(vertices, vertex, 1));
+            maxZ = Math.max(maxZ, ChunkMeshData.unpack(vertices, vertex, 2));
+        }
+        int faceAndTile = ChunkMeshData.unpack(vertices, first, 3);
+        int face = faceAndTile & ((1 << ChunkMeshData.FACE_BITS) - 1);
+        BlockType type = types[(faceAndTile >> ChunkMeshData.FACE_BITS) + 1];
+
+        // A quad lies in the plane of its face; blocks on the positive side sit one below that plane
+        if (face == Block.RIGHT) minX--;
+        if (face == Block.TOP) minY--;
+        if (face == Block.FRONT) minZ--;
+        maxX = Math.max(maxX, minX + 1);
+        maxY = Math.max(maxY, minY + 1);
+        maxZ = Math.max(maxZ, minZ + 1);
+
+        for (int y = minY; y < maxY; y++) {
+            for (int z = minZ; z < maxZ; z++) {
+                for (int x = minX; x < maxX; x++) {
+                    faces.add(face(type, face, x, sectionY + y, z));
+                }
+            }
+        }
+    }
+
+    /**
+     * Encodes a block face as a sortable number.
+     */
+    private static long face(BlockType type, int face, int x, int y, int z) {
+        return ((((long) y * Chunk.CHUNK_SIZE + z) * Chunk.CHUNK_SIZE + x) * 8 + face) * 8 + type.ordinal();
+    }
+}
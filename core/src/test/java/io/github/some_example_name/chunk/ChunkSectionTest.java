@@ -0,0 +1,79 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkSectionTest {
+    @Test
+    void waterIsNotOpaque() {
+        ChunkSection section = new ChunkSection(0);
+        section.fill(BlockType.WATER);
+        assertEquals(ChunkSection.VOLUME, section.getNonAirCount());
+        assertEquals(0, section.getOpaqueCount());
+        assertFalse(section.isEmpty());
+        assertFalse(section.isFull());
+
+        section.fill(BlockType.STONE);
+        assertTrue(section.isFull());
+        section.set(3, 4, 5, BlockType.WATER);
+        assertFalse(section.isFull());
+        assertEquals(ChunkSection.VOLUME - 1, section.getOpaqueCount());
+        section.set(3, 4, 5, BlockType.AIR);
+        assertEquals(ChunkSection.VOLUME - 1, section.getNonAirCount());
+        assertEquals(ChunkSection.VOLUME - 1, section.getOpaqueCount());
+        section.set(3, 4, 5, BlockType.DIRT);
+        assertTrue(section.isFull());
+    }
+
+    @Test
+    void readFromRecountsOpaqueBlocks() {
+        ChunkSection written = new ChunkSection(0);
+        written.fill(BlockType.STONE);
+        for (int x = 0; x < ChunkSection.SIZE; x++) written.set(x, 15, 0, BlockType.WATER);
+        written.set(0, 0, 0, BlockType.AIR);
+        ByteBuffer buffer = ByteBuffer.allocate(written.getBlocks().getEncodedSize());
+        written.getBlocks().writeTo(buffer);
+        buffer.flip();
+
+        ChunkSection read = new ChunkSection(0);
+        read.readFrom(buffer);
+        assertEquals(ChunkSection.VOLUME - 1, read.getNonAirCount());
+        assertEquals(ChunkSection.VOLUME - 1 - ChunkSection.SIZE, read.getOpaqueCount());
+    }
+
+    @Test
+    void stoneUnderWaterIsMeshed() {
+        // A stone section enclosed by sections that are full, but of water on one side
+        Chunk chunk = new Chunk(0, 0);
+        Chunk[] neighbors = new Chunk[6];
+        for (int face = Block.RIGHT; face <= Block.BACK; face++) {
+            if (face != Block.TOP && face != Block.BOTTOM) neighbors[face] = new Chunk(0, 0);
+        }
+        for (int index = 0; index < 3; index++) {
+            chunk.getOrCreateSection(index).fill(BlockType.STONE);
+            for (Chunk neighbor : neighbors) {
+                if (neighbor != null) neighbor.getOrCreateSection(index).fill(BlockType.STONE);
+            }
+        }
+        assertFalse(chunk.isSectionMeshable(1, neighbors));
+
+        chunk.getOrCreateSection(2).fill(BlockType.WATER);
+        assertTrue(chunk.isSectionMeshable(1, neighbors));
+
+        ChunkMeshData meshData = ChunkMeshData.obtain();
+        try {
+            chunk.buildSectionMeshData(1, meshData, neighbors, MeshingMode.PER_FACE);
+            // Only the top faces of the stone, which show through the water above
+            assertEquals(ChunkSection.SIZE * ChunkSection.SIZE, meshData.getQuadCount());
+        } finally {
+            ChunkMeshData.free(meshData);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the CPU stage of meshing allocates nothing once the pooled
+ * mesh data and the per-thread scratch buffers have grown to their working
+ * size. {@code MeshingBenchmark} reports the same with the gc profiler.
+ */
+class MeshingAllocationTest {
+    private static final int WARMUP_BUILDS = 200;
+    private static final int MEASURED_BUILDS = 100;
+    /** Slack for allocations outside the meshing code, e.g. by the JIT compiling on this thread. */
+    private static final long MAX_BYTES_PER_CHUNK = 64;
+
+    @Test
+    void perFaceMeshingDoesNotAllocate() {
+        assertMeshingDoesNotAllocate(MeshingMode.PER_FACE);
+    }
+
+    @Test
+    void greedyMeshingDoesNotAllocate() {
+        assertMeshingDoesNotAllocate(MeshingMode.GREEDY);
+    }
+
+    private static void assertMeshingDoesNotAllocate(MeshingMode mode) {
+        Chunk chunk = generate(0, 0);
+        Chunk[] neighbors = new Chunk[6];
+        neighbors[Block.RIGHT] = generate(1, 0);
+        neighbors[Block.LEFT] = generate(-1, 0);
+        neighbors[Block.FRONT] = generate(0, 1);
+        neighbors[Block.BACK] = generate(0, -1);
+        ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
+
+        for (int i = 0; i < WARMUP_BUILDS; i++) build(chunk, neighbors, sectionData, mode);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_BUILDS; i++) build(chunk, neighbors, sectionData, mode);
+        long perChunk = (threads.getCurrentThreadAllocatedBytes() - before) / MEASURED_BUILDS;
+
+        assertTrue(perChunk <= MAX_BYTES_PER_CHUNK, mode + " meshing allocated " + perChunk + " bytes per chunk");
+    }
+
+    private static void build(Chunk chunk, Chunk[] neighbors, ChunkMeshData[] sectionData, MeshingMode mode) {
+        chunk.buildMeshData(sectionData, neighbors, Chunk.ALL_SECTIONS, mode);
+        ChunkMeshData.freeAll(sectionData);
+    }
+
+    private static Chunk generate(int x, int z) {
+        Chunk chunk = new Chunk(x, z);
+        chunk.generateTerrain();
+        return chunk;
+    }
+}
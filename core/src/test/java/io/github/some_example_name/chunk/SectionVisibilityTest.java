@@ -0,0 +1,70 @@
+package io.github.some_example_name.chunk;
+
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Section visibility after meshing: only opaque blocks block the view, so
+ * sections of WATER connect every face like AIR does.
+ */
+class SectionVisibilityTest {
+    @Test
+    void waterSectionsSeeThrough() {
+        Chunk chunk = new Chunk(0, 0);
+        Chunk[] neighbors = surroundedByStone(4);
+        for (int index = 0; index < 4; index++) chunk.getOrCreateSection(index).fill(BlockType.STONE);
+        // A lake: two sections of water on top of the stone, open to the air above
+        chunk.getOrCreateSection(4).fill(BlockType.WATER);
+        chunk.getOrCreateSection(5).fill(BlockType.WATER);
+
+        applyMetadata(chunk, neighbors);
+
+        assertEquals(SectionVisibility.NONE, chunk.getSection(1).getVisibility());
+        assertEquals(SectionVisibility.ALL, chunk.getSection(4).getVisibility());
+        assertEquals(SectionVisibility.ALL, chunk.getSection(5).getVisibility());
+    }
+
+    @Test
+    void stoneWallBlocksOnlyAcrossIt() {
+        Chunk chunk = new Chunk(0, 0);
+        ChunkSection section = chunk.getOrCreateSection(0);
+        // A wall of stone at x = 8 with water on both sides
+        for (int y = 0; y < ChunkSection.SIZE; y++) {
+            for (int z = 0; z < ChunkSection.SIZE; z++) {
+                for (int x = 0; x < ChunkSection.SIZE; x++) {
+                    section.set(x, y, z, x == 8 ? BlockType.STONE : BlockType.WATER);
+                }
+            }
+        }
+
+        applyMetadata(chunk, null);
+
+        long visibility = section.getVisibility();
+        assertFalse(SectionVisibility.isConnected(visibility, Block.LEFT, Block.RIGHT));
+        assertTrue(SectionVisibility.isConnected(visibility, Block.LEFT, Block.TOP));
+        assertTrue(SectionVisibility.isConnected(visibility, Block.RIGHT, Block.FRONT));
+        assertTrue(SectionVisibility.isConnected(visibility, Block.TOP, Block.BOTTOM));
+    }
+
+    private static Chunk[] surroundedByStone(int sections) {
+        Chunk[] neighbors = new Chunk[6];
+        for (int face = Block.RIGHT; face <= Block.BACK; face++) {
+            if (face == Block.TOP || face == Block.BOTTOM) continue;
+            neighbors[face] = new Chunk(0, 0);
+            for (int index = 0; index < sections; index++) neighbors[face].getOrCreateSection(index).fill(BlockType.STONE);
+        }
+        return neighbors;
+    }
+
+    private static void applyMetadata(Chunk chunk, Chunk[] neighbors) {
+        ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
+        chunk.buildMeshData(sectionData, neighbors);
+        chunk.uploadMeshMetadata(sectionData, Chunk.ALL_SECTIONS);
+        ChunkMeshData.freeAll(sectionData);
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.some_example_name.debug;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Smoke test of {@link FrameProfiler}: records a few frames through the
+ * shared instance and checks the history and both exports.
+ */
+class FrameProfilerTest {
+    private static final int FRAMES = 5;
+
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+
+    @BeforeEach
+    void resetProfiler() {
+        profiler.setEnabled(true);
+        profiler.clear();
+    }
+
+    @AfterEach
+    void clearProfiler() {
+        profiler.clear();
+    }
+
+    @Test
+    void recordsFrames() {
+        // The first call only sets the reference point for frame times
+        profiler.endFrame();
+        for (int frame = 1; frame <= FRAMES; frame++) {
+            long start = profiler.start();
+            profiler.stop(FrameTimer.BUILD_CHUNK_MESHES, start);
+            profiler.count(FrameCounter.DRAW_CALLS, frame);
+            profiler.count(FrameCounter.DRAW_CALLS, frame);
+            profiler.endFrame();
+        }
+
+        assertEquals(FRAMES, profiler.getFrameCount());
+        SampleRing drawCalls = profiler.getCounts(FrameCounter.DRAW_CALLS);
+        for (int i = 0; i < FRAMES; i++) assertEquals(2L * (i + 1), drawCalls.get(i), "Draw calls of frame " + i);
+        assertEquals(0, profiler.getCounts(FrameCounter.POP_IN_CHUNKS).getMax());
+        assertTrue(profiler.getTimes(FrameTimer.FRAME).getMax() > 0);
+    }
+
+    @Test
+    void disabledProfilerRecordsNothing() {
+        profiler.setEnabled(false);
+        assertEquals(0, profiler.start());
+        profiler.count(FrameCounter.DRAW_CALLS, 1);
+        profiler.endFrame();
+        profiler.endFrame();
+        assertEquals(0, profiler.getFrameCount());
+    }
+
+    @Test
+    void exportsCsvAndJson() throws IOException {
+        profiler.endFrame();
+        for (int frame = 0; frame < FRAMES; frame++) {
+            profiler.count(FrameCounter.CHUNKS_MESHED, 3);
+            profiler.endFrame();
+        }
+
+        StringWriter csv = new StringWriter();
+        profiler.writeCsv(csv);
+        String[] lines = csv.toString().split("\n");
+        assertEquals(FRAMES + 1, lines.length);
+        int columns = FrameTimer.values().length + FrameCounter.values().length;
+        assertEquals(columns, lines[0].split(",").length);
+        assertTrue(lines[0].startsWith("frame_ns,"), lines[0]);
+        for (int i = 1; i < lines.length; i++) assertEquals(columns, lines[i].split(",").length, "Row " + i);
+
+        StringWriter json = new StringWriter();
+        profiler.writeJson(json);
+        JsonValue root = new JsonReader().parse(json.toString());
+        assertEquals(FRAMES, root.getInt("frames"));
+        JsonValue meshed = root.get("counters").get("meshed");
+        assertEquals(3, meshed.getLong("p50"));
+        assertEquals(3, meshed.getLong("max"));
+        assertEquals(FRAMES, meshed.get("samples").size);
+        assertTrue(root.get("timers").has("frame"));
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.some_example_name.debug;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the nearest-rank percentiles and the age order of {@link SampleRing},
+ * before and after it wraps around.
+ */
+class SampleRingTest {
+    @Test
+    void emptyRingReportsZero() {
+        SampleRing ring = new SampleRing(4);
+        assertEquals(0, ring.size());
+        assertEquals(0, ring.getPercentile(50));
+        assertEquals(0, ring.getMax());
+    }
+
+    @Test
+    void percentilesUseNearestRank() {
+        SampleRing ring = new SampleRing(10);
+        // Added out of order, so the percentiles have to sort
+        for (long sample : new long[] {70, 10, 100, 40, 20, 90, 60, 30, 80, 50}) ring.add(sample);
+
+        assertEquals(10, ring.getPercentile(0));
+        assertEquals(10, ring.getPercentile(10));
+        assertEquals(20, ring.getPercentile(10.5));
+        assertEquals(50, ring.getPercentile(50));
+        assertEquals(100, ring.getPercentile(95));
+        assertEquals(100, ring.getPercentile(99));
+        assertEquals(100, ring.getMax());
+    }
+
+    @Test
+    void percentilesOfPartlyFilledRing() {
+        SampleRing ring = new SampleRing(100);
+        ring.add(5);
+        ring.add(3);
+        ring.add(9);
+
+        assertEquals(3, ring.size());
+        assertEquals(5, ring.getPercentile(50));
+        assertEquals(9, ring.getPercentile(99));
+        // A new sample invalidates the sorted copy
+        ring.add(1);
+        assertEquals(3, ring.getPercentile(50));
+    }
+
+    @Test
+    void wrapsAroundKeepingNewestSamples() {
+        SampleRing ring = new SampleRing(4);
+        for (long sample = 1; sample <= 10; sample++) ring.add(sample);
+
+        assertEquals(4, ring.size());
+        for (int i = 0; i < 4; i++) assertEquals(7 + i, ring.get(i), "Sample " + i + " by age");
+        assertEquals(7, ring.getPercentile(0));
+        assertEquals(8, ring.getPercentile(50));
+        assertEquals(10, ring.getMax());
+    }
+
+    @Test
+    void getOrdersByAgeBeforeWrapping() {
+        SampleRing ring = new SampleRing(4);
+        ring.add(30);
+        ring.add(10);
+        ring.add(20);
+
+        assertEquals(30, ring.get(0));
+        assertEquals(10, ring.get(1));
+        assertEquals(20, ring.get(2));
+    }
+
+    @Test
+    void clearEmptiesRing() {
+        SampleRing ring = new SampleRing(2);
+        ring.add(4);
+        ring.add(8);
+        ring.add(6);
+        ring.clear();
+
+        assertEquals(0, ring.size());
+        assertEquals(0, ring.getMax());
+        ring.add(2);
+        assertEquals(2, ring.get(0));
+        assertEquals(2, ring.getMax());
+    }
+
+    @Test
+    void rejectsEmptyCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SampleRing(0));
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.some_example_name.engine;
+
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the order in which {@link ChunkLoadQueue} hands out chunks, how
+ * {@link ChunkLoadQueue#reprioritize} drops and ranks entries, and how
+ * entries of reloaded chunks are told apart. {@code ChunkLoadQueueBenchmark}
+ * measures the cost of ranking again.
+ */
+class ChunkLoadQueueTest {
+    /** Past the initial heap capacity of 256, so the heap grows several times. */
+    private static final int MANY_CHUNKS = 1_000;
+
+    /** Streamer without a frustum, which counts every chunk as in view. */
+    private final ChunkStreamer streamer = new ChunkStreamer();
+
+    @BeforeAll
+    static void initGdx() {
+        HeadlessGdx.init();
+    }
+
+    @Test
+    void pollsLowestPriorityFirst() {
+        ChunkLoadQueue queue = new ChunkLoadQueue();
+        int[] priorities = {9, 3, 7, 0, 3, 12, 1, 5};
+        for (int i = 0; i < priorities.length; i++) queue.add(new Chunk(i, 0), priorities[i]);
+        assertEquals(priorities.length, queue.size());
+
+        int[] polled = drain(queue);
+        int[] expected = priorities.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, polled);
+        assertNull(queue.poll());
+        assertEquals(Integer.MAX_VALUE, queue.peekPriority());
+    }
+
+    @Test
+    void addingQueuedChunkAgainDoesNothing() {
+        ChunkLoadQueue queue = new ChunkLoadQueue();
+        Chunk chunk = new Chunk(2, -3);
+        queue.add(chunk, 8);
+        queue.add(chunk, 1);
+
+        assertEquals(1, queue.size());
+        assertEquals(8, queue.peekPriority());
+        assertSame(chunk, queue.poll());
+        assertFalse(queue.contains(chunk));
+    }
+
+    @Test
+    void keepsOrderPastInitialCapacity() {
+        ChunkLoadQueue queue = new ChunkLoadQueue();
+        Random random = new Random(3);
+        int[] priorities = new int[MANY_CHUNKS];
+        Chunk[] chunks = new Chunk[MANY_CHUNKS];
+        for (int i = 0; i < MANY_CHUNKS; i++) {
+            priorities[i] = random.nextInt(500);
+            chunks[i] = new Chunk(i % 40, i / 40);
+            queue.add(chunks[i], priorities[i]);
+        }
+        assertEquals(MANY_CHUNKS, queue.size());
+        for (Chunk chunk : chunks) assertTrue(queue.contains(chunk));
+
+        int[] polled = drain(queue);
+        Arrays.sort(priorities);
+        assertArrayEquals(priorities, polled);
+        for (Chunk chunk : chunks) assertFalse(queue.contains(chunk));
+    }
+
+    @Test
+    void reprioritizeRanksByNewCameraAndDropsChunksOutOfRange() {
+        ChunkLoadQueue queue = new ChunkLoadQueue();
+        int camChunkX = 5;
+        int radius = 4;
+        List<Chunk> chunks = new ArrayList<>();
+        for (int x = -8; x <= 8; x++) {
+            for (int z = -8; z <= 8; z++) chunks.add(new Chunk(x, z));
+        }
+        // Queued in shuffled order with priorities for a camera at the origin
+        Collections.shuffle(chunks, new Random(11));
+        for (Chunk chunk : chunks) {
+            queue.add(chunk, ChunkStreamer.getPriority(chunk.getChunkX(), chunk.getChunkZ(), true));
+        }
+
+        queue.reprioritize(camChunkX, 0, radius, streamer);
+
+        int expectedSize = 0;
+        for (Chunk chunk : chunks) {
+            boolean inRange = RenderArea.contains(chunk.getChunkX() - camChunkX, chunk.getChunkZ(), radius);
+            assertEquals(inRange, queue.contains(chunk), "Chunk " + chunk.getChunkX() + "," + chunk.getChunkZ());
+            if (inRange) expectedSize++;
+        }
+        assertEquals(expectedSize, queue.size());
+
+        int previous = -1;
+        while (queue.size() > 0) {
+            int priority = queue.peekPriority();
+            Chunk chunk = queue.poll();
+            int dx = chunk.getChunkX() - camChunkX;
+            int dz = chunk.getChunkZ();
+            assertTrue(RenderArea.contains(dx, dz, radius));
+            assertEquals(dx * dx + dz * dz, priority, "Chunk " + chunk.getChunkX() + "," + chunk.getChunkZ());
+            assertTrue(priority >= previous, "Priority " + priority + " came after " + previous);
+            previous = priority;
+        }
+    }
+
+    @Test
+    void staleEntryOfReloadedChunkDoesNotHideNewOne() {
+        ChunkLoadQueue queue = new ChunkLoadQueue();
+        Chunk unloaded = new Chunk(1, 1);
+        queue.add(unloaded, 0);
+
+        // The same position loaded again is a new chunk object, queued alongside the stale entry
+        Chunk reloaded = new Chunk(1, 1);
+        assertFalse(queue.contains(reloaded));
+        queue.add(reloaded, 5);
+        assertEquals(2, queue.size());
+        assertTrue(queue.contains(reloaded));
+        assertFalse(queue.contains(unloaded));
+
+        // Polling the stale entry keeps the new one queued
+        assertSame(unloaded, queue.poll());
+        assertTrue(queue.contains(reloaded));
+        assertSame(reloaded, queue.poll());
+        assertFalse(queue.contains(reloaded));
+    }
+
+    @Test
+    void droppingStaleEntryKeepsReloadedChunkQueued() {
+        ChunkLoadQueue queue = new ChunkLoadQueue();
+        Chunk unloaded = new Chunk(6, 0);
+        queue.add(unloaded, 36);
+        Chunk reloaded = new Chunk(6, 0);
+        queue.add(reloaded, 36);
+
+        // Both entries are in range, then both fall out of it
+        queue.reprioritize(0, 0, 8, streamer);
+        assertEquals(2, queue.size());
+        assertTrue(queue.contains(reloaded));
+        queue.reprioritize(-10, 0, 8, streamer);
+        assertEquals(0, queue.size());
+        assertFalse(queue.contains(reloaded));
+    }
+
+    @Test
+    void clearEmptiesQueue() {
+        ChunkLoadQueue queue = new ChunkLoadQueue();
+        Chunk chunk = new Chunk(0, 0);
+        queue.add(chunk, 0);
+        queue.clear();
+
+        assertEquals(0, queue.size());
+        assertFalse(queue.contains(chunk));
+        assertNull(queue.poll());
+    }
+
+    private static int[] drain(ChunkLoadQueue queue) {
+        int[] polled = new int[queue.size()];
+        for (int i = 0; i < polled.length; i++) {
+            polled[i] = queue.peekPriority();
+            queue.poll();
+        }
+        return polled;
+    }
+}
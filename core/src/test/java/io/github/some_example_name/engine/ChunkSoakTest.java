@@ -0,0 +1,130 @@
+package io.github.some_example_name.engine;
+
+import io.github.some_example_name.test.HeadlessGdx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Soak run of chunk streaming: flies the camera in a straight line across
+ * {@value #FLIGHT_CHUNKS} chunks, generating and meshing every chunk that
+ * comes into range and dropping block data over a small heap budget. The
+ * mesh stage runs on the CPU and applies only mesh metadata, since the
+ * headless backend has no GL context, so evicting a chunk also evicts its
+ * mesh from the cache. Once the budget is reached the heap is sampled
+ * {@value #HEAP_SAMPLES} times and must show no upward trend.
+ * {@code ChunkSoakBenchmark} times the flight.
+ */
+class ChunkSoakTest {
+    private static final int RENDER_DISTANCE = 4;
+    private static final int FLIGHT_CHUNKS = 10_000;
+    private static final long CHUNK_DATA_BUDGET_BYTES = 16L * 1024 * 1024;
+    /** Sampling starts once this share of the flight is done, well after the budget is reached. */
+    private static final int WARMUP_DIVISOR = 10;
+    private static final int HEAP_SAMPLES = 10;
+    /** Growth of the fitted line across the samples, an eighth of the budget; the samples scatter by about 3 MB. */
+    private static final long MAX_HEAP_TREND_BYTES = CHUNK_DATA_BUDGET_BYTES / 8;
+    /** Growth of any sample over the first, a quarter of the budget. */
+    private static final long MAX_HEAP_GROWTH_BYTES = CHUNK_DATA_BUDGET_BYTES / 4;
+    private static final long BYTES_PER_KB = 1024;
+
+    private VoxelEngine engine;
+
+    @BeforeAll
+    static void initGdx() {
+        HeadlessGdx.init();
+    }
+
+    @BeforeEach
+    void createEngine() {
+        engine = new VoxelEngine();
+        engine.init(RENDER_DISTANCE);
+        engine.setChunkDataBudgetBytes(CHUNK_DATA_BUDGET_BYTES);
+    }
+
+    @AfterEach
+    void disposeEngine() {
+        engine.dispose();
+    }
+
+    @Test
+    void heapStaysBoundedOverLongFlight() {
+        int warmup = FLIGHT_CHUNKS / WARMUP_DIVISOR;
+        int sampleInterval = (FLIGHT_CHUNKS - warmup) / HEAP_SAMPLES;
+        long[] heap = new long[HEAP_SAMPLES];
+        int sampled = 0;
+        long meshed = 0;
+        for (int camChunkX = 0; camChunkX < FLIGHT_CHUNKS; camChunkX++) {
+            meshed += step(camChunkX);
+            if (camChunkX == warmup) {
+                assertTrue(engine.getChunkDataEvictions() > 0, "The chunk data budget was not reached before sampling");
+                assertTrue(engine.getMeshCache().getEvictions() > 0, "No meshed chunk was evicted before sampling");
+            }
+            if (camChunkX >= warmup && (camChunkX - warmup) % sampleInterval == 0 && sampled < HEAP_SAMPLES) {
+                heap[sampled++] = usedHeap();
+            }
+        }
+
+        String samples = describe(heap);
+        assertTrue(meshed >= FLIGHT_CHUNKS, "Only " + meshed + " chunks were meshed over the flight");
+        for (int i = 1; i < HEAP_SAMPLES; i++) {
+            assertTrue(heap[i] - heap[0] <= MAX_HEAP_GROWTH_BYTES, "Heap grew by " + (heap[i] - heap[0]) / BYTES_PER_KB
+                + " KB by sample " + i + ":" + samples);
+        }
+        long trend = Math.round(slope(heap) * (HEAP_SAMPLES - 1));
+        assertTrue(trend <= MAX_HEAP_TREND_BYTES, "Heap trends up by " + trend / BYTES_PER_KB + " KB over the samples:" + samples);
+        assertTrue(engine.getChunkDataBytes() <= CHUNK_DATA_BUDGET_BYTES, "Chunk data of "
+            + engine.getChunkDataBytes() / BYTES_PER_KB + " KB is over the budget of "
+            + CHUNK_DATA_BUDGET_BYTES / BYTES_PER_KB + " KB");
+    }
+
+    /**
+     * Runs the CPU side of one frame with the camera in the given chunk:
+     * waits for every chunk in range to be generated and meshes the chunks
+     * queued for it.
+     *
+     * @return The number of chunks meshed
+     */
+    private int step(int camChunkX) {
+        engine.findVisibleChunks(camChunkX, 0);
+        while (engine.getPendingChunkCount() > 0) {
+            if (engine.drainGeneratedChunks() == 0) Thread.yield();
+        }
+        int meshed = engine.buildChunkMeshMetadata();
+        engine.unloadDistantChunks(camChunkX, 0);
+        return meshed;
+    }
+
+    /**
+     * Gets the least-squares slope of the samples against their index.
+     */
+    private static double slope(long[] samples) {
+        double meanIndex = (samples.length - 1) / 2.0;
+        double meanSample = 0;
+        for (long sample : samples) meanSample += sample;
+        meanSample /= samples.length;
+
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < samples.length; i++) {
+            covariance += (i - meanIndex) * (samples[i] - meanSample);
+            variance += (i - meanIndex) * (i - meanIndex);
+        }
+        return covariance / variance;
+    }
+
+    private static String describe(long[] samples) {
+        StringBuilder description = new StringBuilder();
+        for (long sample : samples) description.append(' ').append(sample / BYTES_PER_KB).append(" KB");
+        return description.toString();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
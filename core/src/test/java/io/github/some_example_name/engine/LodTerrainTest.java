@@ -0,0 +1,92 @@
+package io.github.some_example_name.engine;
+
+import io.github.some_example_name.chunk.LodTile;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the tiles {@link LodTerrain#selectTiles} picks: every chunk out to
+ * the outermost ring and outside the full-detail circle is covered by
+ * exactly one tile, and no tile reaches into the circle. Only the walk runs;
+ * nothing is uploaded, so no GL context is needed.
+ */
+class LodTerrainTest {
+    private static final LodSettings SETTINGS = new LodSettings(24, 40, 64);
+    private static final int RENDER_DISTANCE = 12;
+    private static final int[][] CAMERA_CHUNKS = {{0, 0}, {1, 0}, {-37, 90}, {5, -1_000}, {-129, -64}};
+
+    private LodTerrain terrain;
+
+    @BeforeAll
+    static void initGdx() {
+        HeadlessGdx.init();
+    }
+
+    @BeforeEach
+    void createTerrain() {
+        terrain = new LodTerrain(SETTINGS, RENDER_DISTANCE, 1);
+    }
+
+    @AfterEach
+    void disposeTerrain() {
+        terrain.dispose();
+    }
+
+    @Test
+    void tilesCoverRingsExactlyOnce() {
+        // In sequence, so later walks reuse and drop tiles of earlier ones
+        for (int[] camera : CAMERA_CHUNKS) {
+            terrain.selectTiles(camera[0], camera[1]);
+            assertCoverage(camera[0], camera[1], RENDER_DISTANCE);
+        }
+    }
+
+    @Test
+    void tilesFollowRenderDistanceChange() {
+        int renderDistance = 20;
+        terrain.selectTiles(3, 3);
+        terrain.setRenderDistance(renderDistance);
+        terrain.selectTiles(3, 3);
+        assertCoverage(3, 3, renderDistance);
+    }
+
+    private void assertCoverage(int camChunkX, int camChunkZ, int renderDistance) {
+        // The rings are rounded outwards to whole tiles of the coarsest level
+        int reach = terrain.getMaxDistance() + (1 << SETTINGS.getLevelCount());
+        int side = 2 * reach + 1;
+        int[] coverage = new int[side * side];
+        for (int i = 0; i < terrain.getSelectedTileCount(); i++) {
+            LodTile tile = terrain.getSelectedTile(i);
+            int span = tile.getChunkSpan();
+            for (int x = tile.getMinChunkX(); x < tile.getMinChunkX() + span; x++) {
+                for (int z = tile.getMinChunkZ(); z < tile.getMinChunkZ() + span; z++) {
+                    int dx = x - camChunkX;
+                    int dz = z - camChunkZ;
+                    assertTrue(Math.abs(dx) <= reach && Math.abs(dz) <= reach, "Tile " + tile.getLevel() + "/" + tile.getTileX()
+                        + "," + tile.getTileZ() + " reaches chunk " + x + "," + z + " beyond the outermost ring");
+                    coverage[(dx + reach) * side + dz + reach]++;
+                }
+            }
+        }
+
+        for (int dx = -reach; dx <= reach; dx++) {
+            for (int dz = -reach; dz <= reach; dz++) {
+                int count = coverage[(dx + reach) * side + dz + reach];
+                String chunk = "Chunk " + (camChunkX + dx) + "," + (camChunkZ + dz) + " with the camera in " + camChunkX + "," + camChunkZ;
+                if (RenderArea.contains(dx, dz, renderDistance)) {
+                    assertEquals(0, count, chunk + " is drawn in full detail but covered by a tile");
+                } else if (Math.max(Math.abs(dx), Math.abs(dz)) <= terrain.getMaxDistance()) {
+                    assertEquals(1, count, chunk);
+                } else {
+                    assertTrue(count <= 1, chunk + " is covered " + count + " times");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.some_example_name.engine;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.some_example_name.block.Block;
+import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkMeshData;
+import io.github.some_example_name.chunk.ChunkPosition;
+import io.github.some_example_name.chunk.ChunkSection;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks occlusion culling of {@link RenderList} against a ray-cast ground
+ * truth in the default seeded world: no section with a face the camera can
+ * see along an unobstructed line of sight may be culled, and the walk must
+ * keep a subset of what frustum culling alone keeps. The poses are the
+ * ones {@code OcclusionCullingBenchmark} times.
+ */
+class OcclusionCullingTest {
+    private static final int RENDER_DISTANCE = 8;
+    /** Block offset from the world center, height above the ground, yaw and pitch in degrees. */
+    private static final float[][] POSES = {
+        {8, 8, 2, 0, 0},
+        {8, 8, 2, 90, -5},
+        {-52, 38, 1.7f, 45, -10},
+        {18, 98, 25, 130, -20},
+        {-92, -92, 60, 45, -30},
+    };
+
+    private static final LongMap<Chunk> chunks = new LongMap<>();
+    private static final Map<ChunkSection, Chunk> owners = new IdentityHashMap<>();
+
+    @BeforeAll
+    static void generateWorld() {
+        // Camera frustum updates call into the gdx natives
+        HeadlessGdx.init();
+
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minZ = Integer.MAX_VALUE, maxZ = Integer.MIN_VALUE;
+        for (float[] pose : POSES) {
+            minX = Math.min(minX, Math.floorDiv((int) pose[0], Chunk.CHUNK_SIZE));
+            maxX = Math.max(maxX, Math.floorDiv((int) pose[0], Chunk.CHUNK_SIZE));
+            minZ = Math.min(minZ, Math.floorDiv((int) pose[1], Chunk.CHUNK_SIZE));
+            maxZ = Math.max(maxZ, Math.floorDiv((int) pose[1], Chunk.CHUNK_SIZE));
+        }
+
+        // One more ring than the render distance, so every meshed chunk has its neighbors
+        int loadDistance = RENDER_DISTANCE + 1;
+        for (int cx = minX - loadDistance; cx <= maxX + loadDistance; cx++) {
+            for (int cz = minZ - loadDistance; cz <= maxZ + loadDistance; cz++) {
+                Chunk chunk = new Chunk(cx, cz);
+                chunk.generateTerrain();
+                chunks.put(chunk.getKey(), chunk);
+            }
+        }
+
+        Chunk[] neighbors = new Chunk[6];
+        ChunkMeshData[] sectionData = new ChunkMeshData[Chunk.SECTION_COUNT];
+        for (Chunk chunk : chunks.values()) {
+            neighbors[Block.RIGHT] = chunkAt(chunk.getChunkX() + 1, chunk.getChunkZ());
+            neighbors[Block.LEFT] = chunkAt(chunk.getChunkX() - 1, chunk.getChunkZ());
+            neighbors[Block.FRONT] = chunkAt(chunk.getChunkX(), chunk.getChunkZ() + 1);
+            neighbors[Block.BACK] = chunkAt(chunk.getChunkX(), chunk.getChunkZ() - 1);
+            chunk.buildMeshData(sectionData, neighbors);
+            chunk.uploadMeshMetadata(sectionData, Chunk.ALL_SECTIONS);
+            ChunkMeshData.freeAll(sectionData);
+            for (int i = 0; i < Chunk.SECTION_COUNT; i++) {
+                if (chunk.getSection(i) != null) owners.put(chunk.getSection(i), chunk);
+            }
+        }
+    }
+
+    @Test
+    void visibleSectionsAreNeverCulled() {
+        int frustumTotal = 0;
+        int occlusionTotal = 0;
+        for (int pose = 0; pose < POSES.length; pose++) {
+            PerspectiveCamera camera = createCamera(POSES[pose]);
+            int centerX = Math.floorDiv((int) camera.position.x, Chunk.CHUNK_SIZE);
+            int centerZ = Math.floorDiv((int) camera.position.z, Chunk.CHUNK_SIZE);
+
+            Set<ChunkSection> inFrustum = build(camera, centerX, centerZ, false);
+            Set<ChunkSection> kept = build(camera, centerX, centerZ, true);
+            frustumTotal += inFrustum.size();
+            occlusionTotal += kept.size();
+
+            for (ChunkSection section : kept) {
+                assertTrue(inFrustum.contains(section), "Pose " + pose + " kept a section outside the frustum");
+            }
+            for (ChunkSection section : inFrustum) {
+                if (kept.contains(section)) continue;
+                Chunk chunk = owners.get(section);
+                assertFalse(isVisible(camera, chunk, section.getSectionY()), "Pose " + pose + " culled visible section "
+                    + chunk.getChunkX() + "," + section.getSectionY() + "," + chunk.getChunkZ());
+            }
+        }
+        assertTrue(occlusionTotal < frustumTotal, "Occlusion culling kept all " + frustumTotal + " sections");
+    }
+
+    private static Set<ChunkSection> build(PerspectiveCamera camera, int centerX, int centerZ, boolean occlusion) {
+        RenderList renderList = new RenderList();
+        renderList.setOcclusionCulling(occlusion);
+        renderList.update(camera, chunks, centerX, centerZ, RENDER_DISTANCE);
+
+        Set<ChunkSection> sections = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < renderList.getSectionCount(); i++) sections.add(renderList.getSection(i));
+        return sections;
+    }
+
+    private static PerspectiveCamera createCamera(float[] pose) {
+        int x = (int) pose[0];
+        int z = (int) pose[1];
+        Chunk column = chunkAt(Math.floorDiv(x, Chunk.CHUNK_SIZE), Math.floorDiv(z, Chunk.CHUNK_SIZE));
+        int localX = Math.floorMod(x, Chunk.CHUNK_SIZE);
+        int localZ = Math.floorMod(z, Chunk.CHUNK_SIZE);
+        int ground = Chunk.CHUNK_HEIGHT - 1;
+        while (ground > 0 && column.getBlock(localX, ground, localZ) == BlockType.AIR) ground--;
+
+        PerspectiveCamera camera = new PerspectiveCamera(70f, 1280, 720);
+        camera.near = 0.1f;
+        camera.far = 300f;
+        camera.position.set(x + 0.5f, ground + 1 + pose[2], z + 0.5f);
+        float yaw = (float) Math.toRadians(pose[3]);
+        float pitch = (float) Math.toRadians(pose[4]);
+        camera.direction.set((float) (Math.cos(pitch) * Math.sin(yaw)), (float) Math.sin(pitch),
+            (float) (Math.cos(pitch) * Math.cos(yaw)));
+        camera.up.set(0, 1, 0);
+        camera.update();
+        return camera;
+    }
+
+    /**
+     * Checks whether any face the mesher draws for a section can be seen
+     * from the camera: the face is in the view frustum, faces the camera,
+     * and the line of sight to its center crosses only AIR and translucent blocks.
+     */
+    private static boolean isVisible(PerspectiveCamera camera, Chunk chunk, int sectionY) {
+        int baseX = chunk.getChunkX() * Chunk.CHUNK_SIZE;
+        int baseY = sectionY * ChunkSection.SIZE;
+        int baseZ = chunk.getChunkZ() * Chunk.CHUNK_SIZE;
+        for (int y = baseY; y < baseY + ChunkSection.SIZE; y++) {
+            for (int z = baseZ; z < baseZ + Chunk.CHUNK_SIZE; z++) {
+                for (int x = baseX; x < baseX + Chunk.CHUNK_SIZE; x++) {
+                    BlockType type = blockAt(x, y, z);
+                    if (type == BlockType.AIR) continue;
+
+                    for (int face = Block.RIGHT; face <= Block.BACK; face++) {
+                        int dx = face == Block.RIGHT ? 1 : face == Block.LEFT ? -1 : 0;
+                        int dy = face == Block.TOP ? 1 : face == Block.BOTTOM ? -1 : 0;
+                        int dz = face == Block.FRONT ? 1 : face == Block.BACK ? -1 : 0;
+                        BlockType neighbor = blockAt(x + dx, y + dy, z + dz);
+                        boolean drawn = neighbor == BlockType.AIR || (neighbor != type && neighbor.isTranslucent());
+                        if (drawn && canSee(camera, x, y, z, dx, dy, dz)) return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean canSee(PerspectiveCamera camera, int x, int y, int z, int dx, int dy, int dz) {
+        float faceX = x + 0.5f + dx * 0.5f;
+        float faceY = y + 0.5f + dy * 0.5f;
+        float faceZ = z + 0.5f + dz * 0.5f;
+        float toEye = (camera.position.x - faceX) * dx + (camera.position.y - faceY) * dy + (camera.position.z - faceZ) * dz;
+        if (toEye <= 0 || !camera.frustum.pointInFrustum(faceX, faceY, faceZ)) return false;
+
+        // Aim just in front of the face, inside the open cell it borders
+        return isClearLine(camera.position.x, camera.position.y, camera.position.z,
+            faceX + dx * 0.01f, faceY + dy * 0.01f, faceZ + dz * 0.01f);
+    }
+
+    /**
+     * Walks the cells on a segment, see Amanatides and Woo, "A Fast Voxel
+     * Traversal Algorithm for Ray Tracing".
+     *
+     * @return True if no cell on the way, including the one the segment ends in, is opaque
+     */
+    private static boolean isClearLine(float x0, float y0, float z0, float x1, float y1, float z1) {
+        int x = (int) Math.floor(x0), y = (int) Math.floor(y0), z = (int) Math.floor(z0);
+        float dirX = x1 - x0, dirY = y1 - y0, dirZ = z1 - z0;
+        int stepX = dirX > 0 ? 1 : -1, stepY = dirY > 0 ? 1 : -1, stepZ = dirZ > 0 ? 1 : -1;
+        float deltaX = dirX != 0 ? Math.abs(1 / dirX) : Float.MAX_VALUE;
+        float deltaY = dirY != 0 ? Math.abs(1 / dirY) : Float.MAX_VALUE;
+        float deltaZ = dirZ != 0 ? Math.abs(1 / dirZ) : Float.MAX_VALUE;
+        float maxX = dirX != 0 ? (stepX > 0 ? x + 1 - x0 : x0 - x) * deltaX : Float.MAX_VALUE;
+        float maxY = dirY != 0 ? (stepY > 0 ? y + 1 - y0 : y0 - y) * deltaY : Float.MAX_VALUE;
+        float maxZ = dirZ != 0 ? (stepZ > 0 ? z + 1 - z0 : z0 - z) * deltaZ : Float.MAX_VALUE;
+
+        while (true) {
+            if (isOpaque(blockAt(x, y, z))) return false;
+            // The segment ends before the next cell boundary
+            if (Math.min(maxX, Math.min(maxY, maxZ)) > 1f) return true;
+            if (maxX < maxY && maxX < maxZ) {
+                x += stepX;
+                maxX += deltaX;
+            } else if (maxY < maxZ) {
+                y += stepY;
+                maxY += deltaY;
+            } else {
+                z += stepZ;
+                maxZ += deltaZ;
+            }
+        }
+    }
+
+    private static boolean isOpaque(BlockType type) {
+        return type != BlockType.AIR && !type.isTranslucent();
+    }
+
+    private static BlockType blockAt(int x, int y, int z) {
+        if (y < 0 || y >= Chunk.CHUNK_HEIGHT) return BlockType.AIR;
+        Chunk chunk = chunkAt(Math.floorDiv(x, Chunk.CHUNK_SIZE), Math.floorDiv(z, Chunk.CHUNK_SIZE));
+        if (chunk == null) return BlockType.AIR;
+        return chunk.getBlock(Math.floorMod(x, Chunk.CHUNK_SIZE), y, Math.floorMod(z, Chunk.CHUNK_SIZE));
+    }
+
+    private static Chunk chunkAt(int chunkX, int chunkZ) {
+        return chunks.get(ChunkPosition.pack(chunkX, chunkZ));
+    }
+}
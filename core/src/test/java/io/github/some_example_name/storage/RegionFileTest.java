@@ -0,0 +1,105 @@
+package io.github.some_example_name.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RegionFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void missingChunkReadsAsNull() throws IOException {
+        try (RegionFile region = new RegionFile(directory.resolve("empty.region"))) {
+            assertNull(region.read(0, 0));
+            assertNull(region.read(RegionFile.REGION_SIZE - 1, RegionFile.REGION_SIZE - 1));
+        }
+    }
+
+    @Test
+    void payloadsSurviveReopening() throws IOException {
+        Path path = directory.resolve("r.0.0.region");
+        byte[] first = randomBytes(1, 100);
+        byte[] corner = randomBytes(2, RegionFile.SECTOR_BYTES * 3 + 7);
+
+        try (RegionFile region = new RegionFile(path)) {
+            region.write(0, 0, ByteBuffer.wrap(first));
+            region.write(RegionFile.REGION_SIZE - 1, RegionFile.REGION_SIZE - 1, ByteBuffer.wrap(corner));
+        }
+
+        try (RegionFile region = new RegionFile(path)) {
+            assertArrayEquals(first, toArray(region.read(0, 0)));
+            assertArrayEquals(corner, toArray(region.read(RegionFile.REGION_SIZE - 1, RegionFile.REGION_SIZE - 1)));
+            assertNull(region.read(1, 0));
+        }
+    }
+
+    @Test
+    void rewriteReplacesPayloadInPlaceOrAtEnd() throws IOException {
+        Path path = directory.resolve("r.1.1.region");
+        byte[] neighbor = randomBytes(3, RegionFile.SECTOR_BYTES);
+        byte[] shorter = randomBytes(4, 10);
+        byte[] longer = randomBytes(5, RegionFile.SECTOR_BYTES * 2 + 1);
+
+        try (RegionFile region = new RegionFile(path)) {
+            region.write(4, 4, ByteBuffer.wrap(randomBytes(6, RegionFile.SECTOR_BYTES - 1)));
+            region.write(5, 4, ByteBuffer.wrap(neighbor));
+
+            // Fits the old sector
+            region.write(4, 4, ByteBuffer.wrap(shorter));
+            assertArrayEquals(shorter, toArray(region.read(4, 4)));
+
+            // Outgrows it and moves past the neighbor, which must stay intact
+            region.write(4, 4, ByteBuffer.wrap(longer));
+            assertArrayEquals(longer, toArray(region.read(4, 4)));
+            assertArrayEquals(neighbor, toArray(region.read(5, 4)));
+        }
+
+        try (RegionFile region = new RegionFile(path)) {
+            assertArrayEquals(longer, toArray(region.read(4, 4)));
+            assertArrayEquals(neighbor, toArray(region.read(5, 4)));
+        }
+    }
+
+    @Test
+    void rejectsCoordinatesOutsideRegion() throws IOException {
+        try (RegionFile region = new RegionFile(directory.resolve("bounds.region"))) {
+            assertThrows(IllegalArgumentException.class, () -> region.read(RegionFile.REGION_SIZE, 0));
+            assertThrows(IllegalArgumentException.class, () -> region.write(0, -1, ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    void closedRegionRejectsReadsAndWrites() throws IOException {
+        RegionFile region = new RegionFile(directory.resolve("closed.region"));
+        region.write(0, 0, ByteBuffer.wrap(randomBytes(7, 10)));
+        region.close();
+
+        assertFalse(region.isOpen());
+        assertThrows(ClosedChannelException.class, () -> region.read(0, 0));
+        assertThrows(ClosedChannelException.class, () -> region.read(1, 0));
+        assertThrows(ClosedChannelException.class, () -> region.write(0, 0, ByteBuffer.allocate(1)));
+    }
+
+    private static byte[] randomBytes(long seed, int length) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.some_example_name.storage;
+
+import io.github.some_example_name.block.BlockType;
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkSection;
+import io.github.some_example_name.test.HeadlessGdx;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Saves chunks, reopens the world and checks that every section loads
+ * back with the same encoded bytes.
+ */
+class WorldStorageTest {
+    /** Chunk coordinates on both sides of region borders, including negative regions. */
+    private static final int[][] POSITIONS = {
+        {0, 0}, {-1, -1}, {RegionFile.REGION_SIZE - 1, 0}, {RegionFile.REGION_SIZE, -RegionFile.REGION_SIZE - 3}, {-70, 45}
+    };
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void initGdx() {
+        // Load and save errors are logged through Gdx.app
+        HeadlessGdx.init();
+    }
+
+    @Test
+    void savedChunksLoadBitForBit() throws IOException {
+        Chunk[] saved = new Chunk[POSITIONS.length];
+        WorldStorage storage = new WorldStorage(directory);
+        for (int i = 0; i < POSITIONS.length; i++) {
+            saved[i] = createChunk(POSITIONS[i][0], POSITIONS[i][1]);
+            if (i % 2 == 0) {
+                storage.save(saved[i]);
+            } else {
+                storage.saveAsync(saved[i]);
+            }
+        }
+        storage.dispose();
+
+        WorldStorage reopened = new WorldStorage(directory);
+        try {
+            for (Chunk expected : saved) {
+                Chunk loaded = new Chunk(expected.getChunkX(), expected.getChunkZ());
+                assertTrue(reopened.load(loaded), "Chunk " + expected.getChunkX() + "," + expected.getChunkZ() + " was not found");
+                assertSameBlocks(expected, loaded);
+            }
+            assertFalse(reopened.load(new Chunk(5, 5)));
+        } finally {
+            reopened.dispose();
+        }
+    }
+
+    @Test
+    void resavedChunkReplacesOlderData() throws IOException {
+        WorldStorage storage = new WorldStorage(directory);
+        try {
+            Chunk chunk = createChunk(3, 4);
+            storage.save(chunk);
+
+            // Carve out a whole section and dirty another with a new block type
+            for (int y = 0; y < ChunkSection.SIZE; y++) {
+                for (int z = 0; z < Chunk.CHUNK_SIZE; z++) {
+                    for (int x = 0; x < Chunk.CHUNK_SIZE; x++) chunk.setBlock(x, y, z, BlockType.AIR);
+                }
+            }
+            chunk.setBlock(7, ChunkSection.SIZE + 2, 7, BlockType.COBBLESTONE);
+            storage.save(chunk);
+
+            Chunk loaded = new Chunk(3, 4);
+            assertTrue(storage.load(loaded));
+            assertSameBlocks(chunk, loaded);
+        } finally {
+            storage.dispose();
+        }
+    }
+
+    @Test
+    void asyncSavesLoadBeforeTheyAreWritten() {
+        WorldStorage storage = new WorldStorage(directory);
+        try {
+            Chunk chunk = createChunk(-2, 9);
+            // Each snapshot is loaded straight away, usually while the saver thread is still writing older ones
+            for (int version = 0; version < 50; version++) {
+                chunk.setBlock(version % Chunk.CHUNK_SIZE, 60 + version / Chunk.CHUNK_SIZE, 4,
+                    version % 2 == 0 ? BlockType.COBBLESTONE : BlockType.SAND);
+                storage.saveAsync(chunk);
+
+                Chunk loaded = new Chunk(-2, 9);
+                assertTrue(storage.load(loaded), "Version " + version + " was not found");
+                assertSameBlocks(chunk, loaded);
+            }
+        } finally {
+            storage.dispose();
+        }
+
+        WorldStorage reopened = new WorldStorage(directory);
+        try {
+            Chunk loaded = new Chunk(-2, 9);
+            assertTrue(reopened.load(loaded));
+            assertEquals(BlockType.COBBLESTONE, loaded.getBlock(0, 63, 4));
+            assertEquals(BlockType.SAND, loaded.getBlock(1, 63, 4));
+        } finally {
+            reopened.dispose();
+        }
+    }
+
+    @Test
+    void openRegionsStayBounded() throws Exception {
+        int regionCount = WorldStorage.MAX_OPEN_REGIONS + 4;
+        Chunk[] saved = new Chunk[regionCount];
+        WorldStorage storage = new WorldStorage(directory);
+        try {
+            for (int i = 0; i < regionCount; i++) {
+                saved[i] = createChunk(i * RegionFile.REGION_SIZE, -i * RegionFile.REGION_SIZE);
+                storage.save(saved[i]);
+                assertTrue(storage.getOpenRegionCount() <= WorldStorage.MAX_OPEN_REGIONS);
+            }
+
+            // Loads from several threads keep evicting regions the others are reading from
+            Thread[] loaders = new Thread[4];
+            AtomicInteger failures = new AtomicInteger();
+            for (int t = 0; t < loaders.length; t++) {
+                int offset = t;
+                loaders[t] = new Thread(() -> {
+                    for (int round = 0; round < 20; round++) {
+                        for (int i = 0; i < regionCount; i++) {
+                            Chunk expected = saved[(i + offset * 5) % regionCount];
+                            Chunk loaded = new Chunk(expected.getChunkX(), expected.getChunkZ());
+                            if (!storage.load(loaded) || loaded.getDataBytes() != expected.getDataBytes()) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+                loaders[t].setUncaughtExceptionHandler((thread, e) -> failures.incrementAndGet());
+                loaders[t].start();
+            }
+            for (Thread loader : loaders) loader.join();
+            assertEquals(0, failures.get());
+            assertTrue(storage.getOpenRegionCount() <= WorldStorage.MAX_OPEN_REGIONS);
+
+            for (Chunk expected : saved) {
+                Chunk loaded = new Chunk(expected.getChunkX(), expected.getChunkZ());
+                assertTrue(storage.load(loaded));
+                assertSameBlocks(expected, loaded);
+            }
+        } finally {
+            storage.dispose();
+        }
+    }
+
+    /**
+     * Generated terrain with a few edits, so sections differ in palette size
+     * and some are uniform.
+     */
+    private static Chunk createChunk(int chunkX, int chunkZ) {
+        Chunk chunk = new Chunk(chunkX, chunkZ);
+        chunk.generateTerrain();
+        chunk.setBlock(0, 0, 0, BlockType.AIR);
+        chunk.setBlock(15, 100, 15, BlockType.SAND);
+        chunk.setBlock(Math.floorMod(chunkX, Chunk.CHUNK_SIZE), Chunk.CHUNK_HEIGHT - 1, 3, BlockType.WATER);
+        return chunk;
+    }
+
+    private static void assertSameBlocks(Chunk expected, Chunk actual) {
+        for (int i = 0; i < Chunk.SECTION_COUNT; i++) {
+            ChunkSection expectedSection = expected.getSection(i);
+            ChunkSection actualSection = actual.getSection(i);
+            if (expectedSection == null || expectedSection.isEmpty()) {
+                assertTrue(actualSection == null || actualSection.isEmpty(), "Section " + i + " should be empty");
+                continue;
+            }
+            assertEquals(expectedSection.getNonAirCount(), actualSection.getNonAirCount(), "Section " + i);
+            assertArrayEquals(encode(expectedSection), encode(actualSection), "Section " + i);
+        }
+    }
+
+    private static byte[] encode(ChunkSection section) {
+        ByteBuffer buffer = ByteBuffer.allocate(section.getBlocks().getEncodedSize());
+        section.getBlocks().writeTo(buffer);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.some_example_name.terrain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link NoiseKernel2D#fill} matches the per-point reference
+ * {@code PerlinNoise.noise(x, z, 0)} exactly, around the origin, at
+ * negative positions where cell indices wrap and far away where float
+ * coordinates lose precision.
+ */
+class NoiseKernel2DTest {
+    private static final int SEED = 42;
+    private static final int WIDTH = 37;
+    private static final int DEPTH = 23;
+    private static final int[][] ORIGINS = {
+        {0, 0}, {-WIDTH / 2, -DEPTH / 2}, {-5_000, 1_234}, {3_000_000, -7_500_000}, {-40_000_000, 40_000_000}
+    };
+    /** Base frequencies and octave multipliers as the generator combines them, plus a coarse grid spacing. */
+    private static final float[] SCALES = {0.01f, 0.0025f, 0.08f};
+    private static final float[] MULTIPLIERS = {0.5f, 1f, 2f, 4f};
+    /** No tolerance, but 0.0 and -0.0 at lattice points count as equal: the kernel drops the z gradient terms. */
+    private static final float EXACT = 0f;
+
+    @Test
+    void fillMatchesReferenceNoise() {
+        Generation.PerlinNoise noise = new Generation.PerlinNoise(SEED);
+        NoiseKernel2D kernel = noise.createKernel();
+        float[] out = new float[WIDTH * DEPTH];
+
+        for (int[] origin : ORIGINS) {
+            for (float scale : SCALES) {
+                for (float multiplier : MULTIPLIERS) {
+                    kernel.fill(origin[0], origin[1], WIDTH, DEPTH, scale, multiplier, out);
+                    for (int x = 0; x < WIDTH; x++) {
+                        for (int z = 0; z < DEPTH; z++) {
+                            // Same float arithmetic as the kernel, widened to double afterwards
+                            float worldX = origin[0] + x;
+                            float worldZ = origin[1] + z;
+                            float expected = (float) noise.noise(worldX * scale * multiplier, worldZ * scale * multiplier, 0);
+                            assertEquals(expected, out[x * DEPTH + z], EXACT, "Sample " + (origin[0] + x) + "," + (origin[1] + z)
+                                + " at scale " + scale + " times " + multiplier);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void smallerGridReusesScratch() {
+        Generation.PerlinNoise noise = new Generation.PerlinNoise(SEED);
+        NoiseKernel2D kernel = noise.createKernel();
+        float[] large = new float[WIDTH * DEPTH];
+        float[] small = new float[4 * 3];
+        kernel.fill(-100, 100, WIDTH, DEPTH, SCALES[0], 1f, large);
+        kernel.fill(-100, 100, 4, 3, SCALES[0], 1f, small);
+
+        for (int x = 0; x < 4; x++) {
+            for (int z = 0; z < 3; z++) {
+                assertEquals(large[x * DEPTH + z], small[x * 3 + z], "Sample " + x + "," + z);
+            }
+        }
+    }
+}
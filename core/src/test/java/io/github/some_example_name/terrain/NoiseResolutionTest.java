@@ -0,0 +1,54 @@
+package io.github.some_example_name.terrain;
+
+import io.github.some_example_name.chunk.Chunk;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bounds how far {@link NoiseResolution#COARSE} heights stray from
+ * {@link NoiseResolution#EXACT} ones over {@value #AREA} by {@value #AREA}
+ * chunks. Differences only come from columns where an interpolated field
+ * crosses its threshold a block earlier or later, so they must stay small
+ * and rare. {@code NoiseResolutionBenchmark} measures the speed of both.
+ */
+class NoiseResolutionTest {
+    private static final int COLUMNS = Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE;
+    private static final int AREA = 128;
+    private static final int SEED = 42;
+    /** The largest difference in the two areas checked is 7 blocks. */
+    private static final int MAX_HEIGHT_ERROR = 8;
+    /** About 0.2% of columns differ. */
+    private static final double MAX_DIFFERING_SHARE = 0.005;
+
+    @Test
+    void coarseHeightsStayCloseToExact() {
+        assertCloseToExact(0, 0);
+        assertCloseToExact(-AREA, 3 * AREA);
+    }
+
+    private static void assertCloseToExact(int originX, int originZ) {
+        Generation exact = new Generation(SEED, NoiseResolution.EXACT);
+        Generation coarse = new Generation(SEED, NoiseResolution.COARSE);
+        int[] exactHeights = new int[COLUMNS];
+        int[] coarseHeights = new int[COLUMNS];
+        int maxError = 0;
+        long differing = 0;
+        for (int chunkX = originX; chunkX < originX + AREA; chunkX++) {
+            for (int chunkZ = originZ; chunkZ < originZ + AREA; chunkZ++) {
+                exact.generateHeights(chunkX, chunkZ, Chunk.CHUNK_SIZE, exactHeights);
+                coarse.generateHeights(chunkX, chunkZ, Chunk.CHUNK_SIZE, coarseHeights);
+                for (int i = 0; i < COLUMNS; i++) {
+                    int error = Math.abs(coarseHeights[i] - exactHeights[i]);
+                    maxError = Math.max(maxError, error);
+                    if (error > 0) differing++;
+                }
+            }
+        }
+
+        double share = (double) differing / ((long) AREA * AREA * COLUMNS);
+        String area = "Area at chunk " + originX + "," + originZ;
+        assertTrue(maxError <= MAX_HEIGHT_ERROR, area + ": heights differ by up to " + maxError + " blocks");
+        assertTrue(share <= MAX_DIFFERING_SHARE, area + ": " + String.format("%.3f%%", 100 * share) + " of columns differ");
+    }
+}
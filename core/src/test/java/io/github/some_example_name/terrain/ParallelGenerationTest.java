@@ -0,0 +1,82 @@
+package io.github.some_example_name.terrain;
+
+import io.github.some_example_name.chunk.Chunk;
+import io.github.some_example_name.chunk.ChunkSection;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Generates a world serially and then on fork-join pools of several sizes,
+ * as {@code ChunkGenerator} runs it, and checks that every chunk encodes to
+ * the same bytes. Each run starts from a fresh {@link Generation}, so the
+ * parallel runs also fill the shared height caches concurrently.
+ * {@code ParallelGenerationBenchmark} measures the throughput.
+ */
+class ParallelGenerationTest {
+    private static final int WORLD_SIZE = 16;
+    private static final int WORLD_CHUNKS = WORLD_SIZE * WORLD_SIZE;
+    private static final int[] THREAD_COUNTS = {2, 4, 8};
+    private static final byte SECTION_EMPTY = 0;
+    private static final byte SECTION_PRESENT = 1;
+
+    @Test
+    void parallelGenerationMatchesSerial() {
+        Chunk[] serial = createWorld();
+        Generation serialGeneration = new Generation();
+        for (Chunk chunk : serial) serialGeneration.generateTerrain(chunk);
+
+        for (int threads : THREAD_COUNTS) {
+            Chunk[] parallel = createWorld();
+            Generation generation = new Generation();
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                pool.submit(() -> IntStream.range(0, WORLD_CHUNKS).parallel()
+                    .forEach(i -> generation.generateTerrain(parallel[i]))).join();
+            } finally {
+                pool.shutdown();
+            }
+
+            for (int i = 0; i < WORLD_CHUNKS; i++) {
+                assertArrayEquals(encode(serial[i]), encode(parallel[i]), "Chunk " + parallel[i].getChunkX() + ","
+                    + parallel[i].getChunkZ() + " differs between serial and parallel generation on " + threads + " threads");
+            }
+        }
+    }
+
+    private static Chunk[] createWorld() {
+        Chunk[] world = new Chunk[WORLD_CHUNKS];
+        for (int i = 0; i < WORLD_CHUNKS; i++) {
+            world[i] = new Chunk(i % WORLD_SIZE - WORLD_SIZE / 2, i / WORLD_SIZE - WORLD_SIZE / 2);
+        }
+        return world;
+    }
+
+    /**
+     * Encodes the block data of a chunk the way world saves store it: a
+     * presence byte per section, each present section followed by its blocks.
+     */
+    private static byte[] encode(Chunk chunk) {
+        int size = Chunk.SECTION_COUNT;
+        for (int i = 0; i < Chunk.SECTION_COUNT; i++) {
+            ChunkSection section = chunk.getSection(i);
+            if (section != null) size += section.getBlocks().getEncodedSize();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (int i = 0; i < Chunk.SECTION_COUNT; i++) {
+            ChunkSection section = chunk.getSection(i);
+            if (section == null) {
+                buffer.put(SECTION_EMPTY);
+            } else {
+                buffer.put(SECTION_PRESENT);
+                section.getBlocks().writeTo(buffer);
+            }
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.some_example_name.terrain;
+
+import io.github.some_example_name.chunk.Chunk;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that the level-of-detail heights of {@link Generation#sampleHeights}
+ * come from the same fields as chunk generation at either
+ * {@link NoiseResolution}: sampled every block around a chunk and smoothed
+ * the way chunks are, they give the chunk's heights exactly, and sampled at
+ * the coarser spacings of distant tiles they pick the same columns.
+ */
+class SampleHeightsTest {
+    private static final int SEED = 42;
+    private static final int AREA = 8;
+    /** Columns of a chunk plus the one-column halo its smoothing reads. */
+    private static final int HALO_SIZE = Chunk.CHUNK_SIZE + 2;
+    /** Corner samples along a tile, as {@code LodMesher} takes them. */
+    private static final int TILE_SAMPLES = Chunk.CHUNK_SIZE + 1;
+    private static final int[] TILE_SPACINGS = {2, 4, 8};
+
+    @Test
+    void coarseSamplesMatchChunkHeights() {
+        assertMatchesChunks(new Generation(SEED, NoiseResolution.COARSE), 0, 0);
+        assertMatchesChunks(new Generation(SEED, NoiseResolution.COARSE), -AREA, 5 * AREA);
+    }
+
+    @Test
+    void exactSamplesMatchChunkHeights() {
+        assertMatchesChunks(new Generation(SEED, NoiseResolution.EXACT), -AREA, 5 * AREA);
+    }
+
+    @Test
+    void widerSpacingsPickSameColumns() {
+        for (NoiseResolution resolution : NoiseResolution.values()) {
+            Generation generation = new Generation(SEED, resolution);
+            int[] sparse = new int[TILE_SAMPLES * TILE_SAMPLES];
+            for (int spacing : TILE_SPACINGS) {
+                int span = (TILE_SAMPLES - 1) * spacing + 1;
+                int[] dense = new int[span * span];
+                for (int tile = -AREA; tile < AREA; tile++) {
+                    int originX = tile * Chunk.CHUNK_SIZE * spacing;
+                    int originZ = -3 * originX;
+                    generation.sampleHeights(originX, originZ, spacing, TILE_SAMPLES, sparse);
+                    generation.sampleHeights(originX, originZ, 1, span, dense);
+                    for (int x = 0; x < TILE_SAMPLES; x++) {
+                        for (int z = 0; z < TILE_SAMPLES; z++) {
+                            assertEquals(dense[x * spacing * span + z * spacing], sparse[x * TILE_SAMPLES + z], resolution
+                                + " column " + (originX + x * spacing) + "," + (originZ + z * spacing) + " at spacing " + spacing);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsOriginOffGrid() {
+        Generation generation = new Generation(SEED);
+        int[] heights = new int[4];
+        assertThrows(IllegalArgumentException.class, () -> generation.sampleHeights(4, 0, 8, 2, heights));
+    }
+
+    private static void assertMatchesChunks(Generation generation, int originX, int originZ) {
+        int[] samples = new int[HALO_SIZE * HALO_SIZE];
+        int[][] sampleMap = new int[HALO_SIZE][HALO_SIZE];
+        int[] expected = new int[Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE];
+        int[] actual = new int[Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE];
+        for (int chunkX = originX; chunkX < originX + AREA; chunkX++) {
+            for (int chunkZ = originZ; chunkZ < originZ + AREA; chunkZ++) {
+                generation.generateHeights(chunkX, chunkZ, Chunk.CHUNK_SIZE, expected);
+
+                generation.sampleHeights(chunkX * Chunk.CHUNK_SIZE - 1, chunkZ * Chunk.CHUNK_SIZE - 1, 1, HALO_SIZE, samples);
+                for (int x = 0; x < HALO_SIZE; x++) System.arraycopy(samples, x * HALO_SIZE, sampleMap[x], 0, HALO_SIZE);
+                int[][] smoothed = generation.smoothTerrain(sampleMap, 1);
+                for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+                    System.arraycopy(smoothed[x + 1], 1, actual, x * Chunk.CHUNK_SIZE, Chunk.CHUNK_SIZE);
+                }
+
+                assertArrayEquals(expected, actual, "Chunk " + chunkX + "," + chunkZ);
+            }
+        }
+    }
+}
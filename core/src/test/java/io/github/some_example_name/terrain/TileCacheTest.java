@@ -0,0 +1,86 @@
+package io.github.some_example_name.terrain;
+
+import io.github.some_example_name.chunk.ChunkPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the least recently used order of {@link TileCache}, directly and
+ * against an access-ordered {@link LinkedHashMap} over random traffic.
+ */
+class TileCacheTest {
+    @Test
+    void evictsLeastRecentlyUsedTile() {
+        TileCache<String> cache = new TileCache<>(3);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        assertEquals("a", cache.get(1));
+
+        cache.put(4, "d");
+        assertNull(cache.get(2));
+        assertEquals("a", cache.get(1));
+        assertEquals("c", cache.get(3));
+        assertEquals("d", cache.get(4));
+    }
+
+    @Test
+    void replacingTileRefreshesIt() {
+        TileCache<String> cache = new TileCache<>(2);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(1, "a2");
+
+        cache.put(3, "c");
+        assertEquals("a2", cache.get(1));
+        assertNull(cache.get(2));
+    }
+
+    @Test
+    void matchesLinkedHashMapOverRandomTraffic() {
+        int capacity = 64;
+        TileCache<Long> cache = new TileCache<>(capacity);
+        Map<Long, Long> reference = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > capacity;
+            }
+        };
+
+        // Packed positions around the origin, including negative ones, from a range a few times the capacity
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            long key = ChunkPosition.pack(random.nextInt(24) - 12, random.nextInt(24) - 12);
+            Long expected = reference.get(key);
+            Long cached = cache.get(key);
+            assertEquals(expected, cached, "Key " + key + " at step " + i);
+            if (expected == null) {
+                Long tile = (long) i;
+                reference.put(key, tile);
+                cache.put(key, tile);
+            }
+        }
+    }
+
+    @Test
+    void keepsTilesByIdentity() {
+        TileCache<int[]> cache = new TileCache<>(1);
+        int[] tile = new int[4];
+        cache.put(Long.MIN_VALUE, tile);
+        assertSame(tile, cache.get(Long.MIN_VALUE));
+        assertNull(cache.get(0));
+    }
+
+    @Test
+    void rejectsEmptyCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TileCache<>(0));
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.some_example_name.test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Starts a headless libGDX application once per JVM so code that logs
+ * through {@code Gdx.app} or resolves {@code Gdx.files} works without a
+ * window. Shared by the core tests and the benchmarks as a test fixture.
+ */
+public final class HeadlessGdx {
+    private HeadlessGdx() {
+    }
+
+    public static synchronized void init() {
+        if (Gdx.app != null) return;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // Tests and benchmarks drive the code directly; the application loop only needs to exist
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, config);
+    }
+}